@@ -0,0 +1,72 @@
+package com.platform.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.shared.events.OrderCreatedEvent;
+import com.platform.shared.events.OrderPaidEvent;
+import com.platform.shared.events.OrderShippedEvent;
+import com.platform.shared.serialization.EventMessageConverter;
+import com.platform.shared.serialization.SerializationFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer-to-consumer round trip of each event through the converter the services configure.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventConverterBenchmark {
+
+    @Param({"created", "paid", "shipped"})
+    public String event;
+
+    @Param({"json", "binary"})
+    public String format;
+
+    private MessageConverter converter;
+    private Object payload;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        converter = new EventMessageConverter(new Jackson2JsonMessageConverter(objectMapper),
+                SerializationFormat.valueOf(format.toUpperCase()));
+        String orderId = UUID.randomUUID().toString();
+        payload = switch (event) {
+            case "created" -> new OrderCreatedEvent(orderId, UUID.randomUUID().toString(), List.of(
+                    new OrderCreatedEvent.OrderItem(UUID.randomUUID().toString(), "Wireless Mouse", 2, new BigDecimal("24.99")),
+                    new OrderCreatedEvent.OrderItem(UUID.randomUUID().toString(), "USB-C Hub", 1, new BigDecimal("49.90"))),
+                    new BigDecimal("99.88"), LocalDateTime.now());
+            case "paid" -> new OrderPaidEvent(orderId, UUID.randomUUID().toString(), "CREDIT_CARD", LocalDateTime.now());
+            case "shipped" -> new OrderShippedEvent(orderId, "1Z999AA10123456784", "UPS", LocalDateTime.now());
+            default -> throw new IllegalArgumentException("Unknown event " + event);
+        };
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return converter.fromMessage(converter.toMessage(payload, new MessageProperties()));
+    }
+}
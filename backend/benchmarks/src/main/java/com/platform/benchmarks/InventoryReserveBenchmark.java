@@ -0,0 +1,67 @@
+package com.platform.benchmarks;
+
+import com.platform.inventory.entity.Inventory;
+import com.platform.inventory.ledger.StockLedger;
+import com.platform.inventory.repository.InventoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reserve + release of one hot SKU from many threads. {@code rowLock} serializes on the
+ * {@link Inventory} entity the way the table path serializes on its row; {@code stockLedger} goes
+ * through the striped in-memory ledger. Change the thread count with {@code -t}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class InventoryReserveBenchmark {
+
+    private static final String PRODUCT_ID = "hot-product";
+
+    private Inventory inventory;
+    private StockLedger stockLedger;
+
+    @Setup
+    public void setUp() {
+        inventory = new Inventory(null, PRODUCT_ID, 1_000_000, 0);
+
+        InventoryRepository repository = Stubs.of(InventoryRepository.class, (method, args) ->
+                "findByProductId".equals(method.getName()) ? Optional.of(inventory) : null);
+        stockLedger = new StockLedger(repository, Stubs.of(PlatformTransactionManager.class, (method, args) -> null));
+        stockLedger.enable(PRODUCT_ID);
+    }
+
+    @Benchmark
+    public void rowLock() {
+        synchronized (inventory) {
+            inventory.reserve(1);
+            inventory.release(1);
+        }
+    }
+
+    @Benchmark
+    public boolean stockLedger() {
+        boolean reserved = stockLedger.reserve(PRODUCT_ID, 1);
+        if (reserved) {
+            stockLedger.release(PRODUCT_ID, 1);
+        }
+        return reserved;
+    }
+}
@@ -0,0 +1,153 @@
+package com.platform.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.order.dto.BulkOrderResult;
+import com.platform.order.dto.CreateOrderRequest;
+import com.platform.order.messaging.EventPublisher;
+import com.platform.order.messaging.OutboxRelay;
+import com.platform.order.messaging.OutboxTracing;
+import com.platform.order.repository.OrderRepository;
+import com.platform.order.repository.OutboxEventRepository;
+import com.platform.order.service.BulkOrderService;
+import com.platform.order.service.OrderService;
+import com.platform.shared.serialization.EventMessageConverter;
+import com.platform.shared.serialization.SerializationFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code orders} orders created one {@link OrderService#createOrder} call (and transaction) at a time versus
+ * one {@link BulkOrderService#createOrders} call, on H2 with JDBC batching enabled. The outbox relay is not
+ * run; both variants write the same orders, items and outbox rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderBulkCreateBenchmark {
+
+    @Param({"500"})
+    public int orders;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private BulkOrderService bulkOrderService;
+    private JdbcTemplate jdbcTemplate;
+    private List<CreateOrderRequest> requests;
+
+    @Configuration(proxyBeanMethods = false)
+    @Import({OrderService.class, EventPublisher.class})
+    static class Services {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return Jackson2ObjectMapperBuilder.json().build();
+        }
+
+        @Bean
+        MessageConverter messageConverter(ObjectMapper objectMapper) {
+            return new EventMessageConverter(new Jackson2JsonMessageConverter(objectMapper), SerializationFormat.JSON);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        OutboxTracing outboxTracing() {
+            return OutboxTracing.NOOP;
+        }
+
+        // The relay pass scheduled after each bulk call is dropped: there is no broker to publish to
+        @Bean
+        BulkOrderService bulkOrderService(OrderRepository orderRepository, EventPublisher eventPublisher,
+                                          TransactionTemplate transactionTemplate, OutboxEventRepository outboxEventRepository,
+                                          PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                                          MeterRegistry meterRegistry) {
+            OutboxRelay relay = new OutboxRelay(outboxEventRepository, null, transactionManager, objectMapper,
+                    meterRegistry, OutboxTracing.NOOP);
+            return new BulkOrderService(orderRepository, eventPublisher, transactionTemplate,
+                    Validation.buildDefaultValidatorFactory().getValidator(), relay,
+                    Stubs.of(TaskScheduler.class, (method, args) -> null));
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        context = OrderPersistence.start("order-bulk-create-benchmark", Services.class);
+        orderService = context.getBean(OrderService.class);
+        bulkOrderService = context.getBean(BulkOrderService.class);
+        jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+
+        requests = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            List<CreateOrderRequest.OrderItemRequest> items = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                items.add(new CreateOrderRequest.OrderItemRequest(
+                        "product-" + j, "Product " + j, 1 + j, new BigDecimal("19.99")));
+            }
+            requests.add(new CreateOrderRequest("user-" + i % 50, items));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTables() {
+        jdbcTemplate.update("delete from order_items");
+        jdbcTemplate.update("delete from orders");
+        jdbcTemplate.update("delete from outbox_events");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int singleCalls() {
+        int created = 0;
+        for (CreateOrderRequest request : requests) {
+            orderService.createOrder(request);
+            created++;
+        }
+        return created;
+    }
+
+    @Benchmark
+    public List<BulkOrderResult> bulk() {
+        return bulkOrderService.createOrders(requests);
+    }
+}
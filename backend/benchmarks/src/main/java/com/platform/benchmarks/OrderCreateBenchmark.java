@@ -0,0 +1,78 @@
+package com.platform.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.order.dto.CreateOrderRequest;
+import com.platform.order.entity.Order;
+import com.platform.order.messaging.EventPublisher;
+import com.platform.order.messaging.OutboxTracing;
+import com.platform.order.repository.OrderRepository;
+import com.platform.order.repository.OutboxEventRepository;
+import com.platform.order.service.OrderService;
+import com.platform.shared.serialization.EventMessageConverter;
+import com.platform.shared.serialization.SerializationFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OrderService#createOrder}: request-to-entity mapping, total calculation, event mapping and
+ * outbox serialization, with the repositories stubbed out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderCreateBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int items;
+
+    @Param({"json", "binary"})
+    public String format;
+
+    private OrderService orderService;
+    private CreateOrderRequest request;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        EventPublisher eventPublisher = new EventPublisher(
+                Stubs.returningFirstArgument(OutboxEventRepository.class),
+                new EventMessageConverter(new Jackson2JsonMessageConverter(objectMapper),
+                        SerializationFormat.valueOf(format.toUpperCase())),
+                objectMapper,
+                new SimpleMeterRegistry(),
+                OutboxTracing.NOOP);
+        orderService = new OrderService(Stubs.returningFirstArgument(OrderRepository.class), eventPublisher);
+
+        List<CreateOrderRequest.OrderItemRequest> itemRequests = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            itemRequests.add(new CreateOrderRequest.OrderItemRequest(
+                    "product-" + i, "Product " + i, 1 + i % 3, new BigDecimal("19.99").add(BigDecimal.valueOf(i))));
+        }
+        request = new CreateOrderRequest("user-1", itemRequests);
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return orderService.createOrder(request);
+    }
+}
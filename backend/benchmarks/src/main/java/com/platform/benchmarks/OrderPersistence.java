@@ -0,0 +1,49 @@
+package com.platform.benchmarks;
+
+import com.platform.order.entity.Order;
+import com.platform.order.repository.OrderRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Order-service JPA layer on an in-memory H2 database, without the messaging and web auto-configuration.
+ */
+final class OrderPersistence {
+
+    private OrderPersistence() {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Order.class)
+    @EnableJpaRepositories(basePackageClasses = OrderRepository.class)
+    static class Config {
+    }
+
+    static ConfigurableApplicationContext start(String name, Class<?>... sources) {
+        Class<?>[] all = new Class<?>[sources.length + 1];
+        all[0] = Config.class;
+        System.arraycopy(sources, 0, all, 1, sources.length);
+        // Skip the services' application.yml bundled in the uber jar
+        return new SpringApplicationBuilder(all)
+                .web(WebApplicationType.NONE)
+                .run("--spring.config.name=" + name,
+                        "--spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.open-in-view=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "--spring.jpa.properties.hibernate.order_inserts=true");
+    }
+}
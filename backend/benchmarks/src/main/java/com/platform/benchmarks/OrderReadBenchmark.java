@@ -0,0 +1,140 @@
+package com.platform.benchmarks;
+
+import com.platform.order.dto.OrderSummary;
+import com.platform.order.entity.Order;
+import com.platform.order.entity.OrderItem;
+import com.platform.order.repository.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The order list read paths for a user with {@value #ORDERS} orders of {@value #ITEMS_PER_ORDER} items,
+ * on H2: lazy items touched per order (N+1), the entity-graph fetch, and the summary projection.
+ * The {@code queriesPerCall} secondary result is the number of JDBC statements each call prepared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderReadBenchmark {
+
+    static final int ORDERS = 1_000;
+    static final int ITEMS_PER_ORDER = 3;
+    private static final String USER_ID = "user-1";
+
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private TransactionTemplate readOnly;
+    private Statistics statistics;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Queries {
+
+        private long statements;
+        private long calls;
+        private int runs;
+
+        @Setup(Level.Iteration)
+        public void reset(BenchmarkParams params) {
+            statements = 0;
+            calls = 0;
+            // JMH sums event counters over threads and measurement iterations
+            runs = params.getThreads() * params.getMeasurement().getCount();
+        }
+
+        public double queriesPerCall() {
+            return calls == 0 ? 0 : (double) statements / calls / runs;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        context = OrderPersistence.start("order-read-benchmark");
+        orderRepository = context.getBean(OrderRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order();
+            order.setUserId(USER_ID);
+            order.setTotalAmount(new BigDecimal("19.99").multiply(BigDecimal.valueOf(ITEMS_PER_ORDER)));
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                OrderItem item = new OrderItem();
+                item.setOrder(order);
+                item.setProductId("product-" + j);
+                item.setProductName("Product " + j);
+                item.setQuantity(1);
+                item.setPrice(new BigDecimal("19.99"));
+                order.getItems().add(item);
+            }
+            orders.add(order);
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> orderRepository.saveAll(orders));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int lazyItems(Queries queries) {
+        return measure(queries, () -> orderRepository.findByUserId(USER_ID).stream()
+                .mapToInt(order -> order.getItems().size())
+                .sum());
+    }
+
+    @Benchmark
+    public int entityGraph(Queries queries) {
+        return measure(queries, () -> orderRepository.findWithItemsByUserIdOrderByCreatedAtDesc(USER_ID).stream()
+                .mapToInt(order -> order.getItems().size())
+                .sum());
+    }
+
+    @Benchmark
+    public int summaries(Queries queries) {
+        return measure(queries, () -> orderRepository.findSummariesByUserId(USER_ID).stream()
+                .mapToInt(OrderSummary::itemCount)
+                .sum());
+    }
+
+    private int measure(Queries queries, Supplier<Integer> read) {
+        return readOnly.execute(status -> {
+            long before = statistics.getPrepareStatementCount();
+            int result = read.get();
+            queries.statements += statistics.getPrepareStatementCount() - before;
+            queries.calls++;
+            return result;
+        });
+    }
+}
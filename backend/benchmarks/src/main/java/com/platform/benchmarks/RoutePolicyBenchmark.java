@@ -0,0 +1,79 @@
+package com.platform.benchmarks;
+
+import com.platform.gateway.filter.AuthPolicy;
+import com.platform.gateway.filter.JwtAuthenticationFilter;
+import com.platform.gateway.filter.PathPolicyMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public-path lookup in {@link JwtAuthenticationFilter} at 10 and 100 configured prefixes: the original
+ * {@code List} scanned with {@code stream().anyMatch(path::startsWith)} against the compiled
+ * {@link PathPolicyMatcher}. Paths cycle through hits on every prefix and as many protected misses;
+ * run with {@code -prof gc} to compare allocation per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutePolicyBenchmark {
+
+    @Param({"10", "100"})
+    private int routes;
+
+    private List<String> publicRoutes;
+    private PathPolicyMatcher matcher;
+    private String[] paths;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        publicRoutes = new ArrayList<>();
+        Map<String, AuthPolicy> policies = new LinkedHashMap<>();
+        List<String> samples = new ArrayList<>();
+        for (int i = 0; i < routes; i++) {
+            String prefix = "/api/service-" + i + "/public";
+            publicRoutes.add(prefix);
+            policies.put(prefix, AuthPolicy.PUBLIC);
+            samples.add(prefix + "/items/" + i);
+            samples.add("/api/service-" + i + "/orders/" + i);
+        }
+        publicRoutes = List.copyOf(publicRoutes);
+        matcher = PathPolicyMatcher.compile(policies, AuthPolicy.AUTHENTICATED);
+        paths = samples.toArray(String[]::new);
+    }
+
+    @Benchmark
+    public boolean linearScan() {
+        String path = nextPath();
+        return publicRoutes.stream().anyMatch(path::startsWith);
+    }
+
+    @Benchmark
+    public boolean prefixTrie() {
+        return matcher.match(nextPath()) == AuthPolicy.PUBLIC;
+    }
+
+    private String nextPath() {
+        String path = paths[next];
+        next = next + 1 == paths.length ? 0 : next + 1;
+        return path;
+    }
+}
@@ -0,0 +1,31 @@
+package com.platform.benchmarks;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.BiFunction;
+
+/**
+ * Minimal interface stubs, so the benchmarks measure the service code rather than a mocking library.
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    static <T> T of(Class<T> type, BiFunction<Method, Object[], Object> handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            return handler.apply(method, args);
+        }));
+    }
+
+    static <T> T returningFirstArgument(Class<T> type) {
+        return of(type, (method, args) -> args != null && args.length > 0 ? args[0] : null);
+    }
+}
@@ -0,0 +1,18 @@
+package com.platform.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.time.Instant;
+
+/**
+ * A complete backend response held by the {@link ResponseCacheStore}. Headers exclude hop-by-hop and
+ * length headers, which are set again when the response is replayed.
+ */
+public record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, String etag,
+                             Instant expiresAt) {
+
+    int weight() {
+        return body.length + headers.toString().length();
+    }
+}
@@ -0,0 +1,251 @@
+package com.platform.gateway.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@code ResponseCache} route filter: serves repeated GETs from the {@link ResponseCacheStore} for the
+ * route's {@code ttl}. Entries are keyed by route, path and query, plus the {@code X-User-Id} header when
+ * {@code per-user} is set. Cached responses carry an ETag, the backend's or a digest of the body, from the
+ * miss that stores them on; replays answer a matching {@code If-None-Match} with 304.
+ * <p>
+ * Concurrent misses for one key share a single backend call. The first request holds the backend response
+ * back until it is complete, so the ETag can be set before the headers go out, and the others replay the
+ * copy. A response growing past {@code max-entry-size} is streamed through from there on and not cached. Only 200 responses without {@code Set-Cookie} or a no-store/private
+ * {@code Cache-Control} are cached; otherwise the waiting requests go to the backend themselves.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    static final String CACHE_HEADER = "X-Cache";
+    static final String USER_HEADER = "X-User-Id";
+
+    // Wraps NettyWriteResponseFilter, so the backend body is written through this filter's decorator
+    static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+
+    private static final Set<String> UNCACHED_HEADERS = Set.of(HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION, HttpHeaders.DATE, CACHE_HEADER);
+
+    private final ResponseCacheStore store;
+    private final MeterRegistry meterRegistry;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCacheStore store, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl", "perUser");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> filter(exchange, chain, config), ORDER);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        String route = routeId(exchange);
+        String key = key(route, request, config);
+
+        CachedResponse cached = store.get(key);
+        if (cached != null) {
+            count(route, "hit");
+            return replay(exchange, cached);
+        }
+
+        Sinks.One<CachedResponse> fetched = Sinks.one();
+        Mono<CachedResponse> fetch = fetched.asMono();
+        Mono<CachedResponse> pending = store.joinInFlight(key, fetch);
+        if (pending != null) {
+            count(route, "coalesced");
+            return pending.map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(response -> response.isPresent()
+                            ? replay(exchange, response.get())
+                            : chain.filter(exchange));
+        }
+
+        count(route, "miss");
+        CapturingResponse response = new CapturingResponse(exchange.getResponse(), body -> {
+            CachedResponse captured = body != null ? capture(exchange.getResponse(), body, config.getTtl()) : null;
+            if (captured != null) {
+                store.put(key, captured);
+                fetched.tryEmitValue(captured);
+            } else {
+                fetched.tryEmitEmpty();
+            }
+        });
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> {
+                    store.leaveInFlight(key, fetch);
+                    // Releases the waiting requests if nothing was captured
+                    fetched.tryEmitEmpty();
+                });
+    }
+
+    private Mono<Void> replay(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        cached.headers().forEach((name, values) -> {
+            if (!headers.containsKey(name)) {
+                headers.put(name, values);
+            }
+        });
+        headers.setETag(cached.etag());
+        headers.set(CACHE_HEADER, "HIT");
+        List<String> ifNoneMatch = exchange.getRequest().getHeaders().getIfNoneMatch();
+        if (ifNoneMatch.contains(cached.etag()) || ifNoneMatch.contains("*")) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(cached.status());
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+    }
+
+    private CachedResponse capture(ServerHttpResponse response, byte[] body, Duration ttl) {
+        HttpHeaders headers = new HttpHeaders();
+        response.getHeaders().forEach((name, values) -> {
+            if (UNCACHED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                headers.put(name, List.copyOf(values));
+            }
+        });
+        String etag = etag(headers, body);
+        headers.remove(HttpHeaders.ETAG);
+        return new CachedResponse(response.getStatusCode(), HttpHeaders.readOnlyHttpHeaders(headers), body, etag,
+                store.clock().instant().plus(ttl));
+    }
+
+    private static String etag(HttpHeaders headers, byte[] body) {
+        return headers.getETag() != null ? headers.getETag() : '"' + DigestUtils.md5DigestAsHex(body) + '"';
+    }
+
+    private static byte[] copy(List<DataBuffer> buffers) {
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        for (DataBuffer buffer : buffers) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            int position = buffer.readPosition();
+            buffer.read(bytes);
+            buffer.readPosition(position);
+            copy.writeBytes(bytes);
+        }
+        return copy.toByteArray();
+    }
+
+    private static boolean cacheable(ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        if (!HttpStatus.OK.equals(response.getStatusCode()) || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    static String key(String route, ServerHttpRequest request, Config config) {
+        StringBuilder key = new StringBuilder(route).append(' ').append(request.getURI().getRawPath());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        if (config.isPerUser()) {
+            String userId = request.getHeaders().getFirst(USER_HEADER);
+            key.append(" user=").append(userId != null ? userId : "");
+        }
+        return key.toString();
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private void count(String route, String result) {
+        meterRegistry.counter("gateway.response.cache", "route", route, "result", result).increment();
+    }
+
+    @Data
+    public static class Config {
+
+        private Duration ttl = Duration.ofSeconds(5);
+
+        /**
+         * Keep a separate copy per {@code X-User-Id}, for responses that depend on the caller.
+         */
+        private boolean perUser = false;
+    }
+
+    /**
+     * Copies the body on its way to the client and hands it to {@code onComplete} (null when the
+     * response is not cacheable or larger than the store's entry limit). A body within the limit is held
+     * until complete and goes out with its ETag.
+     */
+    private final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final Consumer<byte[]> onComplete;
+
+        private CapturingResponse(ServerHttpResponse delegate, Consumer<byte[]> onComplete) {
+            super(delegate);
+            this.onComplete = onComplete;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            getHeaders().set(CACHE_HEADER, "MISS");
+            if (!cacheable(getDelegate())) {
+                onComplete.accept(null);
+                return super.writeWith(body);
+            }
+            long limit = store.maxEntryBytes();
+            long[] size = {0};
+            // One list holding the whole body, or single buffers once it outgrows the limit
+            Flux<List<DataBuffer>> chunks = Flux.<DataBuffer>from(body)
+                    .bufferUntil(buffer -> (size[0] += buffer.readableByteCount()) > limit);
+            return super.writeWith(chunks.switchOnFirst((first, all) -> {
+                if (first.isOnError() || size[0] > limit) {
+                    onComplete.accept(null);
+                } else {
+                    byte[] bytes = copy(first.hasValue() ? first.get() : List.of());
+                    getHeaders().setETag(etag(getHeaders(), bytes));
+                    onComplete.accept(bytes);
+                }
+                return all.concatMapIterable(Function.identity());
+            }));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.platform.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Responses cached by the {@link ResponseCacheGatewayFilterFactory}, shared by all routes. The store is
+ * bounded by the total size of the cached bodies ({@code max-size}); least recently and least frequently
+ * used entries are evicted first. Each entry expires at the TTL of the route that cached it.
+ * <p>
+ * It also tracks the backend fetches in flight, so concurrent misses for the same key wait for one fetch
+ * instead of each calling the backend.
+ */
+@Component
+public class ResponseCacheStore {
+
+    private final Cache<String, CachedResponse> cache;
+    private final Map<String, Mono<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final long maxEntryBytes;
+    private final Clock clock;
+
+    @Autowired
+    public ResponseCacheStore(@Value("${gateway.response-cache.max-size:64MB}") DataSize maxSize,
+                              @Value("${gateway.response-cache.max-entry-size:1MB}") DataSize maxEntrySize,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        this(maxSize.toBytes(), maxEntrySize.toBytes(), Clock.systemUTC());
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "gatewayResponses"));
+    }
+
+    ResponseCacheStore(long maxBytes, long maxEntryBytes, Clock clock) {
+        this.maxEntryBytes = maxEntryBytes;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse response) -> key.length() + response.weight())
+                .expireAfter(new ResponseExpiry())
+                .recordStats()
+                .build();
+    }
+
+    public CachedResponse get(String key) {
+        CachedResponse cached = cache.getIfPresent(key);
+        return cached != null && clock.instant().isBefore(cached.expiresAt()) ? cached : null;
+    }
+
+    public void put(String key, CachedResponse response) {
+        cache.put(key, response);
+    }
+
+    public long maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    Clock clock() {
+        return clock;
+    }
+
+    /**
+     * Registers {@code fetch} as the pending fetch for {@code key}, or returns the fetch already pending.
+     */
+    Mono<CachedResponse> joinInFlight(String key, Mono<CachedResponse> fetch) {
+        return inFlight.putIfAbsent(key, fetch);
+    }
+
+    void leaveInFlight(String key, Mono<CachedResponse> fetch) {
+        inFlight.remove(key, fetch);
+    }
+
+    Cache<String, CachedResponse> cache() {
+        return cache;
+    }
+
+    private final class ResponseExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.platform.gateway.filter;
+
+/**
+ * What {@link JwtAuthenticationFilter} requires of a request before routing it.
+ */
+public enum AuthPolicy {
+
+    /**
+     * Routed without a token; any client-supplied identity headers are dropped.
+     */
+    PUBLIC,
+
+    /**
+     * Requires a valid bearer token, whose claims are forwarded as {@code X-User-*} headers.
+     */
+    AUTHENTICATED
+}
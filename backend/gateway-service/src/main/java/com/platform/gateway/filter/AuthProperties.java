@@ -0,0 +1,22 @@
+package com.platform.gateway.filter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.auth")
+public class AuthProperties {
+
+    /**
+     * Policy for paths that match none of the configured prefixes.
+     */
+    private AuthPolicy defaultPolicy = AuthPolicy.AUTHENTICATED;
+
+    /**
+     * Path prefix to policy; the longest matching prefix wins.
+     */
+    private Map<String, AuthPolicy> paths = new LinkedHashMap<>();
+}
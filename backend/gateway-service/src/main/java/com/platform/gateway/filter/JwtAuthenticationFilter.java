@@ -1,11 +1,12 @@
 package com.platform.gateway.filter;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cloud.gateway.filter.GatewayFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -13,62 +14,95 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
-import java.util.List;
-
+/**
+ * Applies the {@code gateway.auth} policy of the request path to every route. It runs ahead of the
+ * route filters, so rate-limit and per-user cache keys only ever see identity headers it has set itself.
+ */
 @Component
-public class JwtAuthenticationFilter implements GatewayFilter {
+@EnableConfigurationProperties(AuthProperties.class)
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = -100;
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    static final String USER_ID = "X-User-Id";
+    static final String USER_EMAIL = "X-User-Email";
+    static final String USER_ROLES = "X-User-Roles";
+    private static final String BEARER = "Bearer ";
 
-    private static final List<String> PUBLIC_ROUTES = List.of(
-            "/api/auth/login",
-            "/api/auth/register",
-            "/api/products");
+    private final JwtTokenVerifier tokenVerifier;
+    private final MeterRegistry meterRegistry;
+    private final PathPolicyMatcher policies;
+
+    public JwtAuthenticationFilter(JwtTokenVerifier tokenVerifier, MeterRegistry meterRegistry, AuthProperties properties) {
+        this.tokenVerifier = tokenVerifier;
+        this.meterRegistry = meterRegistry;
+        this.policies = PathPolicyMatcher.compile(properties.getPaths(), properties.getDefaultPolicy());
+    }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
-        String path = request.getPath().toString();
 
         // Allow public routes
-        if (PUBLIC_ROUTES.stream().anyMatch(path::startsWith)) {
-            return chain.filter(exchange);
+        if (policies.match(request.getPath().value()) == AuthPolicy.PUBLIC) {
+            return chain.filter(hasIdentity(request.getHeaders()) ? withIdentity(exchange, null) : exchange);
         }
 
         // Check for Authorization header
-        String authHeader = request.getHeaders().getFirst("Authorization");
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            return onError(exchange, "Missing or invalid Authorization header", HttpStatus.UNAUTHORIZED);
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER)) {
+            return onError(exchange, HttpStatus.UNAUTHORIZED);
         }
 
-        String token = authHeader.substring(7);
-
+        VerifiedToken verified;
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            verified = verify(authHeader.substring(BEARER.length()));
+        } catch (Exception e) {
+            return onError(exchange, HttpStatus.UNAUTHORIZED);
+        }
+        return chain.filter(withIdentity(exchange, verified));
+    }
 
-            // Add user information to request headers
-            ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
-                    .header("X-User-Id", claims.getSubject())
-                    .header("X-User-Email", claims.get("email", String.class))
-                    .header("X-User-Roles", claims.get("roles", String.class))
-                    .build();
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
 
-            return chain.filter(exchange.mutate().request(modifiedRequest).build());
+    private static boolean hasIdentity(HttpHeaders headers) {
+        return headers.containsKey(USER_ID) || headers.containsKey(USER_EMAIL) || headers.containsKey(USER_ROLES);
+    }
 
-        } catch (Exception e) {
-            return onError(exchange, "Invalid JWT token: " + e.getMessage(), HttpStatus.UNAUTHORIZED);
+    // Replaces whatever identity the client sent with the verified one (or none)
+    private static ServerWebExchange withIdentity(ServerWebExchange exchange, VerifiedToken verified) {
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.remove(USER_ID);
+                    headers.remove(USER_EMAIL);
+                    headers.remove(USER_ROLES);
+                    if (verified != null) {
+                        headers.set(USER_ID, verified.userId());
+                        headers.set(USER_EMAIL, verified.email());
+                        headers.set(USER_ROLES, verified.roles());
+                    }
+                })
+                .build();
+        return exchange.mutate().request(request).build();
+    }
+
+    // Cache hits show up as the fast mode of the histogram
+    private VerifiedToken verify(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
+        try {
+            VerifiedToken verified = tokenVerifier.verify(token);
+            outcome = "valid";
+            return verified;
+        } finally {
+            sample.stop(meterRegistry.timer("gateway.jwt.verification", "outcome", outcome));
         }
     }
 
-    private Mono<Void> onError(ServerWebExchange exchange, String err, HttpStatus httpStatus) {
+    private Mono<Void> onError(ServerWebExchange exchange, HttpStatus httpStatus) {
         ServerHttpResponse response = exchange.getResponse();
         response.setStatusCode(httpStatus);
         return response.setComplete();
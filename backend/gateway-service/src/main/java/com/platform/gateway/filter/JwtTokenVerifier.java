@@ -0,0 +1,129 @@
+package com.platform.gateway.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Verifies bearer tokens with a parser built once at startup and remembers successful results until
+ * the token's {@code exp}, so repeat requests carrying the same token skip the HMAC check.
+ * Entries are keyed by a SHA-256 of the token; raw tokens are never kept.
+ */
+@Component
+public class JwtTokenVerifier {
+
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> cache;
+    private final Duration maxTtl;
+    private final Clock clock;
+
+    @Autowired
+    public JwtTokenVerifier(@Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.cache.max-size:10000}") long maxSize,
+                            @Value("${jwt.cache.max-ttl:PT5M}") Duration maxTtl,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(jwtSecret, maxSize, maxTtl, Clock.systemUTC());
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "jwtVerifiedTokens"));
+    }
+
+    JwtTokenVerifier(String jwtSecret, long maxSize, Duration maxTtl, Clock clock) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .clock(() -> Date.from(clock.instant()))
+                .build();
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+     */
+    public VerifiedToken verify(String token) {
+        String key = hash(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && clock.instant().isBefore(cached.expiresAt())) {
+            return cached;
+        }
+        VerifiedToken verified = parse(token);
+        cache.put(key, verified);
+        return verified;
+    }
+
+    Cache<String, VerifiedToken> cache() {
+        return cache;
+    }
+
+    private VerifiedToken parse(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        Instant now = clock.instant();
+        Instant expiresAt = claims.getExpiration() != null
+                ? min(claims.getExpiration().toInstant(), now.plus(maxTtl))
+                : now.plus(maxTtl);
+        return new VerifiedToken(claims.getSubject(), claims.get("email", String.class),
+                roles(claims.get("roles")), expiresAt);
+    }
+
+    // The auth service issues roles as a JSON array; older tokens carry a comma-separated string
+    private static String roles(Object roles) {
+        if (roles instanceof Collection<?> values) {
+            return String.join(",", values.stream().map(String::valueOf).toList());
+        }
+        return roles != null ? roles.toString() : null;
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
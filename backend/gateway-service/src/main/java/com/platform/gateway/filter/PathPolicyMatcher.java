@@ -0,0 +1,87 @@
+package com.platform.gateway.filter;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Longest-prefix match of a request path against the configured {@link AuthPolicy} prefixes, compiled
+ * once into a radix trie: chains of nodes without a policy collapse into one string edge, and each node
+ * keeps its edges' first characters sorted in a {@code char[]}. A lookup is one binary search and one
+ * region compare per edge, and allocates nothing, however many prefixes there are.
+ */
+public final class PathPolicyMatcher {
+
+    private final Node root;
+    private final AuthPolicy defaultPolicy;
+
+    private PathPolicyMatcher(Node root, AuthPolicy defaultPolicy) {
+        this.root = root;
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    public static PathPolicyMatcher compile(Map<String, AuthPolicy> prefixes, AuthPolicy defaultPolicy) {
+        Builder root = new Builder();
+        prefixes.forEach((prefix, policy) -> {
+            if (prefix == null || prefix.isEmpty() || policy == null) {
+                throw new IllegalArgumentException("Invalid auth policy entry: " + prefix + "=" + policy);
+            }
+            Builder node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Builder());
+            }
+            node.policy = policy;
+        });
+        return new PathPolicyMatcher(root.build(), defaultPolicy);
+    }
+
+    /**
+     * Policy of the longest configured prefix of {@code path}, or the default policy.
+     */
+    public AuthPolicy match(String path) {
+        AuthPolicy matched = defaultPolicy;
+        Node node = root;
+        int i = 0;
+        while (i < path.length()) {
+            int edge = Arrays.binarySearch(node.firsts, path.charAt(i));
+            if (edge < 0 || !path.startsWith(node.edges[edge], i)) {
+                return matched;
+            }
+            i += node.edges[edge].length();
+            node = node.children[edge];
+            if (node.policy != null) {
+                matched = node.policy;
+            }
+        }
+        return matched;
+    }
+
+    private record Node(char[] firsts, String[] edges, Node[] children, AuthPolicy policy) {
+    }
+
+    private static final class Builder {
+
+        private final TreeMap<Character, Builder> children = new TreeMap<>();
+        private AuthPolicy policy;
+
+        private Node build() {
+            char[] firsts = new char[children.size()];
+            String[] edges = new String[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder> child : children.entrySet()) {
+                StringBuilder edge = new StringBuilder().append(child.getKey());
+                Builder target = child.getValue();
+                while (target.policy == null && target.children.size() == 1) {
+                    Map.Entry<Character, Builder> only = target.children.firstEntry();
+                    edge.append(only.getKey());
+                    target = only.getValue();
+                }
+                firsts[i] = child.getKey();
+                edges[i] = edge.toString();
+                nodes[i++] = target.build();
+            }
+            return new Node(firsts, edges, nodes, policy);
+        }
+    }
+}
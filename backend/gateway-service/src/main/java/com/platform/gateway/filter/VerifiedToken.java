@@ -0,0 +1,9 @@
+package com.platform.gateway.filter;
+
+import java.time.Instant;
+
+/**
+ * The claims the gateway forwards downstream, extracted once per distinct token.
+ */
+public record VerifiedToken(String userId, String email, String roles, Instant expiresAt) {
+}
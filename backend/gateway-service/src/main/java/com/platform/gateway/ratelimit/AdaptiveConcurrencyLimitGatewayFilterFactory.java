@@ -0,0 +1,99 @@
+package com.platform.gateway.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code AdaptiveConcurrencyLimit} route filter: admits requests while the route's in-flight count is
+ * below its {@link ConcurrencyLimit} and sheds the rest with {@code status} (503 by default) and
+ * {@code Retry-After: 1}. The limit follows backend latency, so a slowing backend gets fewer concurrent
+ * requests instead of a growing queue.
+ */
+@Component
+public class AdaptiveConcurrencyLimitGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<AdaptiveConcurrencyLimitGatewayFilterFactory.Config> {
+
+    private final MeterRegistry meterRegistry;
+    // Kept across route refreshes so a route does not lose its learned limit
+    private final Map<String, ConcurrencyLimit> limits = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimitGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String route = config.getRouteId() != null ? config.getRouteId() : "unknown";
+        ConcurrencyLimit limit = limits.computeIfAbsent(route, key -> register(key, new ConcurrencyLimit(
+                config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit(), config.getTolerance())));
+        return (exchange, chain) -> {
+            if (!limit.tryAcquire()) {
+                count(route, "shed");
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(config.getStatus());
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+                return response.setComplete();
+            }
+            count(route, "admitted");
+            long start = System.nanoTime();
+            return chain.filter(exchange).doFinally(signal ->
+                    limit.release(System.nanoTime() - start, overloaded(signal, exchange.getResponse().getStatusCode())));
+        };
+    }
+
+    // Gateway timeouts and backend overload statuses count as congestion; client cancels do not
+    private static boolean overloaded(SignalType signal, HttpStatusCode status) {
+        if (signal == SignalType.ON_ERROR) {
+            return true;
+        }
+        return status != null && (status.value() == 502 || status.value() == 503 || status.value() == 504);
+    }
+
+    private ConcurrencyLimit register(String route, ConcurrencyLimit limit) {
+        Gauge.builder("gateway.concurrency.limit", limit, ConcurrencyLimit::limit)
+                .description("Current adaptive concurrency limit")
+                .tag("route", route)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.in-flight", limit, ConcurrencyLimit::inFlight)
+                .tag("route", route)
+                .register(meterRegistry);
+        return limit;
+    }
+
+    private void count(String route, String outcome) {
+        meterRegistry.counter("gateway.concurrency.requests", "route", route, "outcome", outcome).increment();
+    }
+
+    @Data
+    public static class Config implements HasRouteId {
+
+        private String routeId;
+
+        private int initialLimit = 20;
+
+        private int minLimit = 4;
+
+        private int maxLimit = 200;
+
+        /**
+         * Latency above {@code tolerance} times the fastest recent response lowers the limit.
+         */
+        private double tolerance = 2.0;
+
+        private HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+    }
+}
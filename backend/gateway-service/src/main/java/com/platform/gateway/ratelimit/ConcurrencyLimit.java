@@ -0,0 +1,77 @@
+package com.platform.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive cap on in-flight requests to one route, after the gradient algorithm of Netflix's
+ * concurrency-limits. The limit tracks {@code minRtt * tolerance / rtt}: while responses stay within
+ * {@code tolerance} times the fastest recent response it grows (by about the square root of the limit,
+ * and only while at least half of it is in use); once latency rises beyond that it shrinks in
+ * proportion, and it is cut by 10% on backend errors and timeouts.
+ * <p>
+ * Admission is a CAS on the in-flight count; limit updates run under a lock after each response.
+ */
+final class ConcurrencyLimit {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF = 0.9;
+    // The minimum RTT is re-measured periodically so it follows real changes in backend speed
+    private static final int MIN_RTT_RESET_SAMPLES = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samples;
+
+    ConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long rttNanos, boolean overloaded) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        update(Math.max(1, rttNanos), overloaded, inFlightBefore);
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, boolean overloaded, int inFlightBefore) {
+        if (overloaded) {
+            limit = Math.max(minLimit, limit * BACKOFF);
+            return;
+        }
+        if (++samples >= MIN_RTT_RESET_SAMPLES) {
+            samples = 0;
+            minRttNanos = rttNanos;
+        } else {
+            minRttNanos = Math.min(minRttNanos, rttNanos);
+        }
+        double gradient = Math.clamp(tolerance * minRttNanos / rttNanos, 0.5, 1.0);
+        double headroom = inFlightBefore * 2 >= limit ? Math.sqrt(limit) : 0;
+        double target = limit * gradient + headroom;
+        limit = Math.clamp(limit * (1 - SMOOTHING) + target * SMOOTHING, minLimit, maxLimit);
+    }
+}
@@ -0,0 +1,99 @@
+package com.platform.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process {@link org.springframework.cloud.gateway.filter.ratelimit.RateLimiter} for the
+ * {@code RequestRateLimiter} filter: one {@link TokenBucket} per route and key, configured per route with
+ * {@code local-rate-limiter.*} args. Each gateway instance enforces its own limits, so the effective
+ * limit scales with the number of instances; a shared limit needs Spring Cloud Gateway's
+ * {@code RedisRateLimiter} in its place.
+ */
+@Component
+public class LocalRateLimiter extends AbstractRateLimiter<LocalRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "local-rate-limiter";
+
+    private final Cache<String, TokenBucket> buckets;
+    private final Config defaultConfig;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+
+    @Autowired
+    public LocalRateLimiter(ConfigurationService configurationService, MeterRegistry meterRegistry,
+                            @Value("${gateway.rate-limit.max-keys:100000}") long maxKeys,
+                            @Value("${gateway.rate-limit.idle-timeout:PT10M}") Duration idleTimeout) {
+        this(configurationService, meterRegistry, maxKeys, idleTimeout, System::nanoTime);
+    }
+
+    LocalRateLimiter(ConfigurationService configurationService, MeterRegistry meterRegistry, long maxKeys,
+                     Duration idleTimeout, LongSupplier clock) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.defaultConfig = new Config();
+        // A bucket idle for longer than its refill time is full again, so forgetting it changes nothing
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.get(routeId + '|' + id,
+                key -> new TokenBucket(config.getReplenishRate(), config.getBurstCapacity(), now));
+        long remaining = bucket.tryAcquire(config.getRequestedTokens(), now);
+        boolean allowed = remaining >= 0;
+        String outcome = allowed ? "allowed" : "rejected";
+        sample.stop(meterRegistry.timer("gateway.ratelimit.decision", "route", routeId, "outcome", outcome));
+        return Mono.just(new Response(allowed, headers(config, Math.max(remaining, 0))));
+    }
+
+    private static Map<String, String> headers(Config config, long remaining) {
+        return Map.of(
+                "X-RateLimit-Remaining", Long.toString(remaining),
+                "X-RateLimit-Replenish-Rate", Integer.toString(config.getReplenishRate()),
+                "X-RateLimit-Burst-Capacity", Integer.toString(config.getBurstCapacity()),
+                "X-RateLimit-Requested-Tokens", Integer.toString(config.getRequestedTokens()));
+    }
+
+    @Data
+    @Validated
+    public static class Config {
+
+        /**
+         * Tokens added per second.
+         */
+        @Min(1)
+        private int replenishRate = 10;
+
+        /**
+         * Tokens a key can spend at once after being idle.
+         */
+        @Min(1)
+        private int burstCapacity = 20;
+
+        @Min(1)
+        private int requestedTokens = 1;
+    }
+}
@@ -0,0 +1,40 @@
+package com.platform.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is one "theoretical arrival time", advanced
+ * with a single CAS per request. A request taking {@code n} tokens is allowed while the backlog it would
+ * leave stays within {@code burstCapacity} tokens; the backlog drains at {@code replenishRate} tokens
+ * per second.
+ */
+final class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int replenishRate, int burstCapacity, long now) {
+        this.nanosPerToken = 1_000_000_000L / Math.max(1, replenishRate);
+        this.burstNanos = nanosPerToken * Math.max(1, burstCapacity);
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * @return the tokens left after taking {@code tokens}, or -1 if the request must be rejected
+     */
+    long tryAcquire(int tokens, long now) {
+        long increment = nanosPerToken * tokens;
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + increment;
+            long backlog = next - now;
+            if (backlog > burstNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return (burstNanos - backlog) / nanosPerToken;
+            }
+        }
+    }
+}
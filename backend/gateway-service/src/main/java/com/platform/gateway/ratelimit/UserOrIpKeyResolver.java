@@ -0,0 +1,27 @@
+package com.platform.gateway.ratelimit;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Rate-limit key: the authenticated user ({@code X-User-Id}, set by {@code JwtAuthenticationFilter}),
+ * or the client address for anonymous requests.
+ */
+@Component
+public class UserOrIpKeyResolver implements KeyResolver {
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        String userId = exchange.getRequest().getHeaders().getFirst("X-User-Id");
+        if (userId != null && !userId.isBlank()) {
+            return Mono.just("user:" + userId);
+        }
+        InetSocketAddress remote = exchange.getRequest().getRemoteAddress();
+        return Mono.just("ip:" + (remote != null && remote.getAddress() != null
+                ? remote.getAddress().getHostAddress() : "unknown"));
+    }
+}
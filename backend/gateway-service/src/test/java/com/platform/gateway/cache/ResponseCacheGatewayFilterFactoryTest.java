@@ -0,0 +1,158 @@
+package com.platform.gateway.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private final AtomicInteger backendCalls = new AtomicInteger();
+    private ResponseCacheStore store;
+    private GatewayFilter filter;
+    private Mono<Void> backendDelay;
+
+    @BeforeEach
+    void setUp() {
+        store = new ResponseCacheStore(1024 * 1024, 1024, Clock.systemUTC());
+        ResponseCacheGatewayFilterFactory factory = new ResponseCacheGatewayFilterFactory(store, new SimpleMeterRegistry());
+        ResponseCacheGatewayFilterFactory.Config config = new ResponseCacheGatewayFilterFactory.Config();
+        config.setTtl(Duration.ofMinutes(1));
+        filter = factory.apply(config);
+        backendDelay = Mono.empty();
+    }
+
+    @Test
+    void filter_ServesRepeatedGetFromCache() {
+        // Act
+        MockServerWebExchange first = get("/api/products/1");
+        filter.filter(first, backend("{\"id\":1}")).block();
+        MockServerWebExchange second = get("/api/products/1");
+        filter.filter(second, backend("{\"id\":2}")).block();
+
+        // Assert
+        assertEquals(1, backendCalls.get());
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("{\"id\":1}", second.getResponse().getBodyAsString().block());
+        assertEquals(MediaType.APPLICATION_JSON, second.getResponse().getHeaders().getContentType());
+        assertNotNull(second.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    void filter_SetsETagOnTheMissThatFillsTheCache() {
+        // Arrange
+        MockServerWebExchange miss = get("/api/products/1");
+        filter.filter(miss, backend("{\"id\":1}")).block();
+        String etag = miss.getResponse().getHeaders().getETag();
+
+        // Act
+        MockServerWebExchange revalidation = MockServerWebExchange.from(MockServerHttpRequest.get("/api/products/1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+        filter.filter(revalidation, backend("{\"id\":1}")).block();
+
+        // Assert
+        assertNotNull(etag);
+        assertEquals("{\"id\":1}", miss.getResponse().getBodyAsString().block());
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode());
+        assertEquals(1, backendCalls.get());
+    }
+
+    @Test
+    void filter_AnswersMatchingIfNoneMatchWithNotModified() {
+        // Arrange
+        filter.filter(get("/api/products/1"), backend("{}")).block();
+        MockServerWebExchange hit = get("/api/products/1");
+        filter.filter(hit, backend("{}")).block();
+        String etag = hit.getResponse().getHeaders().getETag();
+
+        // Act
+        MockServerWebExchange revalidation = MockServerWebExchange.from(MockServerHttpRequest.get("/api/products/1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+        filter.filter(revalidation, backend("{}")).block();
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode());
+        assertEquals(1, backendCalls.get());
+    }
+
+    @Test
+    void filter_KeysOnQueryAndOptionallyUser() {
+        // Arrange
+        ResponseCacheGatewayFilterFactory.Config perUser = new ResponseCacheGatewayFilterFactory.Config();
+        perUser.setPerUser(true);
+
+        // Act
+        String plain = ResponseCacheGatewayFilterFactory.key("catalog",
+                MockServerHttpRequest.get("/api/products?page=2").header("X-User-Id", "u1").build(),
+                new ResponseCacheGatewayFilterFactory.Config());
+        String byUser = ResponseCacheGatewayFilterFactory.key("catalog",
+                MockServerHttpRequest.get("/api/products?page=2").header("X-User-Id", "u1").build(), perUser);
+
+        // Assert
+        assertEquals("catalog /api/products?page=2", plain);
+        assertEquals("catalog /api/products?page=2 user=u1", byUser);
+    }
+
+    @Test
+    void filter_CoalescesConcurrentMisses() {
+        // Arrange
+        Sinks.Empty<Void> gate = Sinks.empty();
+        backendDelay = gate.asMono();
+        MockServerWebExchange leader = get("/api/inventory/sku-1");
+        MockServerWebExchange follower = get("/api/inventory/sku-1");
+
+        // Act
+        filter.filter(leader, backend("{\"available\":3}")).subscribe();
+        filter.filter(follower, backend("{\"available\":3}")).subscribe();
+        gate.tryEmitEmpty();
+
+        // Assert
+        assertEquals(1, backendCalls.get());
+        assertEquals("{\"available\":3}", follower.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void filter_SkipsOversizedAndNonGetResponses() {
+        // Act
+        filter.filter(get("/api/products/big"), backend("x".repeat(2048))).block();
+        filter.filter(get("/api/products/big"), backend("x".repeat(2048))).block();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.post("/api/products/1")), backend("{}")).block();
+
+        // Assert
+        assertEquals(3, backendCalls.get());
+        assertEquals(0, store.cache().estimatedSize());
+    }
+
+    private MockServerWebExchange get(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+
+    private GatewayFilterChain backend(String body) {
+        return (ServerWebExchange exchange) -> {
+            backendCalls.incrementAndGet();
+            return backendDelay.then(Mono.defer(() -> {
+                exchange.getResponse().setStatusCode(HttpStatus.OK);
+                exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                        .wrap(body.getBytes(StandardCharsets.UTF_8))));
+            }));
+        };
+    }
+}
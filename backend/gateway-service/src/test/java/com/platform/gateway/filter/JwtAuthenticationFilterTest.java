@@ -0,0 +1,95 @@
+package com.platform.gateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtTokenVerifier tokenVerifier;
+    private JwtAuthenticationFilter filter;
+    private ServerWebExchange forwarded;
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded = exchange;
+        return Mono.empty();
+    };
+
+    @BeforeEach
+    void setUp() {
+        tokenVerifier = mock(JwtTokenVerifier.class);
+        AuthProperties properties = new AuthProperties();
+        properties.getPaths().put("/api/products", AuthPolicy.PUBLIC);
+        filter = new JwtAuthenticationFilter(tokenVerifier, new SimpleMeterRegistry(), properties);
+    }
+
+    @Test
+    void filter_PublicPathPassesWithoutToken() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/products/1"));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertSame(exchange, forwarded);
+        verifyNoInteractions(tokenVerifier);
+    }
+
+    @Test
+    void filter_PublicPathDropsClientIdentityHeaders() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/products/1")
+                .header("X-User-Id", "someone-else"));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertFalse(forwarded.getRequest().getHeaders().containsKey("X-User-Id"));
+    }
+
+    @Test
+    void filter_RejectsProtectedPathWithoutToken() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders"));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertNull(forwarded);
+    }
+
+    @Test
+    void filter_ReplacesIdentityHeadersWithVerifiedClaims() {
+        // Arrange
+        when(tokenVerifier.verify("token")).thenReturn(
+                new VerifiedToken("user123", "user@example.com", "USER", Instant.now().plusSeconds(60)));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+                .header("X-User-Id", "someone-else"));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        HttpHeaders headers = forwarded.getRequest().getHeaders();
+        assertEquals(List.of("user123"), headers.get("X-User-Id"));
+        assertEquals("user@example.com", headers.getFirst("X-User-Email"));
+        assertEquals("USER", headers.getFirst("X-User-Roles"));
+    }
+}
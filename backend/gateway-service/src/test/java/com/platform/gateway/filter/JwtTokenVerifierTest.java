@@ -0,0 +1,76 @@
+package com.platform.gateway.filter;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenVerifierTest {
+
+    private static final String SECRET = "test-secret-key-that-is-at-least-256-bits-long!!";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final JwtTokenVerifier verifier =
+            new JwtTokenVerifier(SECRET, 100, Duration.ofMinutes(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void verify_CachesVerifiedClaimsUntilExpiry() {
+        // Arrange
+        String token = token(SECRET, NOW.plusSeconds(60));
+
+        // Act
+        VerifiedToken first = verifier.verify(token);
+        VerifiedToken second = verifier.verify(token);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("user123", first.userId());
+        assertEquals("user@example.com", first.email());
+        assertEquals("USER,ADMIN", first.roles());
+        assertEquals(NOW.plusSeconds(60), first.expiresAt());
+        assertEquals(1, verifier.cache().stats().hitCount());
+        assertEquals(1, verifier.cache().stats().missCount());
+    }
+
+    @Test
+    void verify_CapsEntryLifetimeAtMaxTtl() {
+        // Arrange
+        String token = token(SECRET, NOW.plus(Duration.ofDays(1)));
+
+        // Act
+        VerifiedToken result = verifier.verify(token);
+
+        // Assert
+        assertEquals(NOW.plus(Duration.ofMinutes(5)), result.expiresAt());
+    }
+
+    @Test
+    void verify_RejectsTokenSignedWithOtherKey() {
+        // Arrange
+        String token = token("another-secret-key-that-is-at-least-256-bits-long", NOW.plusSeconds(60));
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> verifier.verify(token));
+        assertEquals(0, verifier.cache().estimatedSize());
+    }
+
+    private static String token(String secret, Instant expiresAt) {
+        return Jwts.builder()
+                .subject("user123")
+                .claim("email", "user@example.com")
+                .claim("roles", List.of("USER", "ADMIN"))
+                .expiration(Date.from(expiresAt))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,46 @@
+package com.platform.gateway.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathPolicyMatcherTest {
+
+    private final PathPolicyMatcher matcher = PathPolicyMatcher.compile(Map.of(
+            "/api/auth/login", AuthPolicy.PUBLIC,
+            "/api/products", AuthPolicy.PUBLIC,
+            "/api/products/admin", AuthPolicy.AUTHENTICATED), AuthPolicy.AUTHENTICATED);
+
+    @Test
+    void match_UsesPrefixPolicy() {
+        // Assert
+        assertEquals(AuthPolicy.PUBLIC, matcher.match("/api/auth/login"));
+        assertEquals(AuthPolicy.PUBLIC, matcher.match("/api/products/42"));
+    }
+
+    @Test
+    void match_LongestPrefixWins() {
+        // Assert
+        assertEquals(AuthPolicy.AUTHENTICATED, matcher.match("/api/products/admin/42"));
+        assertEquals(AuthPolicy.PUBLIC, matcher.match("/api/products/adm"));
+    }
+
+    @Test
+    void match_FallsBackToDefaultPolicy() {
+        // Assert
+        assertEquals(AuthPolicy.AUTHENTICATED, matcher.match("/api/orders"));
+        assertEquals(AuthPolicy.AUTHENTICATED, matcher.match("/api/auth"));
+        assertEquals(AuthPolicy.AUTHENTICATED, matcher.match(""));
+        assertEquals(AuthPolicy.PUBLIC,
+                PathPolicyMatcher.compile(Map.of(), AuthPolicy.PUBLIC).match("/api/orders"));
+    }
+
+    @Test
+    void compile_RejectsEmptyPrefix() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> PathPolicyMatcher.compile(Map.of("", AuthPolicy.PUBLIC), AuthPolicy.AUTHENTICATED));
+    }
+}
@@ -0,0 +1,81 @@
+package com.platform.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void tryAcquire_ShedsBeyondLimit() {
+        // Arrange
+        ConcurrencyLimit limit = new ConcurrencyLimit(2, 1, 10, 2.0);
+
+        // Act & Assert
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        limit.release(10 * MILLIS, false);
+        assertTrue(limit.tryAcquire());
+    }
+
+    @Test
+    void release_GrowsLimitWhileLatencyIsStableAndLimitIsUsed() {
+        // Arrange
+        ConcurrencyLimit limit = new ConcurrencyLimit(10, 1, 100, 2.0);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            saturate(limit);
+            drain(limit, 10 * MILLIS);
+        }
+
+        // Assert
+        assertTrue(limit.limit() > 10, "limit " + limit.limit());
+    }
+
+    @Test
+    void release_ShrinksLimitWhenLatencyRises() {
+        // Arrange
+        ConcurrencyLimit limit = new ConcurrencyLimit(50, 4, 100, 2.0);
+        saturate(limit);
+        drain(limit, 10 * MILLIS);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            saturate(limit);
+            drain(limit, 100 * MILLIS);
+        }
+
+        // Assert
+        assertTrue(limit.limit() < 50, "limit " + limit.limit());
+        assertTrue(limit.limit() >= 4);
+    }
+
+    @Test
+    void release_BacksOffOnOverload() {
+        // Arrange
+        ConcurrencyLimit limit = new ConcurrencyLimit(20, 4, 100, 2.0);
+        limit.tryAcquire();
+
+        // Act
+        limit.release(10 * MILLIS, true);
+
+        // Assert
+        assertEquals(18, limit.limit());
+    }
+
+    private static void saturate(ConcurrencyLimit limit) {
+        while (limit.tryAcquire()) {
+            // fill every slot
+        }
+    }
+
+    private static void drain(ConcurrencyLimit limit, long rttNanos) {
+        while (limit.inFlight() > 0) {
+            limit.release(rttNanos, false);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.platform.gateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class LocalRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new LocalRateLimiter(mock(ConfigurationService.class), meterRegistry, 100,
+                Duration.ofMinutes(1), () -> 0L);
+        LocalRateLimiter.Config config = new LocalRateLimiter.Config();
+        config.setReplenishRate(1);
+        config.setBurstCapacity(2);
+        rateLimiter.getConfig().put("order-service", config);
+    }
+
+    @Test
+    void isAllowed_LimitsEachKeySeparately() {
+        // Act
+        RateLimiter.Response first = rateLimiter.isAllowed("order-service", "user:1").block();
+        rateLimiter.isAllowed("order-service", "user:1").block();
+        RateLimiter.Response third = rateLimiter.isAllowed("order-service", "user:1").block();
+        RateLimiter.Response otherUser = rateLimiter.isAllowed("order-service", "user:2").block();
+
+        // Assert
+        assertTrue(first.isAllowed());
+        assertEquals("1", first.getHeaders().get("X-RateLimit-Remaining"));
+        assertFalse(third.isAllowed());
+        assertEquals("0", third.getHeaders().get("X-RateLimit-Remaining"));
+        assertTrue(otherUser.isAllowed());
+        assertEquals(1, meterRegistry.get("gateway.ratelimit.decision").tag("outcome", "rejected").timer().count());
+        assertEquals(3, meterRegistry.get("gateway.ratelimit.decision").tag("outcome", "allowed").timer().count());
+    }
+}
@@ -0,0 +1,44 @@
+package com.platform.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_AllowsBurstThenRejects() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+        // Act & Assert
+        assertEquals(2, bucket.tryAcquire(1, 0));
+        assertEquals(1, bucket.tryAcquire(1, 0));
+        assertEquals(0, bucket.tryAcquire(1, 0));
+        assertEquals(-1, bucket.tryAcquire(1, 0));
+    }
+
+    @Test
+    void tryAcquire_RefillsAtReplenishRate() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+        bucket.tryAcquire(2, 0);
+
+        // Act & Assert
+        assertEquals(-1, bucket.tryAcquire(1, SECOND / 20));
+        assertEquals(0, bucket.tryAcquire(1, SECOND / 10));
+        assertEquals(1, bucket.tryAcquire(1, 10 * SECOND));
+    }
+
+    @Test
+    void tryAcquire_RejectsRequestLargerThanBurst() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+
+        // Act & Assert
+        assertEquals(-1, bucket.tryAcquire(3, 0));
+        assertEquals(0, bucket.tryAcquire(2, 0));
+    }
+}
@@ -0,0 +1,137 @@
+package com.platform.inventory.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.platform.inventory.entity.Inventory;
+import com.platform.inventory.repository.InventoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Local read cache for the product inventory endpoint. Entries expire after {@code ttl} and are reloaded in the
+ * background once older than {@code refresh-after}, so hot products are served from memory without ever
+ * blocking on a reload. Writers evict the products they changed once their transaction commits.
+ * <p>
+ * With {@code invalidation.enabled}, evictions are also published on the order-events exchange and
+ * applied by every other instance ({@link InventoryCacheInvalidationListener}); otherwise other
+ * instances catch up within the refresh interval.
+ */
+@Component
+@Slf4j
+public class InventoryCache {
+
+    static final String ORIGIN_HEADER = "x-cache-origin";
+
+    private final InventoryRepository inventoryRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final boolean enabled;
+    private final String exchange;
+    private final String routingKey;
+    private final boolean broadcast;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final LoadingCache<String, Optional<Inventory>> products;
+
+    public InventoryCache(InventoryRepository inventoryRepository, RabbitTemplate rabbitTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${inventory.cache.enabled:true}") boolean enabled,
+                          @Value("${inventory.cache.maximum-size:10000}") long maximumSize,
+                          @Value("${inventory.cache.ttl:30s}") Duration ttl,
+                          @Value("${inventory.cache.refresh-after:5s}") Duration refreshAfter,
+                          @Value("${rabbitmq.exchange}") String exchange,
+                          @Value("${inventory.cache.invalidation.routing-key:inventory.cache.invalidate}") String routingKey,
+                          @Value("${inventory.cache.invalidation.enabled:false}") boolean broadcast) {
+        this.inventoryRepository = inventoryRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.enabled = enabled;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.broadcast = broadcast;
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .refreshAfterWrite(refreshAfter)
+                .recordStats()
+                .build(inventoryRepository::findByProductId);
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "inventory.products");
+    }
+
+    public Optional<Inventory> find(String productId) {
+        return enabled ? products.get(productId) : inventoryRepository.findByProductId(productId);
+    }
+
+    /**
+     * Evicts the products here and, when enabled, on the other instances.
+     */
+    public void evict(Collection<String> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        evictLocally(productIds);
+        if (broadcast) {
+            publish(productIds);
+        }
+    }
+
+    /**
+     * Evicts once the current transaction commits (immediately outside a transaction), so a reload
+     * cannot pick up the old row after the eviction.
+     */
+    public void evictAfterCommit(Collection<String> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(productIds);
+            return;
+        }
+        List<String> changed = List.copyOf(productIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(changed);
+            }
+        });
+    }
+
+    void evictLocally(Collection<String> productIds) {
+        products.invalidateAll(productIds);
+    }
+
+    void onInvalidation(Message message) {
+        if (instanceId.equals(message.getMessageProperties().getHeader(ORIGIN_HEADER))) {
+            return;
+        }
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        evictLocally(Arrays.asList(body.split("\n")));
+    }
+
+    private void publish(Collection<String> productIds) {
+        Message message = MessageBuilder.withBody(String.join("\n", productIds).getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN)
+                .setHeader(ORIGIN_HEADER, instanceId)
+                .build();
+        try {
+            rabbitTemplate.send(exchange, routingKey, message);
+        } catch (RuntimeException e) {
+            // Other instances fall back to the refresh interval
+            log.warn("Failed to publish cache invalidation for {} products: {}", productIds.size(), e.getMessage());
+        }
+    }
+}
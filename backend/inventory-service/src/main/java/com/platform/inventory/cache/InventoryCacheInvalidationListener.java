@@ -0,0 +1,31 @@
+package com.platform.inventory.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies cache evictions published by other inventory instances. Each instance consumes from its own
+ * auto-deleted queue, so every instance sees every eviction.
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.cache.invalidation.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class InventoryCacheInvalidationListener {
+
+    private final InventoryCache inventoryCache;
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue,
+            exchange = @Exchange(name = "${rabbitmq.exchange}", type = ExchangeTypes.TOPIC),
+            key = "${inventory.cache.invalidation.routing-key:inventory.cache.invalidate}"))
+    public void handleInvalidation(Message message) {
+        inventoryCache.onInvalidation(message);
+    }
+}
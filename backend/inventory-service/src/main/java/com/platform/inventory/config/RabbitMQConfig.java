@@ -1,5 +1,8 @@
 package com.platform.inventory.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.shared.serialization.EventMessageConverter;
+import com.platform.shared.serialization.SerializationFormat;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
@@ -18,17 +21,52 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.exchange}")
     private String exchange;
 
+    @Value("${rabbitmq.serialization.format:json}")
+    private SerializationFormat serializationFormat;
+
     @Value("${rabbitmq.queue}")
     private String queue;
 
     @Value("${rabbitmq.routing-key}")
     private String routingKey;
 
+    @Value("${rabbitmq.dead-letter-queue}")
+    private String deadLetterQueue;
+
+    @Value("${rabbitmq.queues.order-paid}")
+    private String orderPaidQueue;
+
+    @Value("${rabbitmq.queues.order-shipped}")
+    private String orderShippedQueue;
+
+    @Value("${rabbitmq.queues.order-cancelled}")
+    private String orderCancelledQueue;
+
     @Bean
     public Queue inventoryQueue() {
         return new Queue(queue, true);
     }
 
+    @Bean
+    public Queue inventoryDeadLetterQueue() {
+        return new Queue(deadLetterQueue, true);
+    }
+
+    @Bean
+    public Queue orderPaidQueue() {
+        return new Queue(orderPaidQueue, true);
+    }
+
+    @Bean
+    public Queue orderShippedQueue() {
+        return new Queue(orderShippedQueue, true);
+    }
+
+    @Bean
+    public Queue orderCancelledQueue() {
+        return new Queue(orderCancelledQueue, true);
+    }
+
     @Bean
     public TopicExchange orderExchange() {
         return new TopicExchange(exchange);
@@ -40,14 +78,32 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    public MessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public Binding orderPaidBinding(Queue orderPaidQueue, TopicExchange orderExchange) {
+        return BindingBuilder.bind(orderPaidQueue).to(orderExchange).with("order.paid");
+    }
+
+    @Bean
+    public Binding orderShippedBinding(Queue orderShippedQueue, TopicExchange orderExchange) {
+        return BindingBuilder.bind(orderShippedQueue).to(orderExchange).with("order.shipped");
+    }
+
+    @Bean
+    public Binding orderCancelledBinding(Queue orderCancelledQueue, TopicExchange orderExchange) {
+        return BindingBuilder.bind(orderCancelledQueue).to(orderExchange).with("order.cancelled");
+    }
+
+    @Bean
+    public MessageConverter messageConverter(ObjectMapper objectMapper) {
+        // Boot's ObjectMapper: the converter's own mapper has no java.time support
+        return new EventMessageConverter(new Jackson2JsonMessageConverter(objectMapper), serializationFormat);
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(messageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter);
+        // Sends become spans and carry the trace context to the consumers
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
 }
@@ -1,42 +1,97 @@
 package com.platform.inventory.controller;
 
+import com.platform.inventory.cache.InventoryCache;
+import com.platform.inventory.dto.InventoryPage;
 import com.platform.inventory.entity.Inventory;
+import com.platform.inventory.ledger.StockLedger;
 import com.platform.inventory.repository.InventoryRepository;
+import com.platform.inventory.service.InventoryExportService;
+import com.platform.inventory.service.InventoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/inventory")
 @RequiredArgsConstructor
 public class InventoryController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
     private final InventoryRepository inventoryRepository;
+    private final StockLedger stockLedger;
+    private final InventoryCache inventoryCache;
+    private final InventoryService inventoryService;
+    private final InventoryExportService inventoryExportService;
 
+    /**
+     * Inventory a page at a time in productId order; pass the returned {@code nextCursor} for the next page.
+     */
     @GetMapping
-    public ResponseEntity<List<Inventory>> getAllInventory() {
-        return ResponseEntity.ok(inventoryRepository.findAll());
+    public ResponseEntity<InventoryPage> getInventoryPage(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "100") int size,
+                                                          @RequestParam(required = false) Integer lowStockBelow) {
+        return ResponseEntity.ok(inventoryService.getInventoryPage(cursor, size, lowStockBelow));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportInventory(@RequestParam(defaultValue = "ndjson") String format,
+                                                                 @RequestParam(required = false) Integer lowStockBelow) {
+        InventoryExportService.Format exportFormat = InventoryExportService.Format.parse(format);
+        String filename = "inventory." + exportFormat.name().toLowerCase();
+        return ResponseEntity.ok()
+                .contentType(exportFormat == InventoryExportService.Format.CSV ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(out -> inventoryExportService.export(exportFormat, lowStockBelow, out));
     }
 
     @GetMapping("/{productId}")
     public ResponseEntity<Inventory> getInventoryByProductId(@PathVariable String productId) {
-        return inventoryRepository.findByProductId(productId)
+        return inventoryCache.find(productId)
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PostMapping
     public ResponseEntity<Inventory> createInventory(@RequestBody Inventory inventory) {
-        return ResponseEntity.ok(inventoryRepository.save(inventory));
+        Inventory saved = inventoryRepository.save(inventory);
+        inventoryCache.evict(List.of(saved.getProductId()));
+        return ResponseEntity.ok(saved);
     }
 
     @PutMapping("/{productId}")
     public ResponseEntity<Inventory> updateInventory(@PathVariable String productId, @RequestBody Inventory inventory) {
         Inventory existing = inventoryRepository.findByProductId(productId)
                 .orElseThrow(() -> new RuntimeException("Inventory not found"));
+        int delta = inventory.getQuantity() - existing.getQuantity();
         existing.setQuantity(inventory.getQuantity());
-        return ResponseEntity.ok(inventoryRepository.save(existing));
+        Inventory saved = inventoryRepository.save(existing);
+        stockLedger.adjustQuantity(productId, delta);
+        inventoryCache.evict(List.of(productId));
+        return ResponseEntity.ok(saved);
+    }
+
+    @GetMapping("/ledger")
+    public ResponseEntity<Set<String>> getLedgerProducts() {
+        return ResponseEntity.ok(stockLedger.managedProductIds());
+    }
+
+    @PutMapping("/{productId}/ledger")
+    public ResponseEntity<Void> enableLedger(@PathVariable String productId) {
+        stockLedger.enable(productId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{productId}/ledger")
+    public ResponseEntity<Void> disableLedger(@PathVariable String productId) {
+        stockLedger.disable(productId);
+        return ResponseEntity.noContent().build();
     }
 }
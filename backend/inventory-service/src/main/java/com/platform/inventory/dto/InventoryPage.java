@@ -0,0 +1,12 @@
+package com.platform.inventory.dto;
+
+import com.platform.inventory.entity.Inventory;
+
+import java.util.List;
+
+/**
+ * One page of inventory in productId order. {@code nextCursor} (the last productId of the page) is null
+ * on the last page.
+ */
+public record InventoryPage(List<Inventory> items, String nextCursor) {
+}
@@ -0,0 +1,123 @@
+package com.platform.inventory.ledger;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+class SkuLedger {
+
+    // Same padding as StripedCounter
+    private static final int PAD = 8;
+
+    private final StripedCounter available;
+    private final int shards;
+
+    // Net reserved units not yet written back to the inventory table
+    private final LongAdder pendingReserved = new LongAdder();
+
+    // Reserves and releases in progress, per home shard; retire() waits for them to drain
+    private final AtomicLongArray inFlight;
+
+    private volatile boolean retired;
+
+    // Open from retire() until the ledger is reopened or has been dropped; callers turned away wait on it
+    private volatile CountDownLatch retirement = new CountDownLatch(0);
+
+    SkuLedger(int shards, long available) {
+        this.available = new StripedCounter(shards, available);
+        this.shards = shards;
+        this.inFlight = new AtomicLongArray(shards * PAD);
+    }
+
+    long available() {
+        return available.sum();
+    }
+
+    /**
+     * Registers a reserve or release about to change the pending delta.
+     *
+     * @return the slot to pass to {@link #exit}, or -1 when the ledger is retired and must not be touched
+     */
+    int enter() {
+        int slot = StripedCounter.home(shards) * PAD;
+        inFlight.incrementAndGet(slot);
+        // Paired with retire(): either it sees this increment and waits, or this sees the flag
+        if (retired) {
+            inFlight.decrementAndGet(slot);
+            return -1;
+        }
+        return slot;
+    }
+
+    void exit(int slot) {
+        inFlight.decrementAndGet(slot);
+    }
+
+    boolean reserve(long amount) {
+        if (!available.tryAcquire(amount)) {
+            return false;
+        }
+        pendingReserved.add(amount);
+        return true;
+    }
+
+    void release(long amount) {
+        pendingReserved.add(-amount);
+        available.add(amount);
+    }
+
+    void adjustQuantity(long delta) {
+        available.add(delta);
+    }
+
+    long drainPending() {
+        return pendingReserved.sumThenReset();
+    }
+
+    void restorePending(long delta) {
+        pendingReserved.add(delta);
+    }
+
+    /**
+     * Stops new reserves and releases and waits until those in progress are done, so the pending delta
+     * can be drained one last time.
+     */
+    void retire() {
+        // Published before the flag, so a caller that sees the flag waits on this retirement's latch
+        retirement = new CountDownLatch(1);
+        retired = true;
+        for (int slot = 0; slot < shards * PAD; slot += PAD) {
+            while (inFlight.get(slot) != 0) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    void reopen() {
+        retired = false;
+        endRetirement();
+    }
+
+    /**
+     * Wakes the callers waiting in {@link #awaitRetirement}: the ledger was reopened, or it has been dropped
+     * and they must look the SKU up again.
+     */
+    void endRetirement() {
+        retirement.countDown();
+    }
+
+    void awaitRetirement() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                retirement.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.platform.inventory.ledger;
+
+import com.platform.inventory.cache.InventoryCache;
+import com.platform.inventory.entity.Inventory;
+import com.platform.inventory.repository.InventoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process reservation engine for hot SKUs. Availability of an enabled SKU is answered from a
+ * {@link StripedCounter} instead of the inventory row, and the net reserved delta is written back
+ * to the table periodically.
+ * <p>
+ * The ledger owns the SKU's availability: it must only be enabled on one inventory-service instance
+ * at a time, and reservations taken since the last flush are lost if the process dies. Disabling a SKU
+ * retires its ledger before the final flush; callers that race with it fall back to the table.
+ */
+@Component
+@Slf4j
+public class StockLedger {
+
+    private final InventoryRepository inventoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate requiresNew;
+    private final InventoryCache inventoryCache;
+    private final Map<String, SkuLedger> ledgers = new ConcurrentHashMap<>();
+
+    @Value("${inventory.ledger.shards:16}")
+    private int shards = 16;
+
+    @Value("${inventory.ledger.skus:}")
+    private List<String> configuredSkus = List.of();
+
+    public StockLedger(InventoryRepository inventoryRepository, PlatformTransactionManager transactionManager) {
+        this(inventoryRepository, transactionManager, null);
+    }
+
+    @Autowired
+    public StockLedger(InventoryRepository inventoryRepository, PlatformTransactionManager transactionManager,
+                       InventoryCache inventoryCache) {
+        this.inventoryRepository = inventoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.inventoryCache = inventoryCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadConfiguredSkus() {
+        configuredSkus.stream().filter(sku -> !sku.isBlank()).forEach(this::enable);
+    }
+
+    public boolean isManaged(String productId) {
+        return !ledgers.isEmpty() && ledgers.containsKey(productId);
+    }
+
+    public Set<String> managedProductIds() {
+        return Set.copyOf(ledgers.keySet());
+    }
+
+    public boolean canReserve(String productId, int quantity) {
+        return ledger(productId).available() >= quantity;
+    }
+
+    public boolean reserve(String productId, int quantity) {
+        Outcome outcome = tryReserve(productId, quantity);
+        if (outcome == Outcome.NOT_MANAGED) {
+            throw new IllegalStateException("Product is not managed by the stock ledger: " + productId);
+        }
+        return outcome == Outcome.RESERVED;
+    }
+
+    /**
+     * Reserves from the SKU's ledger if it has one, checking membership and availability in one step so a
+     * concurrent {@link #disable} cannot slip in between.
+     */
+    public Outcome tryReserve(String productId, int quantity) {
+        SkuLedger ledger = ledgers.get(productId);
+        if (ledger == null) {
+            return Outcome.NOT_MANAGED;
+        }
+        int slot = ledger.enter();
+        if (slot < 0) {
+            ledger.awaitRetirement();
+            return tryReserve(productId, quantity);
+        }
+        try {
+            return ledger.reserve(quantity) ? Outcome.RESERVED : Outcome.INSUFFICIENT;
+        } finally {
+            ledger.exit(slot);
+        }
+    }
+
+    /**
+     * Hands back units taken from the SKU's ledger. If the ledger was retired since, they were flushed to the
+     * table with it and are released there instead.
+     */
+    public void release(String productId, int quantity) {
+        SkuLedger ledger = ledgers.get(productId);
+        if (ledger == null) {
+            releaseToTable(productId, quantity);
+            return;
+        }
+        int slot = ledger.enter();
+        if (slot < 0) {
+            ledger.awaitRetirement();
+            release(productId, quantity);
+            return;
+        }
+        try {
+            ledger.release(quantity);
+        } finally {
+            ledger.exit(slot);
+        }
+    }
+
+    public void adjustQuantity(String productId, int delta) {
+        SkuLedger ledger = ledgers.get(productId);
+        if (ledger != null) {
+            ledger.adjustQuantity(delta);
+        }
+    }
+
+    /**
+     * Starts answering the SKU's availability from memory. Does nothing if it is already managed: reloading
+     * from the table would drop the reservations not flushed yet.
+     */
+    public void enable(String productId) {
+        if (ledgers.containsKey(productId)) {
+            log.info("Stock ledger already enabled for product {}", productId);
+            return;
+        }
+        Inventory inventory = inventoryRepository.findByProductId(productId)
+                .orElseThrow(() -> new RuntimeException("Product not found in inventory: " + productId));
+        if (load(productId, inventory.getAvailable())) {
+            log.info("Stock ledger enabled for product {} with {} available", productId, inventory.getAvailable());
+        }
+    }
+
+    /**
+     * Retires the SKU's ledger, writes its last pending delta and hands the SKU back to the table. If that
+     * write fails the ledger is reopened and the SKU stays managed.
+     */
+    public void disable(String productId) {
+        SkuLedger ledger = ledgers.get(productId);
+        if (ledger == null) {
+            return;
+        }
+        synchronized (ledger) {
+            if (ledgers.get(productId) != ledger) {
+                return;
+            }
+            ledger.retire();
+            if (!flush(productId, ledger)) {
+                ledger.reopen();
+                throw new RuntimeException("Failed to flush the stock ledger of product " + productId + "; it stays enabled");
+            }
+            ledgers.remove(productId);
+            ledger.endRetirement();
+        }
+        log.info("Stock ledger disabled for product {}", productId);
+    }
+
+    boolean load(String productId, long available) {
+        return ledgers.putIfAbsent(productId, new SkuLedger(shards, available)) == null;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.ledger.flush-interval-ms:500}")
+    public void flush() {
+        ledgers.forEach(this::flush);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // Serialized per ledger so a failed flush cannot restore its delta after disable() drained the rest
+    private boolean flush(String productId, SkuLedger ledger) {
+        synchronized (ledger) {
+            long delta = ledger.drainPending();
+            if (delta == 0) {
+                return true;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        inventoryRepository.addReserved(productId, Math.toIntExact(delta)));
+                evict(productId);
+                return true;
+            } catch (RuntimeException e) {
+                ledger.restorePending(delta);
+                log.warn("Failed to flush {} reserved units for product {}: {}", delta, productId, e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    // Own transaction: callers may be rolling back theirs, and the units must come back either way
+    private void releaseToTable(String productId, int quantity) {
+        requiresNew.executeWithoutResult(status -> inventoryRepository.addReserved(productId, -quantity));
+        evict(productId);
+    }
+
+    private void evict(String productId) {
+        if (inventoryCache != null) {
+            inventoryCache.evict(List.of(productId));
+        }
+    }
+
+    private SkuLedger ledger(String productId) {
+        SkuLedger ledger = ledgers.get(productId);
+        if (ledger == null) {
+            throw new IllegalStateException("Product is not managed by the stock ledger: " + productId);
+        }
+        return ledger;
+    }
+
+    public enum Outcome {
+        RESERVED, INSUFFICIENT, NOT_MANAGED
+    }
+}
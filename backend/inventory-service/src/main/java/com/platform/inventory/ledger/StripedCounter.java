@@ -0,0 +1,106 @@
+package com.platform.inventory.ledger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free counter of available units split across cache-line padded shards.
+ * Each thread takes from its home shard with a single CAS and only walks the other
+ * shards when its own one runs dry, so threads hammering the same SKU rarely collide.
+ */
+class StripedCounter {
+
+    // 8 longs = 64 bytes, keeps two shards off the same cache line
+    private static final int PAD = 8;
+
+    private final AtomicLongArray cells;
+    private final int shards;
+
+    // Units owed after the quantity was lowered below what the shards still held
+    private final AtomicLong debt = new AtomicLong();
+
+    StripedCounter(int shards, long initial) {
+        this.shards = shards;
+        this.cells = new AtomicLongArray(shards * PAD);
+        long share = initial / shards;
+        for (int i = 0; i < shards; i++) {
+            cells.set(i * PAD, share);
+        }
+        cells.addAndGet(0, initial - share * shards);
+    }
+
+    long sum() {
+        long sum = 0;
+        for (int i = 0; i < shards; i++) {
+            sum += cells.get(i * PAD);
+        }
+        return sum - debt.get();
+    }
+
+    boolean tryAcquire(long amount) {
+        int home = home();
+        int homeIndex = home * PAD;
+        long value;
+        while ((value = cells.get(homeIndex)) >= amount) {
+            if (cells.compareAndSet(homeIndex, value, value - amount)) {
+                return true;
+            }
+        }
+
+        long taken = drain(home, amount);
+        if (taken == amount) {
+            return true;
+        }
+        if (taken > 0) {
+            cells.addAndGet(homeIndex, taken);
+        }
+        return false;
+    }
+
+    void add(long amount) {
+        if (amount < 0) {
+            long shortfall = -amount - drain(home(), -amount);
+            if (shortfall > 0) {
+                debt.addAndGet(shortfall);
+            }
+            return;
+        }
+
+        long remaining = amount;
+        long owed;
+        while (remaining > 0 && (owed = debt.get()) > 0) {
+            long repay = Math.min(owed, remaining);
+            if (debt.compareAndSet(owed, owed - repay)) {
+                remaining -= repay;
+            }
+        }
+        if (remaining > 0) {
+            cells.addAndGet(home() * PAD, remaining);
+        }
+    }
+
+    private long drain(int start, long amount) {
+        long taken = 0;
+        for (int i = 0; i < shards && taken < amount; i++) {
+            int index = ((start + i) % shards) * PAD;
+            long value;
+            while ((value = cells.get(index)) > 0) {
+                long take = Math.min(value, amount - taken);
+                if (cells.compareAndSet(index, value, value - take)) {
+                    taken += take;
+                    break;
+                }
+            }
+        }
+        return taken;
+    }
+
+    private int home() {
+        return home(shards);
+    }
+
+    // A thread's home shard never changes, so per-shard counters it increments and decrements stay balanced
+    static int home(int shards) {
+        return (int) ((Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L) >>> 33) % shards;
+    }
+}
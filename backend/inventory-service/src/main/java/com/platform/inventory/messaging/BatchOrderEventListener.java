@@ -0,0 +1,120 @@
+package com.platform.inventory.messaging;
+
+import com.platform.inventory.service.BatchReservationResult;
+import com.platform.inventory.service.InventoryService;
+import com.platform.shared.idempotency.IdempotentBatch;
+import com.platform.shared.events.OrderCreatedEvent;
+import com.platform.shared.metrics.EventMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch variant of {@link OrderEventListener}: receives up to {@code rabbitmq.listener.batch.size} deliveries at once,
+ * reserves them in a single transaction and lets the container ack the whole batch.
+ * Every order gets a reserved or rejected result; messages that cannot be converted or fail unexpectedly
+ * are moved to the dead-letter queue on their own.
+ */
+@Component
+@ConditionalOnProperty(name = "rabbitmq.batch.enabled", havingValue = "true")
+@Slf4j
+public class BatchOrderEventListener {
+
+    private static final String REJECTED_REASON = "Insufficient inventory";
+
+    private final InventoryService inventoryService;
+    private final ReservationResultPublisher resultPublisher;
+    private final MessageConverter messageConverter;
+    private final RabbitTemplate rabbitTemplate;
+    private final EventMetrics eventMetrics;
+    private final Counter reservedOrders;
+    private final Counter rejectedOrders;
+
+    @Value("${rabbitmq.dead-letter-queue}")
+    private String deadLetterQueue;
+
+    public BatchOrderEventListener(InventoryService inventoryService, ReservationResultPublisher resultPublisher,
+                                   MessageConverter messageConverter, RabbitTemplate rabbitTemplate,
+                                   EventMetrics eventMetrics, MeterRegistry meterRegistry) {
+        this.inventoryService = inventoryService;
+        this.resultPublisher = resultPublisher;
+        this.messageConverter = messageConverter;
+        this.rabbitTemplate = rabbitTemplate;
+        this.eventMetrics = eventMetrics;
+        this.reservedOrders = OrderEventListener.reservations(meterRegistry, "reserved");
+        this.rejectedOrders = OrderEventListener.reservations(meterRegistry, "rejected");
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queue}", containerFactory = "batchListenerContainerFactory")
+    public void handleOrderCreatedBatch(List<Message> messages) {
+        log.info("Received batch of {} order created events", messages.size());
+        Timer.Sample sample = eventMetrics.startProcessing();
+
+        Map<OrderCreatedEvent, Message> events = new IdentityHashMap<>();
+        for (Message message : messages) {
+            try {
+                OrderCreatedEvent event = (OrderCreatedEvent) messageConverter.fromMessage(message);
+                eventMetrics.recordLag(OrderEventListener.ORDER_CREATED, event.getCreatedAt());
+                events.put(event, message);
+            } catch (RuntimeException e) {
+                log.error("Discarding unreadable order created message: {}", e.getMessage());
+                deadLetter(message);
+            }
+        }
+        if (events.isEmpty()) {
+            eventMetrics.recordProcessing(sample, OrderEventListener.ORDER_CREATED, EventMetrics.FAILURE);
+            return;
+        }
+
+        List<OrderCreatedEvent> reserved = new ArrayList<>();
+        List<OrderCreatedEvent> rejected = new ArrayList<>();
+        try {
+            BatchReservationResult result = inventoryService.reserveBatch(new ArrayList<>(events.keySet()));
+            reserved.addAll(result.reserved());
+            rejected.addAll(result.rejected());
+        } catch (RuntimeException e) {
+            log.warn("Batch reservation failed, retrying events one by one: {}", e.getMessage());
+            reserveIndividually(events, reserved, rejected);
+        }
+        reserved.forEach(event -> resultPublisher.publishReserved(event.getOrderId()));
+        rejected.forEach(event -> resultPublisher.publishRejected(event.getOrderId(), REJECTED_REASON));
+
+        reservedOrders.increment(reserved.size());
+        rejectedOrders.increment(rejected.size());
+        eventMetrics.recordProcessing(sample, OrderEventListener.ORDER_CREATED, EventMetrics.SUCCESS);
+    }
+
+    private void reserveIndividually(Map<OrderCreatedEvent, Message> events, List<OrderCreatedEvent> reserved,
+                                     List<OrderCreatedEvent> rejected) {
+        for (Map.Entry<OrderCreatedEvent, Message> entry : events.entrySet()) {
+            OrderCreatedEvent event = entry.getKey();
+            try {
+                BatchReservationResult result = inventoryService.reserveBatch(List.of(event));
+                reserved.addAll(result.reserved());
+                rejected.addAll(result.rejected());
+            } catch (RuntimeException e) {
+                log.error("Failed to reserve inventory for order {}: {}", event.getOrderId(), e.getMessage());
+                deadLetter(entry.getValue());
+            }
+        }
+    }
+
+    private void deadLetter(Message message) {
+        rabbitTemplate.send("", deadLetterQueue, message);
+        // Not recorded as processed, so a redrive from the dead-letter queue is handled again
+        IdempotentBatch.notProcessed(message);
+    }
+}
@@ -1,39 +1,68 @@
 package com.platform.inventory.messaging;
 
-import com.platform.inventory.entity.Inventory;
-import com.platform.inventory.repository.InventoryRepository;
+import com.platform.inventory.service.InventoryService;
+import com.platform.inventory.service.ReservationResult;
 import com.platform.shared.events.OrderCreatedEvent;
-import lombok.RequiredArgsConstructor;
+import com.platform.shared.metrics.EventMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rabbitmq.batch.enabled", havingValue = "false", matchIfMissing = true)
 @Slf4j
 public class OrderEventListener {
 
-    private final InventoryRepository inventoryRepository;
+    static final String ORDER_CREATED = "order.created";
+
+    private final InventoryService inventoryService;
+    private final ReservationResultPublisher resultPublisher;
+    private final EventMetrics eventMetrics;
+    private final Counter reservedOrders;
+    private final Counter rejectedOrders;
+
+    public OrderEventListener(InventoryService inventoryService, ReservationResultPublisher resultPublisher,
+                              EventMetrics eventMetrics, MeterRegistry meterRegistry) {
+        this.inventoryService = inventoryService;
+        this.resultPublisher = resultPublisher;
+        this.eventMetrics = eventMetrics;
+        this.reservedOrders = reservations(meterRegistry, "reserved");
+        this.rejectedOrders = reservations(meterRegistry, "rejected");
+    }
 
     @RabbitListener(queues = "${rabbitmq.queue}")
-    @Transactional
     public void handleOrderCreated(OrderCreatedEvent event) {
         log.info("Received order created event: {}", event.getOrderId());
+        eventMetrics.recordLag(ORDER_CREATED, event.getCreatedAt());
+        Timer.Sample sample = eventMetrics.startProcessing();
 
-        // Reserve inventory for each item in the order
-        for (OrderCreatedEvent.OrderItem item : event.getItems()) {
-            Inventory inventory = inventoryRepository.findByProductId(item.getProductId())
-                    .orElseThrow(() -> new RuntimeException("Product not found in inventory: " + item.getProductId()));
-
-            try {
-                inventory.reserve(item.getQuantity());
-                inventoryRepository.save(inventory);
-                log.info("Reserved {} units of product {}", item.getQuantity(), item.getProductId());
-            } catch (RuntimeException e) {
-                log.error("Failed to reserve inventory for product {}: {}", item.getProductId(), e.getMessage());
-                throw e;
+        try {
+            ReservationResult result = inventoryService.reserveOrder(event);
+            if (result.reserved()) {
+                reservedOrders.increment();
+                resultPublisher.publishReserved(event.getOrderId());
+            } else {
+                // A rejection is an answer, not a failure: ack it instead of redelivering it forever
+                log.warn("Rejected order {}: {}", event.getOrderId(), result.reason());
+                rejectedOrders.increment();
+                resultPublisher.publishRejected(event.getOrderId(), result.reason());
             }
+            eventMetrics.recordProcessing(sample, ORDER_CREATED, EventMetrics.SUCCESS);
+        } catch (RuntimeException e) {
+            log.error("Failed to reserve inventory for order {}: {}", event.getOrderId(), e.getMessage());
+            eventMetrics.recordProcessing(sample, ORDER_CREATED, EventMetrics.FAILURE);
+            throw e;
         }
     }
+
+    static Counter reservations(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("inventory.reservations")
+                .description("Orders whose stock reservation succeeded or was rejected")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
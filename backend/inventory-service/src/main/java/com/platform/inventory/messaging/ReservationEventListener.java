@@ -0,0 +1,64 @@
+package com.platform.inventory.messaging;
+
+import com.platform.inventory.service.ReservationService;
+import com.platform.shared.events.OrderCancelledEvent;
+import com.platform.shared.events.OrderPaidEvent;
+import com.platform.shared.events.OrderShippedEvent;
+import com.platform.shared.metrics.EventMetrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Commits an order's reservation once it is paid. Shipping commits it too, for orders whose payment
+ * event was lost or arrives late; after a payment there is nothing left to commit. Cancelling an unpaid
+ * order releases its reservation.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationEventListener {
+
+    private final ReservationService reservationService;
+    private final EventMetrics eventMetrics;
+
+    @RabbitListener(queues = "${rabbitmq.queues.order-paid}")
+    public void handleOrderPaid(OrderPaidEvent event) {
+        log.debug("Received order paid event: {}", event.getOrderId());
+        commit("order.paid", event.getOrderId(), event.getPaidAt());
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queues.order-shipped}")
+    public void handleOrderShipped(OrderShippedEvent event) {
+        log.debug("Received order shipped event: {}", event.getOrderId());
+        commit("order.shipped", event.getOrderId(), event.getShippedAt());
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queues.order-cancelled}")
+    public void handleOrderCancelled(OrderCancelledEvent event) {
+        log.debug("Received order cancelled event: {}", event.getOrderId());
+        close("order.cancelled", event.getOrderId(), event.getCancelledAt(), reservationService::release);
+    }
+
+    private void commit(String event, String orderId, LocalDateTime occurredAt) {
+        close(event, orderId, occurredAt, reservationService::commit);
+    }
+
+    private void close(String event, String orderId, LocalDateTime occurredAt, Consumer<String> action) {
+        eventMetrics.recordLag(event, occurredAt);
+        Timer.Sample sample = eventMetrics.startProcessing();
+        try {
+            action.accept(orderId);
+            eventMetrics.recordProcessing(sample, event, EventMetrics.SUCCESS);
+        } catch (RuntimeException e) {
+            log.error("Failed to apply {} to the reservation of order {}: {}", event, orderId, e.getMessage());
+            eventMetrics.recordProcessing(sample, event, EventMetrics.FAILURE);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.platform.inventory.messaging;
+
+import com.platform.shared.events.InventoryExpiredEvent;
+import com.platform.shared.events.InventoryRejectedEvent;
+import com.platform.shared.events.InventoryReservedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tells order-service whether an order's stock was reserved ({@code inventory.reserved}) or not
+ * ({@code inventory.rejected}), and when an unpaid order's hold ran out ({@code inventory.expired}).
+ * Results are sent once the listener's transaction commits, so a reservation that is rolled back is
+ * never announced. A result lost to a broker outage is not resent: order-service cancels orders still
+ * unpaid after {@code orders.expiry.payment-timeout}, and its {@code order.cancelled} releases the hold.
+ */
+@Component
+@Slf4j
+public class ReservationResultPublisher {
+
+    static final String RESERVED = "inventory.reserved";
+    static final String REJECTED = "inventory.rejected";
+    static final String EXPIRED = "inventory.expired";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+
+    public ReservationResultPublisher(RabbitTemplate rabbitTemplate, @Value("${rabbitmq.exchange}") String exchange) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+    }
+
+    public void publishReserved(String orderId) {
+        afterCommit(RESERVED, orderId, new InventoryReservedEvent(orderId, LocalDateTime.now()));
+    }
+
+    public void publishRejected(String orderId, String reason) {
+        afterCommit(REJECTED, orderId, new InventoryRejectedEvent(orderId, reason, LocalDateTime.now()));
+    }
+
+    public void publishExpired(String orderId) {
+        afterCommit(EXPIRED, orderId, new InventoryExpiredEvent(orderId, LocalDateTime.now()));
+    }
+
+    private void afterCommit(String routingKey, String orderId, Object event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(routingKey, orderId, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(routingKey, orderId, event);
+            }
+        });
+    }
+
+    private void send(String routingKey, String orderId, Object event) {
+        try {
+            rabbitTemplate.convertAndSend(exchange, routingKey, event);
+        } catch (RuntimeException e) {
+            log.error("Failed to publish {} for order {}: {}", routingKey, orderId, e.getMessage());
+        }
+    }
+}
@@ -1,12 +1,44 @@
 package com.platform.inventory.repository;
 
 import com.platform.inventory.entity.Inventory;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface InventoryRepository extends JpaRepository<Inventory, String> {
+public interface InventoryRepository extends JpaRepository<Inventory, String>, InventoryRepositoryCustom {
     Optional<Inventory> findByProductId(String productId);
+
+    // Keyset pages walk the unique productId index; pass "" for the first page
+    @Query("SELECT i FROM Inventory i WHERE i.productId > :after ORDER BY i.productId")
+    List<Inventory> findPage(@Param("after") String after, Limit limit);
+
+    @Query("SELECT i FROM Inventory i WHERE i.productId > :after AND i.quantity - i.reserved < :threshold "
+            + "ORDER BY i.productId")
+    List<Inventory> findLowStockPage(@Param("after") String after, @Param("threshold") int threshold, Limit limit);
+
+    // Returns 1 when the reservation was applied, 0 when the product is unknown or short on stock
+    @Modifying
+    @Query("UPDATE Inventory i SET i.reserved = i.reserved + :quantity "
+            + "WHERE i.productId = :productId AND i.quantity - i.reserved >= :quantity")
+    int tryReserve(@Param("productId") String productId, @Param("quantity") int quantity);
+
+    // Write-behind for the stock ledger, which has already validated availability in memory
+    @Modifying
+    @Query("UPDATE Inventory i SET i.reserved = i.reserved + :delta WHERE i.productId = :productId")
+    int addReserved(@Param("productId") String productId, @Param("delta") int delta);
+
+    // Rows are locked in productId order so concurrent batches cannot deadlock on each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Inventory i WHERE i.productId IN :productIds ORDER BY i.productId")
+    List<Inventory> findAllByProductIdInForUpdate(@Param("productIds") Collection<String> productIds);
 }
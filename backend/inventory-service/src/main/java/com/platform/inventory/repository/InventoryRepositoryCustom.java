@@ -0,0 +1,30 @@
+package com.platform.inventory.repository;
+
+import java.util.List;
+import java.util.Map;
+
+public interface InventoryRepositoryCustom {
+
+    /**
+     * Reserves every product of the map in a single conditional UPDATE.
+     *
+     * @return the products that were reserved; when some are missing, at least one product was unknown or
+     * short on stock and the caller must release the ones returned
+     */
+    List<String> tryReserveAll(Map<String, Integer> quantities);
+
+    /**
+     * Returns reserved units to available stock, one batched UPDATE per product, as {@code Inventory.release} does.
+     */
+    void releaseReserved(Map<String, Integer> quantities);
+
+    /**
+     * Takes reserved units out of stock (quantity and reserved both drop), as {@code Inventory.decreaseQuantity} does.
+     */
+    void commitReserved(Map<String, Integer> quantities);
+
+    /**
+     * Lowers quantity only, for products whose reserved count is written back by the stock ledger.
+     */
+    void decreaseQuantity(Map<String, Integer> quantities);
+}
@@ -0,0 +1,75 @@
+package com.platform.inventory.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class InventoryRepositoryImpl implements InventoryRepositoryCustom {
+
+    private static final String RESERVE_ALL_SQL = """
+            UPDATE inventory i SET reserved = i.reserved + r.quantity
+            FROM unnest(?::varchar[], ?::int[]) AS r(product_id, quantity)
+            WHERE i.product_id = r.product_id AND i.quantity - i.reserved >= r.quantity
+            RETURNING i.product_id
+            """;
+
+    private static final String RELEASE_SQL =
+            "UPDATE inventory SET reserved = GREATEST(reserved - ?, 0) WHERE product_id = ?";
+
+    private static final String COMMIT_SQL = "UPDATE inventory SET quantity = GREATEST(quantity - ?, 0), "
+            + "reserved = GREATEST(reserved - ?, 0) WHERE product_id = ?";
+
+    private static final String DECREASE_QUANTITY_SQL =
+            "UPDATE inventory SET quantity = GREATEST(quantity - ?, 0) WHERE product_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<String> tryReserveAll(Map<String, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+        String[] productIds = quantities.keySet().toArray(String[]::new);
+        Integer[] amounts = quantities.values().toArray(Integer[]::new);
+
+        return jdbcTemplate.query(RESERVE_ALL_SQL, ps -> {
+            Array productIdArray = ps.getConnection().createArrayOf("varchar", productIds);
+            Array amountArray = ps.getConnection().createArrayOf("int4", amounts);
+            ps.setArray(1, productIdArray);
+            ps.setArray(2, amountArray);
+        }, (rs, rowNum) -> rs.getString(1));
+    }
+
+    @Override
+    public void releaseReserved(Map<String, Integer> quantities) {
+        jdbcTemplate.batchUpdate(RELEASE_SQL, new ArrayList<>(quantities.entrySet()), quantities.size(),
+                (ps, entry) -> {
+                    ps.setInt(1, entry.getValue());
+                    ps.setString(2, entry.getKey());
+                });
+    }
+
+    @Override
+    public void commitReserved(Map<String, Integer> quantities) {
+        jdbcTemplate.batchUpdate(COMMIT_SQL, new ArrayList<>(quantities.entrySet()), quantities.size(),
+                (ps, entry) -> {
+                    ps.setInt(1, entry.getValue());
+                    ps.setInt(2, entry.getValue());
+                    ps.setString(3, entry.getKey());
+                });
+    }
+
+    @Override
+    public void decreaseQuantity(Map<String, Integer> quantities) {
+        jdbcTemplate.batchUpdate(DECREASE_QUANTITY_SQL, new ArrayList<>(quantities.entrySet()), quantities.size(),
+                (ps, entry) -> {
+                    ps.setInt(1, entry.getValue());
+                    ps.setString(2, entry.getKey());
+                });
+    }
+}
@@ -0,0 +1,17 @@
+package com.platform.inventory.repository;
+
+import com.platform.inventory.entity.Reservation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReservationRepository extends JpaRepository<Reservation, String>, ReservationRepositoryCustom {
+
+    // Waits for a concurrent expiry sweep; rows it released are gone by the time the lock is granted
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Reservation> findAllByOrderId(String orderId);
+}
@@ -0,0 +1,13 @@
+package com.platform.inventory.repository;
+
+import com.platform.inventory.entity.Reservation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReservationRepositoryCustom {
+
+    void insertAll(List<Reservation> reservations);
+
+    List<Reservation> lockExpired(LocalDateTime now, int limit);
+}
@@ -0,0 +1,50 @@
+package com.platform.inventory.repository;
+
+import com.platform.inventory.entity.Reservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO inventory_reservations (id, order_id, product_id, quantity, expires_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    // Walks the expires_at index from the oldest due row; SKIP LOCKED lets several instances sweep at once
+    private static final String LOCK_EXPIRED_SQL = """
+            SELECT id, order_id, product_id, quantity, expires_at FROM inventory_reservations
+            WHERE expires_at <= ?
+            ORDER BY expires_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Reservation> reservations) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, reservations, reservations.size(), (ps, reservation) -> {
+            ps.setString(1, reservation.getId());
+            ps.setString(2, reservation.getOrderId());
+            ps.setString(3, reservation.getProductId());
+            ps.setInt(4, reservation.getQuantity());
+            ps.setTimestamp(5, Timestamp.valueOf(reservation.getExpiresAt()));
+        });
+    }
+
+    @Override
+    public List<Reservation> lockExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.query(LOCK_EXPIRED_SQL, (rs, rowNum) -> new Reservation(
+                rs.getString("id"),
+                rs.getString("order_id"),
+                rs.getString("product_id"),
+                rs.getInt("quantity"),
+                rs.getTimestamp("expires_at").toLocalDateTime()), Timestamp.valueOf(now), limit);
+    }
+}
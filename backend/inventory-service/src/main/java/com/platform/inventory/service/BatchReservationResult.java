@@ -0,0 +1,8 @@
+package com.platform.inventory.service;
+
+import com.platform.shared.events.OrderCreatedEvent;
+
+import java.util.List;
+
+public record BatchReservationResult(List<OrderCreatedEvent> reserved, List<OrderCreatedEvent> rejected) {
+}
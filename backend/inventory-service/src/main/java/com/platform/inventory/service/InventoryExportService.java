@@ -0,0 +1,120 @@
+package com.platform.inventory.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.platform.inventory.entity.Inventory;
+import com.platform.shared.jdbc.StreamingQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Writes the whole catalog (or only its low-stock products) in productId order as NDJSON or CSV.
+ * Each inventory row becomes one line as soon as it is read, so catalog size does not affect memory.
+ * CSV quotes only the product id, the one free-text column.
+ */
+@Service
+@Slf4j
+public class InventoryExportService {
+
+    private static final String SQL = "select id, product_id, quantity, reserved from inventory";
+    private static final String LOW_STOCK = " where quantity - reserved < ?";
+    private static final String ORDER = " order by product_id";
+
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format parse(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + value);
+        }
+    }
+
+    private final StreamingQuery query;
+    private final ObjectWriter writer;
+
+    public InventoryExportService(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper, @Value("${inventory.export.fetch-size:1000}") int fetchSize) {
+        this.query = new StreamingQuery(dataSource, transactionManager, fetchSize);
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Streams the export to {@code out} and returns the number of products written.
+     */
+    public long export(Format format, Integer lowStockBelow, OutputStream out) throws IOException {
+        Writer text = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (JsonGenerator generator = writer.createGenerator(text).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            RowWriter rows = format == Format.CSV ? csv(text) : ndjson(generator);
+            String sql = lowStockBelow != null ? SQL + LOW_STOCK + ORDER : SQL + ORDER;
+            Object[] args = lowStockBelow != null ? new Object[]{lowStockBelow} : new Object[0];
+            long[] count = {0};
+            query.forEachRow(sql, rs -> {
+                rows.write(toInventory(rs));
+                count[0]++;
+            }, args);
+            generator.flush();
+            text.flush();
+            log.debug("Exported {} products as {}", count[0], format);
+            return count[0];
+        }
+    }
+
+    private static Inventory toInventory(ResultSet rs) throws SQLException {
+        Inventory inventory = new Inventory();
+        inventory.setId(rs.getString("id"));
+        inventory.setProductId(rs.getString("product_id"));
+        inventory.setQuantity(rs.getInt("quantity"));
+        inventory.setReserved(rs.getInt("reserved"));
+        return inventory;
+    }
+
+    private RowWriter ndjson(JsonGenerator generator) {
+        return inventory -> {
+            writer.writeValue(generator, inventory);
+            generator.writeRaw('\n');
+        };
+    }
+
+    private static RowWriter csv(Writer text) throws IOException {
+        text.write("product_id,quantity,reserved,available\n");
+        return inventory -> {
+            text.write(csvField(inventory.getProductId()));
+            text.write(',' + inventory.getQuantity().toString());
+            text.write(',' + inventory.getReserved().toString());
+            text.write(',' + inventory.getAvailable().toString());
+            text.write('\n');
+        };
+    }
+
+    static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Inventory inventory) throws IOException;
+    }
+}
@@ -0,0 +1,265 @@
+package com.platform.inventory.service;
+
+import com.platform.inventory.cache.InventoryCache;
+import com.platform.inventory.dto.InventoryPage;
+import com.platform.inventory.entity.Inventory;
+import com.platform.inventory.ledger.StockLedger;
+import com.platform.inventory.repository.InventoryRepository;
+import com.platform.shared.events.OrderCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryService {
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final InventoryRepository inventoryRepository;
+    private final StockLedger stockLedger;
+    private final InventoryCache inventoryCache;
+    private final ReservationService reservationService;
+
+    /**
+     * Keyset page of inventory in productId order, starting after {@code cursor} (null for the first page).
+     * With {@code lowStockBelow}, only products whose available stock is below it are returned.
+     */
+    @Transactional(readOnly = true)
+    public InventoryPage getInventoryPage(String cursor, int size, Integer lowStockBelow) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        String after = cursor != null ? cursor : "";
+        // One extra row tells whether another page follows
+        Limit limit = Limit.of(pageSize + 1);
+        List<Inventory> items = lowStockBelow == null
+                ? inventoryRepository.findPage(after, limit)
+                : inventoryRepository.findLowStockPage(after, lowStockBelow, limit);
+        if (items.size() <= pageSize) {
+            return new InventoryPage(items, null);
+        }
+        List<Inventory> page = items.subList(0, pageSize);
+        return new InventoryPage(page, page.get(pageSize - 1).getProductId());
+    }
+
+    @Transactional
+    public void reserveInventory(String productId, Integer quantity) {
+        Inventory inventory = inventoryRepository.findByProductId(productId)
+                .orElseThrow(() -> new RuntimeException("Product not found in inventory: " + productId));
+
+        inventory.reserve(quantity);
+        inventoryRepository.save(inventory);
+        inventoryCache.evictAfterCommit(List.of(productId));
+        log.info("Reserved {} units of product {}", quantity, productId);
+    }
+
+    /**
+     * Reserves all items of an order with conditional UPDATEs instead of read-modify-write,
+     * so concurrent consumers on the same product neither lose updates nor serialize on a row lock.
+     * Products managed by the {@link StockLedger} are reserved in memory instead. The reserved units are held
+     * for the order by the {@link ReservationService} until it is paid, shipped or the hold expires.
+     * <p>
+     * A rejection is returned, not thrown, and whatever was taken for the order is handed back first, so the
+     * caller's transaction (the listener's idempotency claim) commits with the answer.
+     */
+    @Transactional
+    public ReservationResult reserveOrder(OrderCreatedEvent event) {
+        Map<String, Integer> quantities = new HashMap<>();
+        for (OrderCreatedEvent.OrderItem item : event.getItems()) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+
+        Map<String, Integer> fromLedger = new HashMap<>();
+        Map<String, Integer> fromTable = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            switch (stockLedger.tryReserve(entry.getKey(), entry.getValue())) {
+                case RESERVED -> fromLedger.put(entry.getKey(), entry.getValue());
+                case NOT_MANAGED -> fromTable.put(entry.getKey(), entry.getValue());
+                case INSUFFICIENT -> {
+                    releaseToLedger(fromLedger);
+                    return ReservationResult.rejected("Insufficient inventory for product " + entry.getKey());
+                }
+            }
+        }
+
+        try {
+            String shortage = reserveFromTable(fromTable);
+            if (shortage != null) {
+                releaseToLedger(fromLedger);
+                return ReservationResult.rejected(shortage);
+            }
+        } catch (RuntimeException e) {
+            releaseToLedger(fromLedger);
+            throw e;
+        }
+        releaseOnRollback(fromLedger);
+        reservationService.hold(Map.of(event.getOrderId(), quantities));
+        // Ledger products are evicted when the ledger flushes
+        inventoryCache.evictAfterCommit(fromTable.keySet());
+        log.info("Reserved {} products for order {}", quantities.size(), event.getOrderId());
+        return ReservationResult.accepted();
+    }
+
+    // Returns null once every product is reserved; otherwise puts back what was taken and names the shortage
+    private String reserveFromTable(Map<String, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return null;
+        }
+        if (quantities.size() == 1) {
+            Map.Entry<String, Integer> item = quantities.entrySet().iterator().next();
+            return inventoryRepository.tryReserve(item.getKey(), item.getValue()) == 1 ? null
+                    : "Insufficient inventory for product " + item.getKey();
+        }
+        List<String> reserved = inventoryRepository.tryReserveAll(quantities);
+        if (reserved.size() == quantities.size()) {
+            return null;
+        }
+        Map<String, Integer> taken = new HashMap<>();
+        reserved.forEach(productId -> taken.put(productId, quantities.get(productId)));
+        inventoryRepository.releaseReserved(taken);
+        return quantities.keySet().stream()
+                .filter(productId -> !taken.containsKey(productId))
+                .sorted()
+                .collect(Collectors.joining(", ", "Insufficient inventory for products ", ""));
+    }
+
+    /**
+     * Reserves stock for a whole batch of orders in one transaction. All product rows involved are
+     * locked with a single select-for-update, reservations are applied in memory and flushed on commit.
+     * An order whose items cannot all be reserved is rejected without affecting the rest of the batch.
+     * A SKU whose stock ledger is disabled mid-batch is reserved from its row instead, locked when reached.
+     */
+    @Transactional
+    public BatchReservationResult reserveBatch(List<OrderCreatedEvent> events) {
+        List<String> productIds = events.stream()
+                .flatMap(event -> event.getItems().stream())
+                .map(OrderCreatedEvent.OrderItem::getProductId)
+                .filter(productId -> !stockLedger.isManaged(productId))
+                .distinct()
+                .toList();
+
+        Map<String, Inventory> inventories = new HashMap<>();
+        lockRows(productIds, inventories);
+
+        List<OrderCreatedEvent> reserved = new ArrayList<>();
+        List<OrderCreatedEvent> rejected = new ArrayList<>();
+        Map<String, Integer> takenFromLedger = new HashMap<>();
+        Map<String, Map<String, Integer>> held = new HashMap<>();
+        for (OrderCreatedEvent event : events) {
+            Map<String, Integer> fromLedger = new HashMap<>();
+            Map<String, Integer> fromTable = new HashMap<>();
+            for (OrderCreatedEvent.OrderItem item : event.getItems()) {
+                (stockLedger.isManaged(item.getProductId()) ? fromLedger : fromTable)
+                        .merge(item.getProductId(), item.getQuantity(), Integer::sum);
+            }
+
+            String shortage;
+            if (!reserveFromLedger(fromLedger, fromTable, inventories)) {
+                shortage = "Insufficient inventory in stock ledger";
+            } else {
+                shortage = findShortage(fromTable, inventories);
+                if (shortage != null) {
+                    releaseToLedger(fromLedger);
+                }
+            }
+            if (shortage != null) {
+                log.error("Failed to reserve inventory for order {}: {}", event.getOrderId(), shortage);
+                rejected.add(event);
+                continue;
+            }
+
+            fromTable.forEach((productId, quantity) -> inventories.get(productId).reserve(quantity));
+            fromLedger.forEach((productId, quantity) -> takenFromLedger.merge(productId, quantity, Integer::sum));
+            Map<String, Integer> quantities = held.computeIfAbsent(event.getOrderId(), orderId -> new HashMap<>());
+            fromTable.forEach((productId, quantity) -> quantities.merge(productId, quantity, Integer::sum));
+            fromLedger.forEach((productId, quantity) -> quantities.merge(productId, quantity, Integer::sum));
+            reserved.add(event);
+        }
+        releaseOnRollback(takenFromLedger);
+        reservationService.hold(held);
+        inventoryCache.evictAfterCommit(inventories.keySet());
+
+        log.info("Reserved inventory for {} of {} orders in batch", reserved.size(), events.size());
+        return new BatchReservationResult(reserved, rejected);
+    }
+
+    private String findShortage(Map<String, Integer> requested, Map<String, Inventory> inventories) {
+        for (Map.Entry<String, Integer> entry : requested.entrySet()) {
+            Inventory inventory = inventories.get(entry.getKey());
+            if (inventory == null) {
+                return "Product not found in inventory: " + entry.getKey();
+            }
+            if (!inventory.canReserve(entry.getValue())) {
+                return "Insufficient inventory for product " + entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private void lockRows(Collection<String> productIds, Map<String, Inventory> inventories) {
+        if (!productIds.isEmpty()) {
+            inventoryRepository.findAllByProductIdInForUpdate(productIds)
+                    .forEach(inventory -> inventories.put(inventory.getProductId(), inventory));
+        }
+    }
+
+    /**
+     * Takes {@code fromLedger} from the stock ledger. A SKU disabled since the batch was split has flushed
+     * its ledger to the table: its row is locked now and the SKU moves to {@code fromTable}, for this order
+     * and the rest of the batch. On a shortage nothing stays taken.
+     */
+    private boolean reserveFromLedger(Map<String, Integer> fromLedger, Map<String, Integer> fromTable,
+                                      Map<String, Inventory> inventories) {
+        Map<String, Integer> taken = new HashMap<>();
+        Iterator<Map.Entry<String, Integer>> entries = fromLedger.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, Integer> entry = entries.next();
+            switch (stockLedger.tryReserve(entry.getKey(), entry.getValue())) {
+                case RESERVED -> taken.put(entry.getKey(), entry.getValue());
+                case NOT_MANAGED -> {
+                    if (!inventories.containsKey(entry.getKey())) {
+                        lockRows(List.of(entry.getKey()), inventories);
+                    }
+                    fromTable.merge(entry.getKey(), entry.getValue(), Integer::sum);
+                    entries.remove();
+                }
+                case INSUFFICIENT -> {
+                    releaseToLedger(taken);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void releaseToLedger(Map<String, Integer> quantities) {
+        quantities.forEach(stockLedger::release);
+    }
+
+    // Ledger reservations live outside the database transaction, so hand them back if it does not commit
+    private void releaseOnRollback(Map<String, Integer> quantities) {
+        if (quantities.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    releaseToLedger(quantities);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.platform.inventory.service;
+
+/**
+ * Whether an order's items were all reserved. A rejected order (unknown product or not enough stock) has
+ * nothing reserved for it, and retrying the same event will not change the answer.
+ */
+public record ReservationResult(boolean reserved, String reason) {
+
+    public static ReservationResult accepted() {
+        return new ReservationResult(true, null);
+    }
+
+    public static ReservationResult rejected(String reason) {
+        return new ReservationResult(false, reason);
+    }
+}
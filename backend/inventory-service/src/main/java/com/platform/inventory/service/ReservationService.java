@@ -0,0 +1,235 @@
+package com.platform.inventory.service;
+
+import com.platform.inventory.cache.InventoryCache;
+import com.platform.inventory.entity.Reservation;
+import com.platform.inventory.ledger.StockLedger;
+import com.platform.inventory.messaging.ReservationResultPublisher;
+import com.platform.inventory.repository.InventoryRepository;
+import com.platform.inventory.repository.ReservationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tracks the stock reserved for each order until it is paid or shipped (the units leave stock) or it is
+ * cancelled (the units become available again).
+ * <p>
+ * order-service decides when an unpaid order lapses: it cancels it under the order's row lock, so the
+ * cancellation and a payment cannot both win, and {@code order.cancelled} releases the hold here. The
+ * hold's own expiry is a backstop for orders order-service never resolves; it is set well past
+ * order-service's payment timeout and announced as {@code inventory.expired}.
+ * <p>
+ * Open holds are rows of {@code inventory_reservations} indexed by due time. The expiry sweep walks that
+ * index in batches of {@code batch-size}, each in its own transaction with the rows claimed
+ * {@code SKIP LOCKED}, and returns a batch's units with one batched UPDATE per product. Its cost follows
+ * the number of reservations falling due, not the number open, and several instances can sweep at once.
+ */
+@Service
+@Slf4j
+public class ReservationService {
+
+    private final ReservationRepository reservationRepository;
+    private final InventoryRepository inventoryRepository;
+    private final StockLedger stockLedger;
+    private final InventoryCache inventoryCache;
+    private final ReservationResultPublisher resultPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final int batchSize;
+    private final Clock clock;
+    private final Counter committed;
+    private final Counter expired;
+    private final Counter cancelled;
+    private final Counter missing;
+
+    @Autowired
+    public ReservationService(ReservationRepository reservationRepository, InventoryRepository inventoryRepository,
+                              StockLedger stockLedger, InventoryCache inventoryCache,
+                              ReservationResultPublisher resultPublisher,
+                              PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                              @Value("${inventory.reservations.ttl:PT24H}") Duration ttl,
+                              @Value("${inventory.reservations.batch-size:1000}") int batchSize) {
+        this(reservationRepository, inventoryRepository, stockLedger, inventoryCache, resultPublisher,
+                transactionManager, meterRegistry, ttl, batchSize, Clock.systemDefaultZone());
+    }
+
+    ReservationService(ReservationRepository reservationRepository, InventoryRepository inventoryRepository,
+                       StockLedger stockLedger, InventoryCache inventoryCache,
+                       ReservationResultPublisher resultPublisher,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                       Duration ttl, int batchSize, Clock clock) {
+        this.reservationRepository = reservationRepository;
+        this.inventoryRepository = inventoryRepository;
+        this.stockLedger = stockLedger;
+        this.inventoryCache = inventoryCache;
+        this.resultPublisher = resultPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.batchSize = batchSize;
+        this.clock = clock;
+        this.committed = closed(meterRegistry, "committed");
+        this.expired = closed(meterRegistry, "expired");
+        this.cancelled = closed(meterRegistry, "cancelled");
+        this.missing = Counter.builder("inventory.reservations.missing")
+                .description("Payments or shipments that found no open hold to commit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records holds for stock that was just reserved, keyed by order id. Joins the reserving transaction,
+     * so the holds exist exactly when the reservation does.
+     */
+    @Transactional
+    public void hold(Map<String, Map<String, Integer>> quantitiesByOrder) {
+        LocalDateTime expiresAt = LocalDateTime.now(clock).plus(ttl);
+        List<Reservation> reservations = new ArrayList<>();
+        quantitiesByOrder.forEach((orderId, quantities) -> quantities.forEach((productId, quantity) ->
+                reservations.add(new Reservation(UUID.randomUUID().toString(), orderId, productId, quantity, expiresAt))));
+        if (!reservations.isEmpty()) {
+            reservationRepository.insertAll(reservations);
+        }
+    }
+
+    /**
+     * Takes the order's held units out of stock. Does nothing when the order has no open hold: it was
+     * already committed (paid, then shipped), or its payment was consumed only after the backstop expiry.
+     *
+     * @return the number of reservations committed
+     */
+    @Transactional
+    public int commit(String orderId) {
+        List<Reservation> reservations = reservationRepository.findAllByOrderId(orderId);
+        if (reservations.isEmpty()) {
+            log.warn("No open reservation for order {}; already committed or expired", orderId);
+            missing.increment();
+            return 0;
+        }
+        reservationRepository.deleteAllByIdInBatch(reservations.stream().map(Reservation::getId).toList());
+
+        Map<String, Integer> fromLedger = new HashMap<>();
+        Map<String, Integer> fromTable = new HashMap<>();
+        split(reservations, fromLedger, fromTable);
+        inventoryRepository.commitReserved(fromTable);
+        // The ledger writes its reserved count back itself; only the quantity changes in the table
+        inventoryRepository.decreaseQuantity(fromLedger);
+        afterCommit(() -> fromLedger.forEach((productId, quantity) -> {
+            stockLedger.release(productId, quantity);
+            stockLedger.adjustQuantity(productId, -quantity);
+        }));
+        inventoryCache.evictAfterCommit(fromTable.keySet());
+
+        committed.increment(reservations.size());
+        log.info("Committed {} reservations for order {}", reservations.size(), orderId);
+        return reservations.size();
+    }
+
+    /**
+     * Puts the held units of an order order-service cancelled back on sale. Does nothing when the order
+     * has no open hold (it was rejected, or is not reserved yet: order-service cancels it again when the
+     * late reservation is announced).
+     *
+     * @return the number of reservations released
+     */
+    @Transactional
+    public int release(String orderId) {
+        List<Reservation> reservations = reservationRepository.findAllByOrderId(orderId);
+        if (reservations.isEmpty()) {
+            log.debug("No open reservation to release for order {}", orderId);
+            return 0;
+        }
+        releaseHolds(reservations);
+        cancelled.increment(reservations.size());
+        log.info("Released {} reservations for cancelled order {}", reservations.size(), orderId);
+        return reservations.size();
+    }
+
+    /**
+     * Releases every expired hold, one batch per transaction.
+     *
+     * @return the number of reservations released
+     */
+    @Scheduled(fixedDelayString = "${inventory.reservations.sweep-interval-ms:5000}")
+    public long releaseExpired() {
+        long total = 0;
+        int released;
+        do {
+            released = transactionTemplate.execute(status -> releaseExpiredBatch());
+            total += released;
+        } while (released == batchSize);
+        if (total > 0) {
+            log.info("Released {} expired reservations", total);
+        }
+        return total;
+    }
+
+    private int releaseExpiredBatch() {
+        List<Reservation> due = reservationRepository.lockExpired(LocalDateTime.now(clock), batchSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        releaseHolds(due);
+        due.stream().map(Reservation::getOrderId).distinct().forEach(resultPublisher::publishExpired);
+
+        expired.increment(due.size());
+        return due.size();
+    }
+
+    private void releaseHolds(List<Reservation> reservations) {
+        reservationRepository.deleteAllByIdInBatch(reservations.stream().map(Reservation::getId).toList());
+
+        Map<String, Integer> fromLedger = new HashMap<>();
+        Map<String, Integer> fromTable = new HashMap<>();
+        split(reservations, fromLedger, fromTable);
+        inventoryRepository.releaseReserved(fromTable);
+        afterCommit(() -> fromLedger.forEach(stockLedger::release));
+        inventoryCache.evictAfterCommit(fromTable.keySet());
+    }
+
+    // Ledger membership is checked now, not at reservation time: a SKU enabled since then was loaded
+    // with these units reserved, and one disabled since then has flushed them to the table
+    private void split(List<Reservation> reservations, Map<String, Integer> fromLedger, Map<String, Integer> fromTable) {
+        for (Reservation reservation : reservations) {
+            (stockLedger.isManaged(reservation.getProductId()) ? fromLedger : fromTable)
+                    .merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+        }
+    }
+
+    // The ledger lives outside the database transaction, so it only changes once the rows are gone for good
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static Counter closed(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("inventory.reservations.closed")
+                .description("Reservations committed on payment or shipment, or released on cancellation or expiry")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,114 @@
+package com.platform.inventory.benchmark;
+
+import com.platform.inventory.entity.Inventory;
+import com.platform.inventory.repository.InventoryRepository;
+import com.platform.inventory.service.InventoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the entity-based read-modify-write reservation with the conditional UPDATE path
+ * on a single hot product. Needs a real PostgreSQL database:
+ * <pre>
+ * mvn test -Pbenchmark -Dbenchmark.datasource.url=jdbc:postgresql://localhost:5432/inventorydb
+ * </pre>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.datasource.url", matches = ".+")
+@SpringBootTest(properties = {
+        "spring.rabbitmq.listener.simple.auto-startup=false",
+        "spring.jpa.show-sql=false"
+})
+class ReservationContentionBenchmark {
+
+    private static final String PRODUCT_ID = "benchmark-hot-sku";
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int RESERVATIONS_PER_THREAD = Integer.getInteger("benchmark.reservations", 500);
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.datasource.url"));
+    }
+
+    @BeforeEach
+    void resetHotSku() {
+        Inventory inventory = inventoryRepository.findByProductId(PRODUCT_ID).orElseGet(Inventory::new);
+        inventory.setProductId(PRODUCT_ID);
+        inventory.setQuantity(Integer.MAX_VALUE);
+        inventory.setReserved(0);
+        inventoryRepository.save(inventory);
+    }
+
+    @Test
+    void entityReadModifyWrite() throws Exception {
+        run("entity read-modify-write", () -> inventoryService.reserveInventory(PRODUCT_ID, 1));
+    }
+
+    @Test
+    void conditionalUpdate() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        run("conditional UPDATE", () -> transactionTemplate.executeWithoutResult(
+                status -> inventoryRepository.tryReserve(PRODUCT_ID, 1)));
+    }
+
+    private void run(String name, Runnable reservation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < RESERVATIONS_PER_THREAD; i++) {
+                    try {
+                        reservation.run();
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        int attempted = THREADS * RESERVATIONS_PER_THREAD;
+        int applied = inventoryRepository.findByProductId(PRODUCT_ID).orElseThrow().getReserved();
+        int succeeded = attempted - failures.get();
+        System.out.printf("%-26s threads=%d reservations=%d ops/s=%.0f lost-updates=%d failures=%d%n",
+                name, THREADS, attempted, succeeded / (elapsedNanos / 1e9), succeeded - applied, failures.get());
+    }
+}
@@ -0,0 +1,114 @@
+package com.platform.inventory.cache;
+
+import com.platform.inventory.entity.Inventory;
+import com.platform.inventory.repository.InventoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class InventoryCacheTest {
+
+    private InventoryRepository inventoryRepository;
+    private RabbitTemplate rabbitTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository = mock(InventoryRepository.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        Inventory inventory = new Inventory();
+        inventory.setProductId("product123");
+        inventory.setQuantity(100);
+        when(inventoryRepository.findByProductId("product123")).thenReturn(Optional.of(inventory));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void find_ServesRepeatedReadsFromMemory() {
+        // Arrange
+        InventoryCache cache = cache(false);
+
+        // Act
+        cache.find("product123");
+        Optional<Inventory> result = cache.find("product123");
+
+        // Assert
+        assertEquals(100, result.orElseThrow().getQuantity());
+        verify(inventoryRepository, times(1)).findByProductId("product123");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "inventory.products").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void evictAfterCommit_ReloadsOnlyAfterCommit() {
+        // Arrange
+        InventoryCache cache = cache(false);
+        cache.find("product123");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.evictAfterCommit(List.of("product123"));
+        cache.find("product123");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.find("product123");
+
+        // Assert
+        verify(inventoryRepository, times(2)).findByProductId("product123");
+    }
+
+    @Test
+    void evict_BroadcastsToOtherInstances() {
+        // Arrange
+        InventoryCache cache = cache(true);
+        InventoryCache other = cache(true);
+        other.find("product123");
+
+        // Act
+        cache.evict(List.of("product123", "product456"));
+
+        // Assert
+        var sent = forClass(Message.class);
+        verify(rabbitTemplate).send(eq("order-events"), eq("inventory.cache.invalidate"), sent.capture());
+        cache.onInvalidation(sent.getValue());
+        other.onInvalidation(sent.getValue());
+        other.find("product123");
+        verify(inventoryRepository, times(2)).findByProductId("product123");
+    }
+
+    @Test
+    void evict_IgnoresPublishFailures() {
+        // Arrange
+        InventoryCache cache = cache(true);
+        doThrow(new RuntimeException("broker down")).when(rabbitTemplate).send(any(), any(), any(Message.class));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> cache.evict(List.of("product123")));
+    }
+
+    private InventoryCache cache(boolean broadcast) {
+        return new InventoryCache(inventoryRepository, rabbitTemplate, meterRegistry, true, 100,
+                Duration.ofMinutes(1), Duration.ofMinutes(1), "order-events", "inventory.cache.invalidate", broadcast);
+    }
+}
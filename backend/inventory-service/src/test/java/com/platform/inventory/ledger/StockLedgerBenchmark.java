@@ -0,0 +1,60 @@
+package com.platform.inventory.ledger;
+
+import com.platform.inventory.repository.InventoryRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Reserves/sec on a single hot SKU through the in-memory stock ledger.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class StockLedgerBenchmark {
+
+    private static final String PRODUCT_ID = "hot-sku";
+    private static final long DURATION_MS = Long.getLong("benchmark.duration-ms", 2_000);
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 32})
+    void reservesPerSecond(int threads) throws Exception {
+        StockLedger stockLedger = new StockLedger(mock(InventoryRepository.class), mock(PlatformTransactionManager.class));
+        stockLedger.load(PRODUCT_ID, Long.MAX_VALUE / 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MS);
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long count = 0;
+                while ((count & 1023) != 0 || System.nanoTime() < deadline) {
+                    stockLedger.reserve(PRODUCT_ID, 1);
+                    count++;
+                }
+                return count;
+            }));
+        }
+
+        start.countDown();
+        long total = 0;
+        for (Future<Long> future : futures) {
+            total += future.get();
+        }
+        executor.shutdown();
+
+        System.out.printf("stock ledger threads=%-2d reserves/s=%,.0f%n", threads, total / (DURATION_MS / 1000.0));
+    }
+}
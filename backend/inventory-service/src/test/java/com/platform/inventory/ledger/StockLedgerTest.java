@@ -0,0 +1,227 @@
+package com.platform.inventory.ledger;
+
+import com.platform.inventory.repository.InventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockLedgerTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StockLedger stockLedger;
+
+    @BeforeEach
+    void setUp() {
+        stockLedger = new StockLedger(inventoryRepository, transactionManager);
+        stockLedger.load("hot-sku", 100);
+    }
+
+    @Test
+    void reserve_FailsOnceStockIsExhausted() {
+        assertTrue(stockLedger.reserve("hot-sku", 60));
+        assertTrue(stockLedger.canReserve("hot-sku", 40));
+        assertFalse(stockLedger.reserve("hot-sku", 41));
+        assertTrue(stockLedger.reserve("hot-sku", 40));
+        assertFalse(stockLedger.canReserve("hot-sku", 1));
+    }
+
+    @Test
+    void reserve_NeverOversellsUnderContention() throws Exception {
+        // Arrange
+        stockLedger.load("contended-sku", 10_000);
+        AtomicInteger reserved = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                while (stockLedger.reserve("contended-sku", 3)) {
+                    reserved.addAndGet(3);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        assertTrue(reserved.get() <= 10_000);
+        assertTrue(reserved.get() > 10_000 - 3);
+    }
+
+    @Test
+    void flush_WritesNetReservedDelta() {
+        // Arrange
+        stockLedger.reserve("hot-sku", 10);
+        stockLedger.reserve("hot-sku", 5);
+        stockLedger.release("hot-sku", 3);
+
+        // Act
+        stockLedger.flush();
+        stockLedger.flush();
+
+        // Assert
+        verify(inventoryRepository, times(1)).addReserved("hot-sku", 12);
+    }
+
+    @Test
+    void adjustQuantity_BelowReservedBlocksFurtherReservations() {
+        // Arrange
+        stockLedger.reserve("hot-sku", 90);
+
+        // Act
+        stockLedger.adjustQuantity("hot-sku", -20);
+
+        // Assert
+        assertFalse(stockLedger.canReserve("hot-sku", 1));
+        stockLedger.adjustQuantity("hot-sku", 15);
+        assertFalse(stockLedger.reserve("hot-sku", 6));
+        assertTrue(stockLedger.reserve("hot-sku", 5));
+    }
+
+    @Test
+    void enable_KeepsLedgerWithUnflushedReservations() {
+        // Arrange
+        stockLedger.reserve("hot-sku", 30);
+
+        // Act
+        stockLedger.enable("hot-sku");
+
+        // Assert
+        verify(inventoryRepository, never()).findByProductId(any());
+        assertFalse(stockLedger.canReserve("hot-sku", 71));
+        stockLedger.flush();
+        verify(inventoryRepository).addReserved("hot-sku", 30);
+    }
+
+    @Test
+    void disable_FlushesPendingDeltaAndHandsSkuToTable() {
+        // Arrange
+        stockLedger.reserve("hot-sku", 10);
+
+        // Act
+        stockLedger.disable("hot-sku");
+
+        // Assert
+        verify(inventoryRepository).addReserved("hot-sku", 10);
+        assertFalse(stockLedger.isManaged("hot-sku"));
+        assertEquals(StockLedger.Outcome.NOT_MANAGED, stockLedger.tryReserve("hot-sku", 1));
+    }
+
+    @Test
+    void release_AfterDisableReturnsUnitsToTable() {
+        // Arrange
+        stockLedger.reserve("hot-sku", 10);
+        stockLedger.disable("hot-sku");
+
+        // Act
+        stockLedger.release("hot-sku", 4);
+
+        // Assert
+        verify(inventoryRepository).addReserved("hot-sku", -4);
+    }
+
+    @Test
+    void disable_KeepsLedgerWhenFlushFails() {
+        // Arrange
+        stockLedger.reserve("hot-sku", 10);
+        when(inventoryRepository.addReserved("hot-sku", 10))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(1);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> stockLedger.disable("hot-sku"));
+        assertTrue(stockLedger.isManaged("hot-sku"));
+        assertEquals(StockLedger.Outcome.RESERVED, stockLedger.tryReserve("hot-sku", 5));
+        stockLedger.disable("hot-sku");
+        verify(inventoryRepository).addReserved("hot-sku", 15);
+    }
+
+    @Test
+    void tryReserve_WaitsOutRetirementAndUsesReopenedLedger() throws Exception {
+        // Arrange
+        stockLedger.reserve("hot-sku", 10);
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch failFlush = new CountDownLatch(1);
+        when(inventoryRepository.addReserved("hot-sku", 10)).thenAnswer(invocation -> {
+            flushing.countDown();
+            failFlush.await();
+            throw new IllegalStateException("database down");
+        });
+        CompletableFuture<Void> disabling = CompletableFuture.runAsync(() -> stockLedger.disable("hot-sku"));
+        assertTrue(flushing.await(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<StockLedger.Outcome> waiting =
+                CompletableFuture.supplyAsync(() -> stockLedger.tryReserve("hot-sku", 5));
+        Thread.sleep(100);
+        boolean doneWhileRetired = waiting.isDone();
+        failFlush.countDown();
+
+        // Assert
+        assertFalse(doneWhileRetired);
+        assertEquals(StockLedger.Outcome.RESERVED, waiting.get(5, TimeUnit.SECONDS));
+        assertThrows(ExecutionException.class, () -> disabling.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void disable_LosesNoDeltaUnderConcurrentReservations() throws Exception {
+        // Arrange
+        stockLedger.load("contended-sku", 1_000_000);
+        AtomicLong written = new AtomicLong();
+        when(inventoryRepository.addReserved(eq("contended-sku"), anyInt())).thenAnswer(invocation -> {
+            written.addAndGet(invocation.getArgument(1, Integer.class));
+            return 1;
+        });
+        AtomicLong reserved = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(executor.submit(() -> {
+                while (stockLedger.tryReserve("contended-sku", 1) == StockLedger.Outcome.RESERVED) {
+                    reserved.incrementAndGet();
+                }
+            }));
+        }
+
+        // Act
+        Thread.sleep(20);
+        stockLedger.disable("contended-sku");
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(reserved.get(), written.get());
+    }
+}
@@ -0,0 +1,169 @@
+package com.platform.inventory.messaging;
+
+import com.platform.inventory.cache.InventoryCache;
+import com.platform.inventory.entity.Inventory;
+import com.platform.inventory.ledger.StockLedger;
+import com.platform.inventory.repository.InventoryRepository;
+import com.platform.inventory.repository.ReservationRepository;
+import com.platform.inventory.service.InventoryService;
+import com.platform.inventory.service.ReservationService;
+import com.platform.shared.events.OrderCreatedEvent;
+import com.platform.shared.idempotency.IdempotencyGuard;
+import com.platform.shared.idempotency.IdempotencyProperties;
+import com.platform.shared.idempotency.JdbcProcessedMessageStore;
+import com.platform.shared.metrics.EventMetrics;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs single order.created deliveries the way the container does: through the idempotency advice, with
+ * the JDBC store and the JPA transaction manager, so the claim and the reservation share one transaction.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-events;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({InventoryService.class, ReservationService.class, OrderEventListenerIntegrationTest.Metrics.class})
+class OrderEventListenerIntegrationTest {
+
+    private static final String TABLE = "processed_messages";
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private StockLedger stockLedger;
+
+    @MockBean
+    private InventoryCache inventoryCache;
+
+    @MockBean
+    private ReservationResultPublisher resultPublisher;
+
+    private JdbcProcessedMessageStore store;
+    private OrderEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        store = new JdbcProcessedMessageStore(dataSource, TABLE);
+        store.initialize();
+        listener = new OrderEventListener(inventoryService, resultPublisher, new EventMetrics(meterRegistry), meterRegistry);
+        when(stockLedger.tryReserve(anyString(), anyInt())).thenReturn(StockLedger.Outcome.NOT_MANAGED);
+        Inventory inventory = new Inventory();
+        inventory.setProductId("product123");
+        inventory.setQuantity(10);
+        inventory.setReserved(0);
+        inventoryRepository.save(inventory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        new JdbcTemplate(dataSource).update("delete from " + TABLE);
+    }
+
+    @Test
+    void delivery_ReservesStockAndRecordsMessage() throws Throwable {
+        // Act
+        deliver(advice(), "m1", orderCreated("order1", 3));
+
+        // Assert
+        assertEquals(3, inventoryRepository.findByProductId("product123").orElseThrow().getReserved());
+        assertEquals(1, reservationRepository.count());
+        assertEquals(Set.of("m1"), store.findProcessed("inventory-queue", List.of("m1")));
+        verify(resultPublisher).publishReserved("order1");
+    }
+
+    @Test
+    void delivery_CommitsRejectionWithItsClaim() throws Throwable {
+        // Act
+        deliver(advice(), "m1", orderCreated("order1", 20));
+        // A fresh advice has no ids in memory, so only the store can drop the redelivery
+        deliver(advice(), "m1", orderCreated("order1", 20));
+
+        // Assert
+        assertEquals(0, inventoryRepository.findByProductId("product123").orElseThrow().getReserved());
+        assertEquals(0, reservationRepository.count());
+        assertEquals(Set.of("m1"), store.findProcessed("inventory-queue", List.of("m1")));
+        verify(resultPublisher, times(1)).publishRejected(eq("order1"), anyString());
+    }
+
+    private MethodInterceptor advice() {
+        return new IdempotencyGuard(new IdempotencyProperties(), store, transactionManager, meterRegistry)
+                .adviceFor(List.of("inventory-queue"), AcknowledgeMode.AUTO);
+    }
+
+    private void deliver(MethodInterceptor advice, String messageId, OrderCreatedEvent event) throws Throwable {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(messageId);
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getArguments()).thenReturn(new Object[]{mock(Channel.class), new Message(new byte[0], properties)});
+        when(invocation.proceed()).thenAnswer(call -> {
+            listener.handleOrderCreated(event);
+            return null;
+        });
+        advice.invoke(invocation);
+    }
+
+    private static OrderCreatedEvent orderCreated(String orderId, int quantity) {
+        OrderCreatedEvent.OrderItem item = new OrderCreatedEvent.OrderItem("product123", "Test Product", quantity, BigDecimal.TEN);
+        return new OrderCreatedEvent(orderId, "user123", List.of(item), BigDecimal.TEN, LocalDateTime.now());
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
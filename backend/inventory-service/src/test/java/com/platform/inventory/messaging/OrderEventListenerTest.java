@@ -0,0 +1,79 @@
+package com.platform.inventory.messaging;
+
+import com.platform.inventory.service.InventoryService;
+import com.platform.inventory.service.ReservationResult;
+import com.platform.shared.events.OrderCreatedEvent;
+import com.platform.shared.metrics.EventMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderEventListenerTest {
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private ReservationResultPublisher resultPublisher;
+
+    private MeterRegistry meterRegistry;
+    private OrderEventListener listener;
+    private OrderCreatedEvent event;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new OrderEventListener(inventoryService, resultPublisher, new EventMetrics(meterRegistry), meterRegistry);
+        OrderCreatedEvent.OrderItem item = new OrderCreatedEvent.OrderItem("product123", "Test Product", 1, BigDecimal.TEN);
+        event = new OrderCreatedEvent("order1", "user123", List.of(item), BigDecimal.TEN, LocalDateTime.now());
+    }
+
+    @Test
+    void handleOrderCreated_PublishesReserved() {
+        // Arrange
+        when(inventoryService.reserveOrder(event)).thenReturn(ReservationResult.accepted());
+
+        // Act
+        listener.handleOrderCreated(event);
+
+        // Assert
+        verify(resultPublisher).publishReserved("order1");
+        verify(resultPublisher, never()).publishRejected(anyString(), anyString());
+    }
+
+    @Test
+    void handleOrderCreated_PublishesRejectedWithoutRedelivery() {
+        // Arrange
+        when(inventoryService.reserveOrder(event))
+                .thenReturn(ReservationResult.rejected("Insufficient inventory for product: product123"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> listener.handleOrderCreated(event));
+        verify(resultPublisher).publishRejected("order1", "Insufficient inventory for product: product123");
+        assertEquals(1.0, meterRegistry.get("inventory.reservations").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void handleOrderCreated_RethrowsUnexpectedFailures() {
+        // Arrange
+        doThrow(new IllegalStateException("database down")).when(inventoryService).reserveOrder(any());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> listener.handleOrderCreated(event));
+        verifyNoInteractions(resultPublisher);
+    }
+}
@@ -0,0 +1,62 @@
+package com.platform.inventory.repository;
+
+import com.platform.inventory.entity.Inventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class InventoryRepositoryTest {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository.saveAll(List.of(
+                inventory("sku-3", 10, 8),
+                inventory("sku-1", 10, 0),
+                inventory("sku-2", 5, 4),
+                inventory("sku-4", 50, 0)));
+    }
+
+    @Test
+    void findPage_WalksProductIdsInOrder() {
+        // Act
+        List<Inventory> first = inventoryRepository.findPage("", Limit.of(2));
+        List<Inventory> second = inventoryRepository.findPage("sku-2", Limit.of(2));
+
+        // Assert
+        assertEquals(List.of("sku-1", "sku-2"), productIds(first));
+        assertEquals(List.of("sku-3", "sku-4"), productIds(second));
+    }
+
+    @Test
+    void findLowStockPage_ReturnsOnlyProductsBelowThreshold() {
+        // Act
+        List<Inventory> lowStock = inventoryRepository.findLowStockPage("", 3, Limit.of(10));
+        List<Inventory> afterFirst = inventoryRepository.findLowStockPage("sku-2", 3, Limit.of(10));
+
+        // Assert
+        assertEquals(List.of("sku-2", "sku-3"), productIds(lowStock));
+        assertEquals(List.of("sku-3"), productIds(afterFirst));
+    }
+
+    static Inventory inventory(String productId, int quantity, int reserved) {
+        Inventory inventory = new Inventory();
+        inventory.setProductId(productId);
+        inventory.setQuantity(quantity);
+        inventory.setReserved(reserved);
+        return inventory;
+    }
+
+    private static List<String> productIds(List<Inventory> inventories) {
+        return inventories.stream().map(Inventory::getProductId).toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.platform.inventory.repository;
+
+import com.platform.inventory.entity.Inventory;
+import com.platform.inventory.entity.Reservation;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class ReservationRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void lockExpired_ReturnsDueReservationsOldestFirst() {
+        // Arrange
+        reservationRepository.insertAll(List.of(
+                reservation("r1", "order1", NOW.minusMinutes(1)),
+                reservation("r2", "order2", NOW.plusMinutes(1)),
+                reservation("r3", "order3", NOW.minusMinutes(5)),
+                reservation("r4", "order4", NOW.minusMinutes(3))));
+
+        // Act
+        List<Reservation> due = reservationRepository.lockExpired(NOW, 2);
+
+        // Assert
+        assertEquals(List.of("r3", "r4"), due.stream().map(Reservation::getId).toList());
+        assertTrue(reservationRepository.existsById("r2"));
+    }
+
+    @Test
+    void releaseAndCommitReserved_AdjustStockPerProduct() {
+        // Arrange
+        inventoryRepository.saveAllAndFlush(List.of(
+                InventoryRepositoryTest.inventory("sku-1", 10, 6),
+                InventoryRepositoryTest.inventory("sku-2", 10, 6),
+                InventoryRepositoryTest.inventory("sku-3", 10, 1)));
+
+        // Act
+        inventoryRepository.releaseReserved(Map.of("sku-1", 4, "sku-3", 2));
+        inventoryRepository.commitReserved(Map.of("sku-2", 5));
+        entityManager.clear();
+
+        // Assert
+        assertStock("sku-1", 10, 2);
+        assertStock("sku-2", 5, 1);
+        assertStock("sku-3", 10, 0);
+    }
+
+    private void assertStock(String productId, int quantity, int reserved) {
+        Inventory inventory = inventoryRepository.findByProductId(productId).orElseThrow();
+        assertEquals(quantity, inventory.getQuantity(), productId);
+        assertEquals(reserved, inventory.getReserved(), productId);
+    }
+
+    private static Reservation reservation(String id, String orderId, LocalDateTime expiresAt) {
+        return new Reservation(id, orderId, "sku-1", 1, expiresAt);
+    }
+}
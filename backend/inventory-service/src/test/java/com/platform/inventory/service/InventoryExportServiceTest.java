@@ -0,0 +1,100 @@
+package com.platform.inventory.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.inventory.entity.Inventory;
+import com.platform.inventory.repository.InventoryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class InventoryExportServiceTest {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private InventoryExportService inventoryExportService;
+
+    @BeforeEach
+    void setUp() {
+        inventoryExportService = new InventoryExportService(dataSource, transactionManager, objectMapper, 2);
+        inventoryRepository.saveAll(List.of(
+                inventory("sku-2", 5, 4),
+                inventory("sku-1", 10, 0),
+                inventory("sku,3", 10, 8)));
+        entityManager.flush();
+    }
+
+    @Test
+    void export_WritesOneJsonLinePerProductInOrder() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = inventoryExportService.export(InventoryExportService.Format.NDJSON, null, out);
+
+        // Assert
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, count);
+        assertEquals(3, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals("sku,3", first.get("productId").asText());
+        assertEquals(2, first.get("available").asInt());
+        assertEquals("sku-1", objectMapper.readTree(lines.get(1)).get("productId").asText());
+    }
+
+    @Test
+    void export_WritesLowStockCsv() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = inventoryExportService.export(InventoryExportService.Format.CSV, 3, out);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals("""
+                product_id,quantity,reserved,available
+                "sku,3",10,8,2
+                sku-2,5,4,1
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void parse_RejectsUnknownFormat() {
+        // Act & Assert
+        assertEquals(InventoryExportService.Format.CSV, InventoryExportService.Format.parse("csv"));
+        assertThrows(RuntimeException.class, () -> InventoryExportService.Format.parse("xml"));
+    }
+
+    private static Inventory inventory(String productId, int quantity, int reserved) {
+        Inventory inventory = new Inventory();
+        inventory.setProductId(productId);
+        inventory.setQuantity(quantity);
+        inventory.setReserved(reserved);
+        return inventory;
+    }
+}
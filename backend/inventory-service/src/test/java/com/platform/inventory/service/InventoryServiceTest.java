@@ -1,18 +1,32 @@
 package com.platform.inventory.service;
 
+import com.platform.inventory.cache.InventoryCache;
+import com.platform.inventory.dto.InventoryPage;
 import com.platform.inventory.entity.Inventory;
+import com.platform.inventory.ledger.StockLedger;
 import com.platform.inventory.repository.InventoryRepository;
+import com.platform.shared.events.OrderCreatedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +35,15 @@ class InventoryServiceTest {
     @Mock
     private InventoryRepository inventoryRepository;
 
+    @Mock
+    private StockLedger stockLedger;
+
+    @Mock
+    private InventoryCache inventoryCache;
+
+    @Mock
+    private ReservationService reservationService;
+
     @InjectMocks
     private InventoryService inventoryService;
 
@@ -69,4 +92,165 @@ class InventoryServiceTest {
         // Assert
         assertFalse(mockInventory.canReserve(150));
     }
+
+    @Test
+    void reserveOrder_SingleProductUsesConditionalUpdate() {
+        // Arrange
+        when(stockLedger.tryReserve(anyString(), anyInt())).thenReturn(StockLedger.Outcome.NOT_MANAGED);
+        when(inventoryRepository.tryReserve("product123", 10)).thenReturn(1);
+
+        // Act
+        inventoryService.reserveOrder(orderEvent("order1", "product123", 10));
+
+        // Assert
+        verify(inventoryRepository, never()).findByProductId(any());
+        verify(inventoryRepository, never()).tryReserveAll(anyMap());
+        verify(inventoryCache).evictAfterCommit(Set.of("product123"));
+        verify(reservationService).hold(Map.of("order1", Map.of("product123", 10)));
+    }
+
+    @Test
+    void reserveOrder_MergesItemsIntoOneMultiRowUpdate() {
+        // Arrange
+        OrderCreatedEvent event = orderEvent("order1", "product123", 2);
+        event.setItems(List.of(
+                new OrderCreatedEvent.OrderItem("product123", "A", 2, BigDecimal.ONE),
+                new OrderCreatedEvent.OrderItem("product456", "B", 1, BigDecimal.ONE),
+                new OrderCreatedEvent.OrderItem("product123", "A", 3, BigDecimal.ONE)));
+        when(stockLedger.tryReserve(anyString(), anyInt())).thenReturn(StockLedger.Outcome.NOT_MANAGED);
+        when(inventoryRepository.tryReserveAll(Map.of("product123", 5, "product456", 1)))
+                .thenReturn(List.of("product123", "product456"));
+
+        // Act
+        ReservationResult result = inventoryService.reserveOrder(event);
+
+        // Assert
+        assertTrue(result.reserved());
+        verify(inventoryRepository, never()).releaseReserved(anyMap());
+    }
+
+    @Test
+    void reserveOrder_RejectsAndReleasesWhenAnyProductIsShort() {
+        // Arrange
+        OrderCreatedEvent event = orderEvent("order1", "product123", 2);
+        event.setItems(List.of(
+                new OrderCreatedEvent.OrderItem("product123", "A", 2, BigDecimal.ONE),
+                new OrderCreatedEvent.OrderItem("product456", "B", 1, BigDecimal.ONE)));
+        when(stockLedger.tryReserve(anyString(), anyInt())).thenReturn(StockLedger.Outcome.NOT_MANAGED);
+        when(inventoryRepository.tryReserveAll(anyMap())).thenReturn(List.of("product123"));
+
+        // Act
+        ReservationResult result = inventoryService.reserveOrder(event);
+
+        // Assert
+        assertFalse(result.reserved());
+        assertEquals("Insufficient inventory for products product456", result.reason());
+        verify(inventoryRepository).releaseReserved(Map.of("product123", 2));
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    void reserveBatch_RejectsOnlyOrdersThatCannotBeReserved() {
+        // Arrange
+        when(inventoryRepository.findAllByProductIdInForUpdate(anyCollection())).thenReturn(List.of(mockInventory));
+        OrderCreatedEvent first = orderEvent("order1", "product123", 60);
+        OrderCreatedEvent second = orderEvent("order2", "product123", 60);
+        OrderCreatedEvent third = orderEvent("order3", "product123", 40);
+
+        // Act
+        BatchReservationResult result = inventoryService.reserveBatch(List.of(first, second, third));
+
+        // Assert
+        assertEquals(List.of(first, third), result.reserved());
+        assertEquals(List.of(second), result.rejected());
+        assertEquals(100, mockInventory.getReserved());
+        verify(reservationService).hold(Map.of("order1", Map.of("product123", 60), "order3", Map.of("product123", 40)));
+        verify(inventoryRepository, times(1)).findAllByProductIdInForUpdate(anyCollection());
+        verify(inventoryRepository, never()).save(any(Inventory.class));
+    }
+
+    @Test
+    void reserveBatch_FallsBackToTableForSkuDisabledMidBatch() {
+        // Arrange
+        when(stockLedger.isManaged("product123")).thenReturn(true);
+        when(stockLedger.tryReserve("product123", 30)).thenReturn(StockLedger.Outcome.NOT_MANAGED);
+        when(inventoryRepository.findAllByProductIdInForUpdate(List.of("product123"))).thenReturn(List.of(mockInventory));
+        OrderCreatedEvent event = orderEvent("order1", "product123", 30);
+
+        // Act
+        BatchReservationResult result = inventoryService.reserveBatch(List.of(event));
+
+        // Assert
+        assertEquals(List.of(event), result.reserved());
+        assertEquals(30, mockInventory.getReserved());
+        verify(reservationService).hold(Map.of("order1", Map.of("product123", 30)));
+    }
+
+    @Test
+    void reserveBatch_RejectsOrderWithUnknownProduct() {
+        // Arrange
+        when(inventoryRepository.findAllByProductIdInForUpdate(anyCollection())).thenReturn(List.of(mockInventory));
+        OrderCreatedEvent unknown = orderEvent("order1", "missing", 1);
+
+        // Act
+        BatchReservationResult result = inventoryService.reserveBatch(List.of(unknown));
+
+        // Assert
+        assertTrue(result.reserved().isEmpty());
+        assertEquals(List.of(unknown), result.rejected());
+        assertEquals(0, mockInventory.getReserved());
+    }
+
+    @Test
+    void getInventoryPage_ReturnsCursorWhenMoreProductsFollow() {
+        // Arrange
+        Inventory next = new Inventory();
+        next.setProductId("product456");
+        when(inventoryRepository.findPage("", Limit.of(2))).thenReturn(List.of(mockInventory, next));
+
+        // Act
+        InventoryPage page = inventoryService.getInventoryPage(null, 1, null);
+
+        // Assert
+        assertEquals(List.of(mockInventory), page.items());
+        assertEquals("product123", page.nextCursor());
+    }
+
+    @Test
+    void getInventoryPage_LowStockLastPageHasNoCursor() {
+        // Arrange
+        when(inventoryRepository.findLowStockPage("product100", 10, Limit.of(101))).thenReturn(List.of(mockInventory));
+
+        // Act
+        InventoryPage page = inventoryService.getInventoryPage("product100", 100, 10);
+
+        // Assert
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+        verify(inventoryRepository, never()).findPage(any(), any());
+    }
+
+    @Test
+    void reserveOrder_ReleasesLedgerUnitsWhenTableReservationFails() {
+        // Arrange
+        OrderCreatedEvent event = orderEvent("order1", "hot-sku", 2);
+        event.setItems(List.of(
+                new OrderCreatedEvent.OrderItem("hot-sku", "A", 2, BigDecimal.ONE),
+                new OrderCreatedEvent.OrderItem("product123", "B", 1, BigDecimal.ONE)));
+        when(stockLedger.tryReserve("hot-sku", 2)).thenReturn(StockLedger.Outcome.RESERVED);
+        when(stockLedger.tryReserve("product123", 1)).thenReturn(StockLedger.Outcome.NOT_MANAGED);
+        when(inventoryRepository.tryReserve("product123", 1)).thenReturn(0);
+
+        // Act
+        ReservationResult result = inventoryService.reserveOrder(event);
+
+        // Assert
+        assertFalse(result.reserved());
+        verify(stockLedger).release("hot-sku", 2);
+    }
+
+    private OrderCreatedEvent orderEvent(String orderId, String productId, int quantity) {
+        OrderCreatedEvent.OrderItem item = new OrderCreatedEvent.OrderItem(productId, "Test Product", quantity, BigDecimal.TEN);
+        return new OrderCreatedEvent(orderId, "user123", List.of(item), BigDecimal.TEN, LocalDateTime.now());
+    }
 }
@@ -0,0 +1,162 @@
+package com.platform.inventory.service;
+
+import com.platform.inventory.cache.InventoryCache;
+import com.platform.inventory.entity.Reservation;
+import com.platform.inventory.ledger.StockLedger;
+import com.platform.inventory.messaging.ReservationResultPublisher;
+import com.platform.inventory.repository.InventoryRepository;
+import com.platform.inventory.repository.ReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T12:00:00Z");
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private StockLedger stockLedger;
+
+    @Mock
+    private InventoryCache inventoryCache;
+
+    @Mock
+    private ReservationResultPublisher resultPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReservationService reservationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reservationService = new ReservationService(reservationRepository, inventoryRepository, stockLedger,
+                inventoryCache, resultPublisher, transactionManager, meterRegistry, Duration.ofMinutes(30), 2,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void hold_RecordsOneReservationPerOrderAndProduct() {
+        // Act
+        reservationService.hold(Map.of("order1", Map.of("sku-1", 2, "sku-2", 1), "order2", Map.of("sku-1", 3)));
+
+        // Assert
+        ArgumentCaptor<List<Reservation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reservationRepository).insertAll(captor.capture());
+        assertEquals(3, captor.getValue().size());
+        assertTrue(captor.getValue().stream().allMatch(reservation ->
+                reservation.getExpiresAt().equals(LocalDateTime.of(2024, 1, 1, 12, 30))));
+    }
+
+    @Test
+    void commit_TakesHeldUnitsOutOfStock() {
+        // Arrange
+        when(reservationRepository.findAllByOrderId("order1")).thenReturn(List.of(
+                reservation("r1", "sku-1", 2), reservation("r2", "hot-sku", 3)));
+        when(stockLedger.isManaged("sku-1")).thenReturn(false);
+        when(stockLedger.isManaged("hot-sku")).thenReturn(true);
+
+        // Act
+        int committed = reservationService.commit("order1");
+
+        // Assert
+        assertEquals(2, committed);
+        verify(reservationRepository).deleteAllByIdInBatch(List.of("r1", "r2"));
+        verify(inventoryRepository).commitReserved(Map.of("sku-1", 2));
+        verify(inventoryRepository).decreaseQuantity(Map.of("hot-sku", 3));
+        verify(stockLedger).release("hot-sku", 3);
+        verify(stockLedger).adjustQuantity("hot-sku", -3);
+        verify(inventoryCache).evictAfterCommit(Set.of("sku-1"));
+    }
+
+    @Test
+    void commit_DoesNothingWithoutOpenReservation() {
+        // Arrange
+        when(reservationRepository.findAllByOrderId("order1")).thenReturn(List.of());
+
+        // Act
+        int committed = reservationService.commit("order1");
+
+        // Assert
+        assertEquals(0, committed);
+        verify(inventoryRepository, never()).commitReserved(any());
+        assertEquals(1, meterRegistry.get("inventory.reservations.missing").counter().count());
+    }
+
+    @Test
+    void release_PutsHeldUnitsBackOnSale() {
+        // Arrange
+        when(reservationRepository.findAllByOrderId("order1")).thenReturn(List.of(
+                reservation("r1", "sku-1", 2), reservation("r2", "hot-sku", 3)));
+        when(stockLedger.isManaged("sku-1")).thenReturn(false);
+        when(stockLedger.isManaged("hot-sku")).thenReturn(true);
+
+        // Act
+        int released = reservationService.release("order1");
+
+        // Assert
+        assertEquals(2, released);
+        verify(reservationRepository).deleteAllByIdInBatch(List.of("r1", "r2"));
+        verify(inventoryRepository).releaseReserved(Map.of("sku-1", 2));
+        verify(stockLedger).release("hot-sku", 3);
+        verify(inventoryRepository, never()).decreaseQuantity(any());
+        verify(resultPublisher, never()).publishExpired(any());
+        assertEquals(2, meterRegistry.get("inventory.reservations.closed").tag("outcome", "cancelled").counter().count());
+    }
+
+    @Test
+    void releaseExpired_ReleasesInBatchesUntilNoneAreDue() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+        when(reservationRepository.lockExpired(now, 2))
+                .thenReturn(List.of(reservation("r1", "sku-1", 2), reservation("r2", "sku-1", 1)))
+                .thenReturn(List.of(new Reservation("r3", "order2", "sku-2", 4, LocalDateTime.of(2024, 1, 1, 11, 0))));
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+
+        // Act
+        long released = reservationService.releaseExpired();
+
+        // Assert
+        assertEquals(3, released);
+        verify(reservationRepository, times(2)).lockExpired(any(), anyInt());
+        verify(inventoryRepository).releaseReserved(Map.of("sku-1", 3));
+        verify(inventoryRepository).releaseReserved(Map.of("sku-2", 4));
+        verify(resultPublisher).publishExpired("order1");
+        verify(resultPublisher).publishExpired("order2");
+        assertEquals(3, meterRegistry.get("inventory.reservations.closed").tag("outcome", "expired").counter().count());
+    }
+
+    private static Reservation reservation(String id, String productId, int quantity) {
+        return new Reservation(id, "order1", productId, quantity, LocalDateTime.of(2024, 1, 1, 11, 0));
+    }
+}
@@ -0,0 +1,77 @@
+package com.platform.notification.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.notification.dispatch.ChannelSettings;
+import com.platform.notification.dispatch.HttpNotificationChannel;
+import com.platform.notification.dispatch.LogNotificationChannel;
+import com.platform.notification.dispatch.NotificationChannel;
+import com.platform.notification.dispatch.NotificationCoalescer;
+import com.platform.notification.dispatch.NotificationDispatcher;
+import com.platform.notification.dispatch.StubNotificationChannel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(NotificationProperties.class)
+public class NotificationDispatchConfig {
+
+    @Bean(destroyMethod = "close")
+    public NotificationDispatcher notificationDispatcher(NotificationProperties properties,
+                                                         ObjectProvider<NotificationChannel> channelBeans,
+                                                         ObjectMapper objectMapper) {
+        Map<String, NotificationChannel> channels = new LinkedHashMap<>();
+        channelBeans.orderedStream().forEach(channel -> channels.put(channel.name(), channel));
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        properties.getChannels().forEach((name, settings) -> {
+            if (settings.isEnabled()) {
+                channels.computeIfAbsent(name, ignored -> createChannel(name, settings, httpClient, objectMapper));
+            }
+        });
+
+        return new NotificationDispatcher(new ArrayList<>(channels.values()), properties.getChannels());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "notification.coalescing.enabled", havingValue = "true")
+    public NotificationCoalescer notificationCoalescer(NotificationDispatcher dispatcher, NotificationProperties properties,
+                                                       @Value("${spring.rabbitmq.listener.simple.prefetch:250}") int prefetch) {
+        NotificationProperties.Coalescing coalescing = properties.getCoalescing();
+        if (coalescing.getMaxHeldPerConsumer() >= prefetch) {
+            throw new IllegalStateException("notification.coalescing.max-held-per-consumer must be below the prefetch ("
+                    + prefetch + ")");
+        }
+        return new NotificationCoalescer(dispatcher, coalescing.getWindow(), coalescing.getMaxGroupSize(),
+                coalescing.getMaxHeldPerConsumer());
+    }
+
+    private static NotificationChannel createChannel(String name, ChannelSettings settings, HttpClient httpClient,
+                                                     ObjectMapper objectMapper) {
+        String type = settings.getType() != null ? settings.getType() : "http";
+        return switch (type) {
+            case "log" -> new LogNotificationChannel(name);
+            case "stub" -> new StubNotificationChannel(name, settings.getLatency());
+            case "http" -> {
+                if (settings.getUrl() == null) {
+                    throw new IllegalStateException("notification.channels." + name + ".url is required");
+                }
+                yield new HttpNotificationChannel(name, URI.create(settings.getUrl()), settings.getTimeout(),
+                        httpClient, objectMapper);
+            }
+            default -> throw new IllegalStateException("Unknown notification channel type: " + type);
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.platform.notification.config;
+
+import com.platform.notification.dispatch.ChannelSettings;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "notification")
+public class NotificationProperties {
+
+    private Map<String, ChannelSettings> channels = new LinkedHashMap<>();
+
+    private Coalescing coalescing = new Coalescing();
+
+    @Data
+    public static class Coalescing {
+
+        private boolean enabled = false;
+
+        private Duration window = Duration.ofMinutes(2);
+
+        /**
+         * Flush a group as soon as it holds this many notifications (created + paid + shipped = 3).
+         */
+        private int maxGroupSize = 3;
+
+        /**
+         * Upper bound on notifications held for one consumer; the oldest group holding its messages is flushed
+         * beyond it. Must stay below the consumer prefetch, or a consumer could be left with no delivery to act on.
+         */
+        private int maxHeldPerConsumer = 40;
+    }
+}
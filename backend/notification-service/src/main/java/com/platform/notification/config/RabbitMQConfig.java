@@ -1,8 +1,12 @@
 package com.platform.notification.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.shared.serialization.EventMessageConverter;
+import com.platform.shared.serialization.SerializationFormat;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -18,6 +22,9 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.exchange}")
     private String exchange;
 
+    @Value("${rabbitmq.serialization.format:json}")
+    private SerializationFormat serializationFormat;
+
     @Value("${rabbitmq.queues.order-created}")
     private String orderCreatedQueue;
 
@@ -29,17 +36,32 @@ public class RabbitMQConfig {
 
     @Bean
     public Queue orderCreatedQueue() {
-        return new Queue(orderCreatedQueue, true);
+        return deadLettered(orderCreatedQueue);
     }
 
     @Bean
     public Queue orderPaidQueue() {
-        return new Queue(orderPaidQueue, true);
+        return deadLettered(orderPaidQueue);
     }
 
     @Bean
     public Queue orderShippedQueue() {
-        return new Queue(orderShippedQueue, true);
+        return deadLettered(orderShippedQueue);
+    }
+
+    @Bean
+    public Queue orderCreatedDeadLetterQueue() {
+        return new Queue(deadLetterQueue(orderCreatedQueue), true);
+    }
+
+    @Bean
+    public Queue orderPaidDeadLetterQueue() {
+        return new Queue(deadLetterQueue(orderPaidQueue), true);
+    }
+
+    @Bean
+    public Queue orderShippedDeadLetterQueue() {
+        return new Queue(deadLetterQueue(orderShippedQueue), true);
     }
 
     @Bean
@@ -63,14 +85,29 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    public MessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public MessageConverter messageConverter(ObjectMapper objectMapper) {
+        // Boot's ObjectMapper: the converter's own mapper has no java.time support
+        return new EventMessageConverter(new Jackson2JsonMessageConverter(objectMapper), serializationFormat);
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(messageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter);
+        // Sends become spans and carry the trace context to the consumers
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
+
+    // Rejected deliveries (failed or timed out, never requeued) go to <queue>.dlq through the default exchange
+    private static Queue deadLettered(String name) {
+        return QueueBuilder.durable(name)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(deadLetterQueue(name))
+                .build();
+    }
+
+    private static String deadLetterQueue(String name) {
+        return name + ".dlq";
+    }
 }
@@ -0,0 +1,21 @@
+package com.platform.notification.dispatch;
+
+import java.util.Set;
+
+/**
+ * A notification failed on some of its channels. The others have delivered it, so only
+ * {@link #getFailedChannels()} should be retried.
+ */
+public class ChannelDeliveryException extends RuntimeException {
+
+    private final Set<String> failedChannels;
+
+    public ChannelDeliveryException(Set<String> failedChannels, Throwable cause) {
+        super("Notification failed on channels " + failedChannels, cause);
+        this.failedChannels = Set.copyOf(failedChannels);
+    }
+
+    public Set<String> getFailedChannels() {
+        return failedChannels;
+    }
+}
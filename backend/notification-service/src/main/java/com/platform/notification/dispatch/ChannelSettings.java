@@ -0,0 +1,32 @@
+package com.platform.notification.dispatch;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Per-channel settings under {@code notification.channels.<name>}.
+ */
+@Data
+public class ChannelSettings {
+
+    private boolean enabled = true;
+
+    /**
+     * How the channel is created when no bean of that name exists: {@code log}, {@code stub} or {@code http}.
+     */
+    private String type;
+
+    private String url;
+
+    private int concurrency = 4;
+
+    private int queueCapacity = 200;
+
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * Simulated provider latency for {@code stub} channels.
+     */
+    private Duration latency = Duration.ZERO;
+}
@@ -0,0 +1,116 @@
+package com.platform.notification.dispatch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs one channel's sends on {@code concurrency} threads with at most {@code queueCapacity} waiting.
+ * When both are used up, {@link #submit} blocks the caller (the AMQP consumer thread) until a slot frees,
+ * so a slow provider slows consumption instead of dropping notifications.
+ */
+@Slf4j
+class ChannelWorker {
+
+    private final NotificationChannel channel;
+    private final Duration timeout;
+    private final int capacity;
+    private final Semaphore permits;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService timer;
+
+    ChannelWorker(NotificationChannel channel, ChannelSettings settings, ScheduledExecutorService timer) {
+        this.channel = channel;
+        this.timeout = settings.getTimeout();
+        this.capacity = settings.getConcurrency() + settings.getQueueCapacity();
+        this.permits = new Semaphore(capacity);
+        this.timer = timer;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(settings.getConcurrency(), settings.getConcurrency(),
+                0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "notify-" + channel.name() + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    String name() {
+        return channel.name();
+    }
+
+    int inFlight() {
+        return capacity - permits.availablePermits();
+    }
+
+    CompletableFuture<Void> submit(Notification notification) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            if (!permits.tryAcquire()) {
+                log.debug("Channel {} is saturated, blocking consumer", channel.name());
+                permits.acquire();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        try {
+            executor.execute(() -> send(notification, result));
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private void send(Notification notification, CompletableFuture<Void> result) {
+        FutureTask<Void> call = new FutureTask<>(() -> {
+            channel.send(notification);
+            return null;
+        });
+        ScheduledFuture<?> deadline = timer.schedule(() -> {
+            if (call.cancel(true)) {
+                result.completeExceptionally(new TimeoutException(
+                        "Channel " + channel.name() + " did not respond within " + timeout));
+            }
+        }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            call.run();
+            call.get();
+            result.complete(null);
+        } catch (CancellationException e) {
+            // completed by the deadline task
+        } catch (ExecutionException e) {
+            result.completeExceptionally(e.getCause());
+        } catch (InterruptedException e) {
+            result.completeExceptionally(e);
+        } finally {
+            deadline.cancel(false);
+            // A timed-out send leaves the interrupt flag set on this pool thread
+            Thread.interrupted();
+            // Released only once the thread is free again, so a hung provider can't exceed the limit
+            permits.release();
+        }
+    }
+
+    void shutdown(Duration grace) throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(grace.toMillis(), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.platform.notification.dispatch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * POSTs the notification as JSON. Used for webhooks and for email/SMS/push delivered through an HTTP
+ * provider or relay; the channel name only selects the configuration.
+ */
+public class HttpNotificationChannel implements NotificationChannel {
+
+    private final String name;
+    private final URI url;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+
+    public HttpNotificationChannel(String name, URI url, Duration timeout, HttpClient httpClient,
+                                   ObjectMapper objectMapper) {
+        this.name = name;
+        this.url = url;
+        this.timeout = timeout;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public void send(Notification notification) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(notification)))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new RuntimeException("Channel " + name + " returned HTTP " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.platform.notification.dispatch;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes each notification as a single log line. The default channel until a real provider is configured.
+ */
+@Slf4j
+public class LogNotificationChannel implements NotificationChannel {
+
+    private final String name;
+
+    public LogNotificationChannel(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public void send(Notification notification) {
+        log.info("Notification {} order={} user={} details={}: {}", notification.type(), notification.orderId(),
+                notification.userId(), notification.details(), notification.message());
+    }
+}
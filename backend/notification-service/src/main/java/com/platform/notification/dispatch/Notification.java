@@ -0,0 +1,7 @@
+package com.platform.notification.dispatch;
+
+import java.util.Map;
+
+public record Notification(NotificationType type, String orderId, String userId, String message,
+                           Map<String, String> details) {
+}
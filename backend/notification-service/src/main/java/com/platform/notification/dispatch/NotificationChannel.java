@@ -0,0 +1,13 @@
+package com.platform.notification.dispatch;
+
+/**
+ * A delivery mechanism (email, SMS, push, webhook, ...). Implementations may block: each channel runs
+ * on its own bounded pool, so a slow provider only holds up its own channel.
+ * Any bean implementing this interface is picked up; its limits come from {@code notification.channels.<name>}.
+ */
+public interface NotificationChannel {
+
+    String name();
+
+    void send(Notification notification) throws Exception;
+}
@@ -0,0 +1,222 @@
+package com.platform.notification.dispatch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Holds notifications per user (or per order while the user is unknown) for a window and delivers each
+ * group as one message. A group is flushed when its window expires, when it reaches {@code maxGroupSize},
+ * or when its consumer already holds {@code maxHeldPerConsumer} notifications and it is the oldest group
+ * holding one of them.
+ * <p>
+ * The future returned by {@link #submit} completes only when the merged message has been delivered, and
+ * the listener acks the AMQP message on that completion. Held events are therefore unacked messages: a
+ * restart redelivers them instead of losing them. Each consumer's prefetch caps its own unacked messages,
+ * so held notifications are counted per consumer, by the calling thread (the listener container runs each
+ * consumer, with its own channel, on its own thread). Keeping that count below the prefetch leaves every
+ * consumer a delivery that can flush, so none stalls until a window ends.
+ * <p>
+ * If a merged message fails, its notifications are retried one by one on the channels it failed on, so only
+ * those that fail on their own are rejected. Groups flushed by their window are delivered on virtual
+ * threads: a saturated channel blocks that group's delivery, not the timer.
+ */
+@Slf4j
+public class NotificationCoalescer implements AutoCloseable {
+
+    private static final int MAX_KNOWN_ORDERS = 10_000;
+
+    private final NotificationDispatcher dispatcher;
+    private final Duration window;
+    private final int maxGroupSize;
+    private final int maxHeldPerConsumer;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notify-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService deliveries =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notify-coalescer-", 0).factory());
+
+    // Insertion-ordered, so the first entry is the oldest group
+    private final LinkedHashMap<String, Group> groups = new LinkedHashMap<>();
+    // Paid/shipped events carry no user id; remember it from the created event
+    private final LinkedHashMap<String, String> orderUsers = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_KNOWN_ORDERS;
+        }
+    };
+    private final Map<Long, Integer> heldByConsumer = new HashMap<>();
+    private int pending;
+
+    public NotificationCoalescer(NotificationDispatcher dispatcher, Duration window, int maxGroupSize,
+                                 int maxHeldPerConsumer) {
+        this.dispatcher = dispatcher;
+        this.window = window;
+        this.maxGroupSize = maxGroupSize;
+        this.maxHeldPerConsumer = maxHeldPerConsumer;
+    }
+
+    public CompletableFuture<Void> submit(Notification notification) {
+        CompletableFuture<Void> delivered = new CompletableFuture<>();
+        List<Group> ready = new ArrayList<>();
+        synchronized (this) {
+            String key = key(notification);
+            Group group = groups.get(key);
+            if (group == null) {
+                group = new Group(key);
+                groups.put(key, group);
+                Group scheduled = group;
+                group.expiry = timer.schedule(() -> flush(scheduled), window.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            long consumer = Thread.currentThread().threadId();
+            group.add(notification, delivered, consumer);
+            pending++;
+            heldByConsumer.merge(consumer, 1, Integer::sum);
+
+            if (group.notifications.size() >= maxGroupSize) {
+                ready.add(remove(group));
+            }
+            while (heldByConsumer.getOrDefault(consumer, 0) > maxHeldPerConsumer) {
+                ready.add(remove(oldestHolding(consumer)));
+            }
+        }
+        ready.forEach(this::deliver);
+        return delivered;
+    }
+
+    public synchronized int pending() {
+        return pending;
+    }
+
+    private String key(Notification notification) {
+        String userId = notification.userId();
+        if (userId != null) {
+            orderUsers.put(notification.orderId(), userId);
+        } else {
+            userId = orderUsers.get(notification.orderId());
+        }
+        return userId != null ? "user:" + userId : "order:" + notification.orderId();
+    }
+
+    private void flush(Group group) {
+        synchronized (this) {
+            if (groups.get(group.key) != group) {
+                return;
+            }
+            remove(group);
+        }
+        deliveries.execute(() -> deliver(group));
+    }
+
+    private Group oldestHolding(long consumer) {
+        for (Group group : groups.values()) {
+            if (group.consumers.contains(consumer)) {
+                return group;
+            }
+        }
+        throw new IllegalStateException("No held group for consumer " + consumer);
+    }
+
+    private Group remove(Group group) {
+        groups.remove(group.key);
+        pending -= group.notifications.size();
+        group.consumers.forEach(consumer -> heldByConsumer.computeIfPresent(consumer, (ignored, held) ->
+                held > 1 ? held - 1 : null));
+        group.expiry.cancel(false);
+        return group;
+    }
+
+    private void deliver(Group group) {
+        dispatcher.dispatch(merge(group.notifications)).whenCompleteAsync((ignored, error) -> {
+            if (error == null) {
+                group.waiters.forEach(waiter -> waiter.complete(null));
+            } else if (group.notifications.size() == 1) {
+                group.waiters.get(0).completeExceptionally(error);
+            } else {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                Set<String> failed = cause instanceof ChannelDeliveryException channelFailure
+                        ? channelFailure.getFailedChannels() : null;
+                log.warn("Merged notification for {} failed, delivering its {} notifications one by one on {}: {}",
+                        group.key, group.notifications.size(), failed != null ? failed : "every channel",
+                        error.toString());
+                deliverEach(group, failed);
+            }
+        }, deliveries);
+    }
+
+    // Only the failed channels are retried: the others have delivered the merged message already
+    private void deliverEach(Group group, Set<String> channels) {
+        for (int i = 0; i < group.notifications.size(); i++) {
+            CompletableFuture<Void> waiter = group.waiters.get(i);
+            Notification notification = group.notifications.get(i);
+            CompletableFuture<Void> retry = channels != null
+                    ? dispatcher.dispatch(notification, channels)
+                    : dispatcher.dispatch(notification);
+            retry.whenComplete((ignored, error) -> {
+                if (error != null) {
+                    waiter.completeExceptionally(error);
+                } else {
+                    waiter.complete(null);
+                }
+            });
+        }
+    }
+
+    static Notification merge(List<Notification> notifications) {
+        if (notifications.size() == 1) {
+            return notifications.get(0);
+        }
+        Notification last = notifications.get(notifications.size() - 1);
+        boolean singleOrder = notifications.stream().map(Notification::orderId).distinct().count() == 1;
+        String userId = notifications.stream().map(Notification::userId)
+                .filter(id -> id != null).findFirst().orElse(null);
+        Map<String, String> details = new LinkedHashMap<>();
+        notifications.forEach(notification -> details.putAll(notification.details()));
+        String message = notifications.stream()
+                .map(notification -> singleOrder ? notification.message() : notification.orderId() + ": " + notification.message())
+                .collect(Collectors.joining("\n"));
+        return new Notification(singleOrder ? last.type() : NotificationType.DIGEST,
+                singleOrder ? last.orderId() : null, userId, message, details);
+    }
+
+    @Override
+    public void close() {
+        // Held events stay unacked and are redelivered after restart
+        timer.shutdownNow();
+        deliveries.shutdownNow();
+    }
+
+    private static final class Group {
+        private final String key;
+        private final List<Notification> notifications = new ArrayList<>();
+        private final List<CompletableFuture<Void>> waiters = new ArrayList<>();
+        private final List<Long> consumers = new ArrayList<>();
+        private ScheduledFuture<?> expiry;
+
+        private Group(String key) {
+            this.key = key;
+        }
+
+        private void add(Notification notification, CompletableFuture<Void> waiter, long consumer) {
+            notifications.add(notification);
+            waiters.add(waiter);
+            consumers.add(consumer);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.platform.notification.dispatch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Fans each notification out to every enabled channel, or to the given ones when retrying. The returned
+ * future completes once all channels have delivered. If any failed or timed out it fails, once every
+ * channel has finished, with a {@link ChannelDeliveryException} naming just those channels.
+ */
+@Slf4j
+public class NotificationDispatcher implements AutoCloseable {
+
+    private final List<ChannelWorker> workers = new ArrayList<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notify-timeouts");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public NotificationDispatcher(List<NotificationChannel> channels, Map<String, ChannelSettings> settings) {
+        for (NotificationChannel channel : channels) {
+            ChannelSettings channelSettings = settings.getOrDefault(channel.name(), new ChannelSettings());
+            if (channelSettings.isEnabled()) {
+                workers.add(new ChannelWorker(channel, channelSettings, timer));
+                log.info("Notification channel {} enabled (concurrency={}, queue={}, timeout={})", channel.name(),
+                        channelSettings.getConcurrency(), channelSettings.getQueueCapacity(), channelSettings.getTimeout());
+            }
+        }
+    }
+
+    public CompletableFuture<Void> dispatch(Notification notification) {
+        return dispatch(notification, null);
+    }
+
+    /**
+     * Delivers to the enabled channels among {@code channels}, or to all of them when it is null.
+     */
+    public CompletableFuture<Void> dispatch(Notification notification, Set<String> channels) {
+        try {
+            Map<String, Throwable> failures = new ConcurrentHashMap<>();
+            List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+            for (ChannelWorker worker : workers) {
+                if (channels != null && !channels.contains(worker.name())) {
+                    continue;
+                }
+                deliveries.add(worker.submit(notification).whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        failures.put(worker.name(), error);
+                        log.warn("Notification {} for order {} failed on channel {}: {}", notification.type(),
+                                notification.orderId(), worker.name(), error.toString());
+                    }
+                }).exceptionally(error -> null));
+            }
+            return CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).thenRun(() -> {
+                if (!failures.isEmpty()) {
+                    throw new ChannelDeliveryException(failures.keySet(), failures.values().iterator().next());
+                }
+            });
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public int inFlight(String channelName) {
+        return workers.stream()
+                .filter(worker -> worker.name().equals(channelName))
+                .mapToInt(ChannelWorker::inFlight)
+                .sum();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (ChannelWorker worker : workers) {
+            worker.shutdown(Duration.ofSeconds(10));
+        }
+        timer.shutdownNow();
+    }
+}
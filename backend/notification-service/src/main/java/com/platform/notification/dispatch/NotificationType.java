@@ -0,0 +1,5 @@
+package com.platform.notification.dispatch;
+
+public enum NotificationType {
+    ORDER_CREATED, ORDER_PAID, ORDER_SHIPPED, DIGEST
+}
@@ -0,0 +1,37 @@
+package com.platform.notification.dispatch;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for a provider: waits for a fixed latency and counts deliveries.
+ * Used by tests and the dispatch benchmark, or locally with {@code type: stub}.
+ */
+public class StubNotificationChannel implements NotificationChannel {
+
+    private final String name;
+    private final Duration latency;
+    private final AtomicLong delivered = new AtomicLong();
+
+    public StubNotificationChannel(String name, Duration latency) {
+        this.name = name;
+        this.latency = latency;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public void send(Notification notification) throws InterruptedException {
+        if (!latency.isZero()) {
+            Thread.sleep(latency);
+        }
+        delivered.incrementAndGet();
+    }
+
+    public long delivered() {
+        return delivered.get();
+    }
+}
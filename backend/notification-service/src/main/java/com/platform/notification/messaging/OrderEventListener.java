@@ -1,44 +1,119 @@
 package com.platform.notification.messaging;
 
+import com.platform.notification.dispatch.ChannelDeliveryException;
 import com.platform.notification.service.NotificationService;
 import com.platform.shared.events.OrderCreatedEvent;
 import com.platform.shared.events.OrderPaidEvent;
 import com.platform.shared.events.OrderShippedEvent;
+import com.platform.shared.metrics.EventMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Listeners hand events to the dispatcher and return its future; the container acks (manual mode) when
+ * delivery completes. Unacked deliveries are capped by the prefetch, which is what throttles the broker
+ * when a channel falls behind. Processing time therefore runs until delivery, not until the hand-off.
+ * <p>
+ * When some channels fail, a copy of the message naming just those channels in {@value #CHANNELS_HEADER}
+ * goes to the queue's dead-letter queue and the original is acked, so a redrive resends only the failed
+ * channels. Any other failure rejects the message, which dead-letters it whole.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class OrderEventListener {
 
+    static final String CHANNELS_HEADER = "x-notification-channels";
+
     private final NotificationService notificationService;
+    private final EventMetrics eventMetrics;
+    private final RabbitTemplate rabbitTemplate;
 
     @RabbitListener(queues = "${rabbitmq.queues.order-created}")
-    public void handleOrderCreated(OrderCreatedEvent event) {
-        log.info("Received order created event: {}", event.getOrderId());
-        notificationService.sendOrderCreatedNotification(
-                event.getOrderId(),
-                event.getUserId(),
-                event.getTotalAmount().toString());
+    public CompletableFuture<Void> handleOrderCreated(@Payload OrderCreatedEvent event, Message message) {
+        log.debug("Received order created event: {}", event.getOrderId());
+        return measure("order.created", event.getCreatedAt(), message, channels ->
+                notificationService.sendOrderCreatedNotification(
+                        event.getOrderId(),
+                        event.getUserId(),
+                        String.valueOf(event.getTotalAmount()),
+                        channels));
     }
 
     @RabbitListener(queues = "${rabbitmq.queues.order-paid}")
-    public void handleOrderPaid(OrderPaidEvent event) {
-        log.info("Received order paid event: {}", event.getOrderId());
-        notificationService.sendOrderPaidNotification(
-                event.getOrderId(),
-                event.getPaymentId());
+    public CompletableFuture<Void> handleOrderPaid(@Payload OrderPaidEvent event, Message message) {
+        log.debug("Received order paid event: {}", event.getOrderId());
+        return measure("order.paid", event.getPaidAt(), message, channels ->
+                notificationService.sendOrderPaidNotification(
+                        event.getOrderId(),
+                        event.getPaymentId(),
+                        channels));
     }
 
     @RabbitListener(queues = "${rabbitmq.queues.order-shipped}")
-    public void handleOrderShipped(OrderShippedEvent event) {
-        log.info("Received order shipped event: {}", event.getOrderId());
-        notificationService.sendOrderShippedNotification(
-                event.getOrderId(),
-                event.getTrackingNumber(),
-                event.getCarrier());
+    public CompletableFuture<Void> handleOrderShipped(@Payload OrderShippedEvent event, Message message) {
+        log.debug("Received order shipped event: {}", event.getOrderId());
+        return measure("order.shipped", event.getShippedAt(), message, channels ->
+                notificationService.sendOrderShippedNotification(
+                        event.getOrderId(),
+                        event.getTrackingNumber(),
+                        event.getCarrier(),
+                        channels));
+    }
+
+    private CompletableFuture<Void> measure(String event, LocalDateTime occurredAt, Message message,
+                                            Function<Set<String>, CompletableFuture<Void>> delivery) {
+        eventMetrics.recordLag(event, occurredAt);
+        Timer.Sample sample = eventMetrics.startProcessing();
+        CompletableFuture<Void> delivered;
+        try {
+            delivered = delivery.apply(channels(message));
+        } catch (RuntimeException e) {
+            eventMetrics.recordProcessing(sample, event, EventMetrics.FAILURE);
+            throw e;
+        }
+        return delivered
+                .whenComplete((result, error) -> eventMetrics.recordProcessing(sample, event,
+                        error == null ? EventMetrics.SUCCESS : EventMetrics.FAILURE))
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof ChannelDeliveryException failed) {
+                        deadLetter(message, failed.getFailedChannels());
+                        return null;
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    private static Set<String> channels(Message message) {
+        Object header = message.getMessageProperties().getHeader(CHANNELS_HEADER);
+        return header != null ? Set.of(header.toString().split(",")) : null;
+    }
+
+    // The copy gets its own message id: the original's is marked processed once it is acked
+    private void deadLetter(Message message, Set<String> failedChannels) {
+        String channels = failedChannels.stream().sorted().collect(Collectors.joining(","));
+        MessageProperties properties = message.getMessageProperties();
+        Message copy = MessageBuilder.fromClonedMessage(message)
+                .setHeader(CHANNELS_HEADER, channels)
+                .setMessageId(properties.getMessageId() != null ? properties.getMessageId() + ":" + channels : null)
+                .build();
+        rabbitTemplate.send("", properties.getConsumerQueue() + ".dlq", copy);
+        log.warn("Dead-lettered {} for channels {}", properties.getConsumerQueue(), channels);
     }
 }
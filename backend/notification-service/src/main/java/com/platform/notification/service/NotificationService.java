@@ -1,39 +1,54 @@
 package com.platform.notification.service;
 
-import lombok.extern.slf4j.Slf4j;
+import com.platform.notification.dispatch.Notification;
+import com.platform.notification.dispatch.NotificationCoalescer;
+import com.platform.notification.dispatch.NotificationDispatcher;
+import com.platform.notification.dispatch.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
 @Service
-@Slf4j
+@RequiredArgsConstructor
 public class NotificationService {
 
-    public void sendOrderCreatedNotification(String orderId, String userId, String totalAmount) {
-        // In a real implementation, this would send email, SMS, push notification, etc.
-        log.info("===========================================");
-        log.info("📧 NOTIFICATION: Order Created");
-        log.info("Order ID: {}", orderId);
-        log.info("User ID: {}", userId);
-        log.info("Total Amount: {}", totalAmount);
-        log.info("Message: Your order has been created successfully!");
-        log.info("===========================================");
+    private final NotificationDispatcher dispatcher;
+    private final ObjectProvider<NotificationCoalescer> coalescer;
+
+    public CompletableFuture<Void> sendOrderCreatedNotification(String orderId, String userId, String totalAmount,
+                                                                Set<String> channels) {
+        return send(new Notification(NotificationType.ORDER_CREATED, orderId, userId,
+                "Your order has been created successfully!",
+                Map.of("totalAmount", String.valueOf(totalAmount))), channels);
+    }
+
+    public CompletableFuture<Void> sendOrderPaidNotification(String orderId, String paymentId, Set<String> channels) {
+        return send(new Notification(NotificationType.ORDER_PAID, orderId, null,
+                "Your payment has been processed successfully!",
+                Map.of("paymentId", String.valueOf(paymentId))), channels);
     }
 
-    public void sendOrderPaidNotification(String orderId, String paymentId) {
-        log.info("===========================================");
-        log.info("💳 NOTIFICATION: Order Paid");
-        log.info("Order ID: {}", orderId);
-        log.info("Payment ID: {}", paymentId);
-        log.info("Message: Your payment has been processed successfully!");
-        log.info("===========================================");
+    public CompletableFuture<Void> sendOrderShippedNotification(String orderId, String trackingNumber, String carrier,
+                                                                Set<String> channels) {
+        return send(new Notification(NotificationType.ORDER_SHIPPED, orderId, null,
+                "Your order has been shipped!",
+                Map.of("trackingNumber", String.valueOf(trackingNumber), "carrier", String.valueOf(carrier))),
+                channels);
     }
 
-    public void sendOrderShippedNotification(String orderId, String trackingNumber, String carrier) {
-        log.info("===========================================");
-        log.info("📦 NOTIFICATION: Order Shipped");
-        log.info("Order ID: {}", orderId);
-        log.info("Tracking Number: {}", trackingNumber);
-        log.info("Carrier: {}", carrier);
-        log.info("Message: Your order has been shipped!");
-        log.info("===========================================");
+    /**
+     * Sends to {@code channels}, or to every channel when null. A retry of some channels is sent on its own,
+     * never merged with other notifications.
+     */
+    private CompletableFuture<Void> send(Notification notification, Set<String> channels) {
+        if (channels != null) {
+            return dispatcher.dispatch(notification, channels);
+        }
+        NotificationCoalescer active = coalescer.getIfAvailable();
+        return active != null ? active.submit(notification) : dispatcher.dispatch(notification);
     }
 }
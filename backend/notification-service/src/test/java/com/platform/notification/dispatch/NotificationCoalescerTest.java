@@ -0,0 +1,206 @@
+package com.platform.notification.dispatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerTest {
+
+    @Mock
+    private NotificationDispatcher dispatcher;
+
+    private NotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(dispatcher.dispatch(any(Notification.class))).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.close();
+    }
+
+    @Test
+    void submit_MergesOrderLifecycleIntoOneDeliveryWhenGroupIsFull() throws Exception {
+        // Arrange
+        coalescer = new NotificationCoalescer(dispatcher, Duration.ofMinutes(5), 3, 100);
+
+        // Act
+        CompletableFuture<Void> created = coalescer.submit(notification(NotificationType.ORDER_CREATED, "order1", "user1"));
+        CompletableFuture<Void> paid = coalescer.submit(notification(NotificationType.ORDER_PAID, "order1", null));
+        assertFalse(created.isDone());
+        CompletableFuture<Void> shipped = coalescer.submit(notification(NotificationType.ORDER_SHIPPED, "order1", null));
+
+        // Assert
+        CompletableFuture.allOf(created, paid, shipped).get(1, TimeUnit.SECONDS);
+        ArgumentCaptor<Notification> merged = ArgumentCaptor.forClass(Notification.class);
+        verify(dispatcher, times(1)).dispatch(merged.capture());
+        assertEquals(NotificationType.ORDER_SHIPPED, merged.getValue().type());
+        assertEquals("order1", merged.getValue().orderId());
+        assertEquals("user1", merged.getValue().userId());
+        assertEquals(3, merged.getValue().message().lines().count());
+        assertEquals(0, coalescer.pending());
+    }
+
+    @Test
+    void submit_FlushesWhenWindowExpires() throws Exception {
+        // Arrange
+        coalescer = new NotificationCoalescer(dispatcher, Duration.ofMillis(100), 3, 100);
+
+        // Act
+        CompletableFuture<Void> created = coalescer.submit(notification(NotificationType.ORDER_CREATED, "order1", "user1"));
+
+        // Assert
+        created.get(2, TimeUnit.SECONDS);
+        verify(dispatcher).dispatch(argThat(n -> n.type() == NotificationType.ORDER_CREATED));
+    }
+
+    @Test
+    void submit_BuildsDigestAcrossOrdersOfSameUser() throws Exception {
+        // Arrange
+        coalescer = new NotificationCoalescer(dispatcher, Duration.ofMinutes(5), 2, 100);
+
+        // Act
+        coalescer.submit(notification(NotificationType.ORDER_CREATED, "order1", "user1"));
+        coalescer.submit(notification(NotificationType.ORDER_CREATED, "order2", "user1")).get(1, TimeUnit.SECONDS);
+
+        // Assert
+        verify(dispatcher).dispatch(argThat(n -> n.type() == NotificationType.DIGEST
+                && n.orderId() == null && n.message().contains("order1: ") && n.message().contains("order2: ")));
+    }
+
+    @Test
+    void submit_FlushesOldestGroupBeyondMaxHeldPerConsumer() throws Exception {
+        // Arrange
+        coalescer = new NotificationCoalescer(dispatcher, Duration.ofMinutes(5), 3, 2);
+        CompletableFuture<Void> oldest = coalescer.submit(notification(NotificationType.ORDER_CREATED, "order1", "user1"));
+        coalescer.submit(notification(NotificationType.ORDER_CREATED, "order2", "user2"));
+
+        // Act
+        coalescer.submit(notification(NotificationType.ORDER_CREATED, "order3", "user3"));
+
+        // Assert
+        oldest.get(1, TimeUnit.SECONDS);
+        verify(dispatcher).dispatch(argThat(n -> "order1".equals(n.orderId())));
+        assertEquals(2, coalescer.pending());
+    }
+
+    @Test
+    void submit_CountsHeldNotificationsPerConsumer() throws Exception {
+        // Arrange
+        coalescer = new NotificationCoalescer(dispatcher, Duration.ofMinutes(5), 3, 1);
+        CompletableFuture<Void> otherConsumer = CompletableFuture.supplyAsync(() ->
+                coalescer.submit(notification(NotificationType.ORDER_CREATED, "order1", "user1"))).get(1, TimeUnit.SECONDS);
+        CompletableFuture<Void> first = coalescer.submit(notification(NotificationType.ORDER_CREATED, "order2", "user2"));
+
+        // Act
+        CompletableFuture<Void> second = coalescer.submit(notification(NotificationType.ORDER_CREATED, "order3", "user3"));
+
+        // Assert
+        first.get(1, TimeUnit.SECONDS);
+        assertFalse(otherConsumer.isDone());
+        assertFalse(second.isDone());
+        assertEquals(2, coalescer.pending());
+    }
+
+    @Test
+    void submit_RetriesEachHeldEventWhenMergedDeliveryFails() throws Exception {
+        // Arrange
+        when(dispatcher.dispatch(any(Notification.class))).thenAnswer(invocation ->
+                invocation.getArgument(0, Notification.class).type() == NotificationType.ORDER_CREATED
+                        ? CompletableFuture.completedFuture(null)
+                        : CompletableFuture.failedFuture(new RuntimeException("provider down")));
+        coalescer = new NotificationCoalescer(dispatcher, Duration.ofMinutes(5), 2, 100);
+
+        // Act
+        CompletableFuture<Void> created = coalescer.submit(notification(NotificationType.ORDER_CREATED, "order1", "user1"));
+        CompletableFuture<Void> paid = coalescer.submit(notification(NotificationType.ORDER_PAID, "order1", null));
+
+        // Assert
+        created.get(1, TimeUnit.SECONDS);
+        assertThrows(ExecutionException.class, () -> paid.get(1, TimeUnit.SECONDS));
+        verify(dispatcher, times(3)).dispatch(any(Notification.class));
+    }
+
+    @Test
+    void submit_RetriesHeldEventsOnlyOnChannelsTheMergedDeliveryFailedOn() throws Exception {
+        // Arrange
+        when(dispatcher.dispatch(any(Notification.class))).thenReturn(CompletableFuture.failedFuture(
+                new CompletionException(new ChannelDeliveryException(Set.of("sms"), new RuntimeException("provider down")))));
+        when(dispatcher.dispatch(any(Notification.class), eq(Set.of("sms"))))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        coalescer = new NotificationCoalescer(dispatcher, Duration.ofMinutes(5), 2, 100);
+
+        // Act
+        CompletableFuture<Void> created = coalescer.submit(notification(NotificationType.ORDER_CREATED, "order1", "user1"));
+        CompletableFuture<Void> paid = coalescer.submit(notification(NotificationType.ORDER_PAID, "order1", null));
+
+        // Assert
+        CompletableFuture.allOf(created, paid).get(1, TimeUnit.SECONDS);
+        verify(dispatcher, times(1)).dispatch(any(Notification.class));
+        verify(dispatcher, times(2)).dispatch(any(Notification.class), eq(Set.of("sms")));
+    }
+
+    @Test
+    void submit_WindowFlushDoesNotWaitForSaturatedChannel() throws Exception {
+        // Arrange
+        CompletableFuture<Void> blocked = new CompletableFuture<>();
+        when(dispatcher.dispatch(any(Notification.class))).thenAnswer(invocation -> {
+            if ("order1".equals(invocation.getArgument(0, Notification.class).orderId())) {
+                // Stands in for ChannelWorker.submit blocking on a full channel
+                blocked.join();
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+        coalescer = new NotificationCoalescer(dispatcher, Duration.ofMillis(50), 3, 100);
+        CompletableFuture<Void> first = coalescer.submit(notification(NotificationType.ORDER_CREATED, "order1", "user1"));
+
+        // Act
+        CompletableFuture<Void> second = coalescer.submit(notification(NotificationType.ORDER_CREATED, "order2", "user2"));
+
+        // Assert
+        second.get(2, TimeUnit.SECONDS);
+        assertFalse(first.isDone());
+        blocked.complete(null);
+        first.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void submit_FailsEveryHeldEventWhenDeliveryFails() {
+        // Arrange
+        when(dispatcher.dispatch(any(Notification.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("provider down")));
+        coalescer = new NotificationCoalescer(dispatcher, Duration.ofMinutes(5), 2, 100);
+
+        // Act
+        CompletableFuture<Void> created = coalescer.submit(notification(NotificationType.ORDER_CREATED, "order1", "user1"));
+        CompletableFuture<Void> paid = coalescer.submit(notification(NotificationType.ORDER_PAID, "order1", null));
+
+        // Assert
+        assertThrows(ExecutionException.class, () -> created.get(1, TimeUnit.SECONDS));
+        assertThrows(ExecutionException.class, () -> paid.get(1, TimeUnit.SECONDS));
+    }
+
+    private static Notification notification(NotificationType type, String orderId, String userId) {
+        return new Notification(type, orderId, userId, type.name().toLowerCase(), Map.of());
+    }
+}
@@ -0,0 +1,64 @@
+package com.platform.notification.dispatch;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notifications/sec against a simulated slow provider, from a single consumer thread as the AMQP
+ * listener would drive it. {@code inline} is the old behaviour (send on the listener thread); the
+ * dispatcher runs are bounded by a prefetch of 50 unacked messages.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class NotificationDispatchBenchmark {
+
+    private static final Duration PROVIDER_LATENCY = Duration.ofMillis(Long.getLong("benchmark.provider-latency-ms", 20));
+    private static final long DURATION_MS = Long.getLong("benchmark.duration-ms", 3_000);
+    private static final int PREFETCH = 50;
+    private static final Notification NOTIFICATION =
+            new Notification(NotificationType.ORDER_CREATED, "order123", "user123", "created", Map.of());
+
+    @Test
+    void inline() throws Exception {
+        StubNotificationChannel channel = new StubNotificationChannel("email", PROVIDER_LATENCY);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MS);
+        while (System.nanoTime() < deadline) {
+            channel.send(NOTIFICATION);
+        }
+        report("inline", 1, channel.delivered());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 32})
+    void dispatcher(int concurrency) throws Exception {
+        StubNotificationChannel channel = new StubNotificationChannel("email", PROVIDER_LATENCY);
+        ChannelSettings settings = new ChannelSettings();
+        settings.setConcurrency(concurrency);
+        settings.setQueueCapacity(PREFETCH);
+        settings.setTimeout(Duration.ofSeconds(5));
+
+        try (NotificationDispatcher dispatcher = new NotificationDispatcher(List.of(channel), Map.of("email", settings))) {
+            Semaphore unacked = new Semaphore(PREFETCH);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MS);
+            while (System.nanoTime() < deadline) {
+                unacked.acquire();
+                dispatcher.dispatch(NOTIFICATION).whenComplete((ignored, error) -> unacked.release());
+            }
+            unacked.acquire(PREFETCH);
+            report("dispatcher", concurrency, channel.delivered());
+        }
+    }
+
+    private static void report(String mode, int concurrency, long delivered) {
+        System.out.printf("%-10s concurrency=%-2d provider-latency=%dms notifications/s=%,.0f%n",
+                mode, concurrency, PROVIDER_LATENCY.toMillis(), delivered / (DURATION_MS / 1000.0));
+    }
+}
@@ -0,0 +1,138 @@
+package com.platform.notification.dispatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationDispatcherTest {
+
+    private static final Notification NOTIFICATION =
+            new Notification(NotificationType.ORDER_CREATED, "order123", "user123", "created", Map.of());
+
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    @Test
+    void dispatch_DeliversToEveryEnabledChannel() throws Exception {
+        // Arrange
+        StubNotificationChannel email = new StubNotificationChannel("email", Duration.ZERO);
+        StubNotificationChannel sms = new StubNotificationChannel("sms", Duration.ZERO);
+        StubNotificationChannel push = new StubNotificationChannel("push", Duration.ZERO);
+        ChannelSettings disabled = new ChannelSettings();
+        disabled.setEnabled(false);
+        dispatcher = new NotificationDispatcher(List.of(email, sms, push), Map.of("push", disabled));
+
+        // Act
+        dispatcher.dispatch(NOTIFICATION).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(1, email.delivered());
+        assertEquals(1, sms.delivered());
+        assertEquals(0, push.delivered());
+    }
+
+    @Test
+    void dispatch_FailsWhenChannelExceedsTimeout() {
+        // Arrange
+        ChannelSettings settings = new ChannelSettings();
+        settings.setTimeout(Duration.ofMillis(100));
+        StubNotificationChannel slow = new StubNotificationChannel("webhook", Duration.ofSeconds(10));
+        dispatcher = new NotificationDispatcher(List.of(slow), Map.of("webhook", settings));
+
+        // Act
+        CompletableFuture<Void> result = dispatcher.dispatch(NOTIFICATION);
+
+        // Assert
+        ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        ChannelDeliveryException failure = assertInstanceOf(ChannelDeliveryException.class, error.getCause());
+        assertEquals(Set.of("webhook"), failure.getFailedChannels());
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+        assertEquals(0, slow.delivered());
+    }
+
+    @Test
+    void dispatch_NamesOnlyFailedChannelsAndRetriesJustThose() throws Exception {
+        // Arrange
+        StubNotificationChannel email = new StubNotificationChannel("email", Duration.ZERO);
+        AtomicInteger smsAttempts = new AtomicInteger();
+        NotificationChannel sms = new NotificationChannel() {
+            @Override
+            public String name() {
+                return "sms";
+            }
+
+            @Override
+            public void send(Notification notification) {
+                if (smsAttempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("provider down");
+                }
+            }
+        };
+        dispatcher = new NotificationDispatcher(List.of(email, sms), Map.of());
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> dispatcher.dispatch(NOTIFICATION).get(5, TimeUnit.SECONDS));
+        Set<String> failed = assertInstanceOf(ChannelDeliveryException.class, error.getCause()).getFailedChannels();
+
+        // Act
+        dispatcher.dispatch(NOTIFICATION, failed).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(Set.of("sms"), failed);
+        assertEquals(1, email.delivered());
+        assertEquals(2, smsAttempts.get());
+    }
+
+    @Test
+    void dispatch_BlocksCallerOnceConcurrencyAndQueueAreFull() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        NotificationChannel blocked = new NotificationChannel() {
+            @Override
+            public String name() {
+                return "email";
+            }
+
+            @Override
+            public void send(Notification notification) throws InterruptedException {
+                release.await();
+            }
+        };
+        ChannelSettings settings = new ChannelSettings();
+        settings.setConcurrency(1);
+        settings.setQueueCapacity(1);
+        dispatcher = new NotificationDispatcher(List.of(blocked), Map.of("email", settings));
+        CompletableFuture<Void> first = dispatcher.dispatch(NOTIFICATION);
+        CompletableFuture<Void> second = dispatcher.dispatch(NOTIFICATION);
+
+        // Act
+        CompletableFuture<Void> third = CompletableFuture.supplyAsync(() -> dispatcher.dispatch(NOTIFICATION))
+                .thenCompose(future -> future);
+
+        // Assert
+        Thread.sleep(200);
+        assertFalse(third.isDone());
+        assertEquals(2, dispatcher.inFlight("email"));
+
+        release.countDown();
+        CompletableFuture.allOf(first, second, third).get(5, TimeUnit.SECONDS);
+        assertEquals(0, dispatcher.inFlight("email"));
+    }
+}
@@ -1,5 +1,11 @@
 package com.platform.order.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.shared.serialization.EventMessageConverter;
+import com.platform.shared.serialization.SerializationFormat;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -15,20 +21,49 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.exchange}")
     private String exchange;
 
+    @Value("${rabbitmq.serialization.format:json}")
+    private SerializationFormat serializationFormat;
+
+    @Value("${rabbitmq.queues.inventory-results}")
+    private String inventoryResultsQueue;
+
     @Bean
     public TopicExchange orderExchange() {
         return new TopicExchange(exchange);
     }
 
     @Bean
-    public MessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public Queue inventoryResultsQueue() {
+        return new Queue(inventoryResultsQueue, true);
+    }
+
+    @Bean
+    public Binding inventoryReservedBinding(Queue inventoryResultsQueue, TopicExchange orderExchange) {
+        return BindingBuilder.bind(inventoryResultsQueue).to(orderExchange).with("inventory.reserved");
+    }
+
+    @Bean
+    public Binding inventoryRejectedBinding(Queue inventoryResultsQueue, TopicExchange orderExchange) {
+        return BindingBuilder.bind(inventoryResultsQueue).to(orderExchange).with("inventory.rejected");
+    }
+
+    @Bean
+    public Binding inventoryExpiredBinding(Queue inventoryResultsQueue, TopicExchange orderExchange) {
+        return BindingBuilder.bind(inventoryResultsQueue).to(orderExchange).with("inventory.expired");
+    }
+
+    @Bean
+    public MessageConverter messageConverter(ObjectMapper objectMapper) {
+        // Boot's ObjectMapper: the converter's own mapper has no java.time support
+        return new EventMessageConverter(new Jackson2JsonMessageConverter(objectMapper), serializationFormat);
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(messageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter);
+        // Sends become spans and carry the trace context to the consumers
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
 }
@@ -1,44 +1,119 @@
 package com.platform.order.controller;
 
+import com.platform.order.dto.BulkOrderResult;
 import com.platform.order.dto.CreateOrderRequest;
+import com.platform.order.dto.OrderCursor;
+import com.platform.order.dto.OrderPage;
+import com.platform.order.dto.OrderStatusView;
+import com.platform.order.dto.OrderSummary;
 import com.platform.order.entity.Order;
+import com.platform.order.service.BulkOrderService;
+import com.platform.order.service.OrderExportService;
 import com.platform.order.service.OrderService;
+import com.platform.order.status.OrderStatusWatcher;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final BulkOrderService bulkOrderService;
+    private final OrderStatusWatcher statusWatcher;
 
     @PostMapping
     public ResponseEntity<Order> createOrder(@Valid @RequestBody CreateOrderRequest request) {
         return ResponseEntity.ok(orderService.createOrder(request));
     }
 
+    /**
+     * Creates up to {@code orders.bulk.max-orders} orders; each request is validated on its own and
+     * gets a result at its index.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkOrderResult>> createOrders(@RequestBody List<CreateOrderRequest> requests) {
+        return ResponseEntity.ok(bulkOrderService.createOrders(requests));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Order> getOrderById(@PathVariable String id) {
         return ResponseEntity.ok(orderService.getOrderById(id));
     }
 
+    /**
+     * Long-poll: answers as soon as the status differs from {@code known}, or with the current status
+     * after {@code wait} seconds. Without {@code known} it answers immediately.
+     */
+    @GetMapping("/{id}/status")
+    public DeferredResult<OrderStatusView> getOrderStatus(@PathVariable String id,
+                                                          @RequestParam(required = false) Order.OrderStatus known,
+                                                          @RequestParam(defaultValue = "30") long wait) {
+        return statusWatcher.await(id, known, Duration.ofSeconds(wait));
+    }
+
+    @GetMapping(value = "/{id}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderStatus(@PathVariable String id) {
+        return statusWatcher.subscribe(id);
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<Order>> getOrdersByUserId(@PathVariable String userId) {
         return ResponseEntity.ok(orderService.getOrdersByUserId(userId));
     }
 
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<OrderPage> getOrderPage(@PathVariable String userId,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "50") int size) {
+        OrderCursor position = cursor != null ? OrderCursor.decode(cursor) : null;
+        return ResponseEntity.ok(orderService.getOrderPage(userId, position, size));
+    }
+
+    @GetMapping("/user/{userId}/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@PathVariable String userId) {
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders-" + userId + ".ndjson", StandardCharsets.UTF_8)
+                        .build().toString())
+                .body(out -> orderExportService.export(userId, out));
+    }
+
+    @GetMapping("/user/{userId}/summaries")
+    public ResponseEntity<List<OrderSummary>> getOrderSummariesByUserId(@PathVariable String userId) {
+        return ResponseEntity.ok(orderService.getOrderSummariesByUserId(userId));
+    }
+
     @PostMapping("/{id}/pay")
     public ResponseEntity<Order> markAsPaid(@PathVariable String id, @RequestParam String paymentId) {
-        return ResponseEntity.ok(orderService.markAsPaid(id, paymentId));
+        Order order = orderService.markAsPaid(id, paymentId);
+        statusWatcher.statusChanged(List.of(id));
+        return ResponseEntity.ok(order);
     }
 
     @PostMapping("/{id}/ship")
     public ResponseEntity<Order> markAsShipped(@PathVariable String id, @RequestParam String trackingNumber) {
-        return ResponseEntity.ok(orderService.markAsShipped(id, trackingNumber));
+        Order order = orderService.markAsShipped(id, trackingNumber);
+        statusWatcher.statusChanged(List.of(id));
+        return ResponseEntity.ok(order);
     }
 }
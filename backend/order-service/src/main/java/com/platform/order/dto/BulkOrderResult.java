@@ -0,0 +1,27 @@
+package com.platform.order.dto;
+
+/**
+ * Outcome of one request in a bulk submission; {@code index} is its position in the request list.
+ */
+public record BulkOrderResult(int index, Status status, String orderId, String error) {
+
+    public enum Status {
+        CREATED,
+        // Failed validation; nothing was written
+        REJECTED,
+        // Its chunk's transaction rolled back; safe to resubmit
+        FAILED
+    }
+
+    public static BulkOrderResult created(int index, String orderId) {
+        return new BulkOrderResult(index, Status.CREATED, orderId, null);
+    }
+
+    public static BulkOrderResult rejected(int index, String error) {
+        return new BulkOrderResult(index, Status.REJECTED, null, error);
+    }
+
+    public static BulkOrderResult failed(int index, String error) {
+        return new BulkOrderResult(index, Status.FAILED, null, error);
+    }
+}
@@ -0,0 +1,11 @@
+package com.platform.order.dto;
+
+import com.platform.order.entity.Order;
+
+import java.util.List;
+
+/**
+ * One page of a user's orders, newest first. {@code nextCursor} is null on the last page.
+ */
+public record OrderPage(List<Order> orders, String nextCursor) {
+}
@@ -0,0 +1,9 @@
+package com.platform.order.dto;
+
+import com.platform.order.entity.Order;
+
+/**
+ * An order's current status, as returned by the status long-poll and stream.
+ */
+public record OrderStatusView(String id, Order.OrderStatus status) {
+}
@@ -0,0 +1,17 @@
+package com.platform.order.dto;
+
+import com.platform.order.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * List-view projection of an order: selected straight into the DTO, without loading entities or items.
+ */
+public record OrderSummary(String id,
+                           String userId,
+                           Order.OrderStatus status,
+                           BigDecimal totalAmount,
+                           int itemCount,
+                           LocalDateTime createdAt) {
+}
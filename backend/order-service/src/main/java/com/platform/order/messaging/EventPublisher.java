@@ -1,36 +1,99 @@
 package com.platform.order.messaging;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.order.entity.OutboxEvent;
+import com.platform.order.repository.OutboxEventRepository;
+import com.platform.shared.events.OrderCancelledEvent;
 import com.platform.shared.events.OrderCreatedEvent;
 import com.platform.shared.events.OrderPaidEvent;
 import com.platform.shared.events.OrderShippedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes events to the outbox table inside the caller's transaction.
+ * {@link OutboxRelay} publishes them to RabbitMQ once the transaction has committed.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class EventPublisher {
 
-    private final RabbitTemplate rabbitTemplate;
-
-    @Value("${rabbitmq.exchange}")
-    private String exchange;
+    private final OutboxEventRepository outboxEventRepository;
+    private final MessageConverter messageConverter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final OutboxTracing outboxTracing;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishOrderCreated(OrderCreatedEvent event) {
-        log.info("Publishing order created event: {}", event.getOrderId());
-        rabbitTemplate.convertAndSend(exchange, "order.created", event);
+        log.info("Queueing order created event: {}", event.getOrderId());
+        enqueue(event.getOrderId(), "order.created", event);
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishOrderPaid(OrderPaidEvent event) {
-        log.info("Publishing order paid event: {}", event.getOrderId());
-        rabbitTemplate.convertAndSend(exchange, "order.paid", event);
+        log.info("Queueing order paid event: {}", event.getOrderId());
+        enqueue(event.getOrderId(), "order.paid", event);
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishOrderShipped(OrderShippedEvent event) {
-        log.info("Publishing order shipped event: {}", event.getOrderId());
-        rabbitTemplate.convertAndSend(exchange, "order.shipped", event);
+        log.info("Queueing order shipped event: {}", event.getOrderId());
+        enqueue(event.getOrderId(), "order.shipped", event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderCancelled(OrderCancelledEvent event) {
+        log.info("Queueing order cancelled event: {}", event.getOrderId());
+        enqueue(event.getOrderId(), "order.cancelled", event);
+    }
+
+    private void enqueue(String aggregateId, String routingKey, Object event) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            outboxEventRepository.save(toOutboxEvent(aggregateId, routingKey, event));
+            outcome = "success";
+        } finally {
+            sample.stop(meterRegistry.timer("events.enqueue", "event", routingKey, "outcome", outcome));
+        }
+    }
+
+    public OutboxEvent toOutboxEvent(String aggregateId, String routingKey, Object event) {
+        Message message = messageConverter.toMessage(event, new MessageProperties());
+        MessageProperties properties = message.getMessageProperties();
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        properties.getHeaders().forEach((name, value) -> headers.put(name, String.valueOf(value)));
+        outboxTracing.inject(headers);
+
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setAggregateId(aggregateId);
+        outboxEvent.setRoutingKey(routingKey);
+        outboxEvent.setContentType(properties.getContentType());
+        outboxEvent.setHeaders(writeHeaders(headers));
+        outboxEvent.setPayload(message.getBody());
+        return outboxEvent;
+    }
+
+    private String writeHeaders(Map<String, String> headers) {
+        try {
+            return objectMapper.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize outbox headers", e);
+        }
     }
 }
@@ -0,0 +1,63 @@
+package com.platform.order.messaging;
+
+import com.platform.order.service.OrderService;
+import com.platform.order.status.OrderStatusWatcher;
+import com.platform.shared.events.InventoryExpiredEvent;
+import com.platform.shared.events.InventoryRejectedEvent;
+import com.platform.shared.events.InventoryReservedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies inventory's reservation results in batches: each delivery batch becomes at most three bulk
+ * status updates, and the waiters of the affected orders are woken once they have committed.
+ * Messages that cannot be read are skipped; a failed update fails the batch, which is redelivered.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryResultListener {
+
+    private final OrderService orderService;
+    private final OrderStatusWatcher statusWatcher;
+    private final MessageConverter messageConverter;
+
+    @RabbitListener(queues = "${rabbitmq.queues.inventory-results}", containerFactory = "batchListenerContainerFactory")
+    public void handleInventoryResults(List<Message> messages) {
+        List<String> reserved = new ArrayList<>();
+        List<String> rejected = new ArrayList<>();
+        List<String> expired = new ArrayList<>();
+        for (Message message : messages) {
+            try {
+                Object event = messageConverter.fromMessage(message);
+                if (event instanceof InventoryReservedEvent result) {
+                    reserved.add(result.getOrderId());
+                } else if (event instanceof InventoryRejectedEvent result) {
+                    rejected.add(result.getOrderId());
+                } else if (event instanceof InventoryExpiredEvent result) {
+                    expired.add(result.getOrderId());
+                } else {
+                    log.warn("Ignoring unexpected inventory result {}", event.getClass().getSimpleName());
+                }
+            } catch (RuntimeException e) {
+                log.error("Discarding unreadable inventory result: {}", e.getMessage());
+            }
+        }
+        if (reserved.isEmpty() && rejected.isEmpty() && expired.isEmpty()) {
+            return;
+        }
+
+        orderService.applyInventoryResults(reserved, rejected, expired);
+        List<String> changed = new ArrayList<>(reserved);
+        changed.addAll(rejected);
+        changed.addAll(expired);
+        statusWatcher.statusChanged(changed);
+    }
+}
@@ -0,0 +1,62 @@
+package com.platform.order.messaging;
+
+import com.platform.order.entity.Order;
+import com.platform.shared.events.OrderCancelledEvent;
+import com.platform.shared.events.OrderCreatedEvent;
+import com.platform.shared.events.OrderPaidEvent;
+import com.platform.shared.events.OrderShippedEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class OrderEvents {
+
+    private OrderEvents() {
+    }
+
+    public static OrderCreatedEvent orderCreated(Order order) {
+        OrderCreatedEvent event = new OrderCreatedEvent();
+        event.setOrderId(order.getId());
+        event.setUserId(order.getUserId());
+        event.setTotalAmount(order.getTotalAmount());
+        event.setCreatedAt(order.getCreatedAt());
+
+        List<OrderCreatedEvent.OrderItem> eventItems = order.getItems().stream().map(item -> {
+            OrderCreatedEvent.OrderItem eventItem = new OrderCreatedEvent.OrderItem();
+            eventItem.setProductId(item.getProductId());
+            eventItem.setProductName(item.getProductName());
+            eventItem.setQuantity(item.getQuantity());
+            eventItem.setPrice(item.getPrice());
+            return eventItem;
+        }).collect(Collectors.toList());
+        event.setItems(eventItems);
+        return event;
+    }
+
+    public static OrderPaidEvent orderPaid(String orderId, String paymentId) {
+        OrderPaidEvent event = new OrderPaidEvent();
+        event.setOrderId(orderId);
+        event.setPaymentId(paymentId);
+        event.setPaymentMethod("CREDIT_CARD");
+        event.setPaidAt(LocalDateTime.now());
+        return event;
+    }
+
+    public static OrderShippedEvent orderShipped(String orderId, String trackingNumber) {
+        OrderShippedEvent event = new OrderShippedEvent();
+        event.setOrderId(orderId);
+        event.setTrackingNumber(trackingNumber);
+        event.setCarrier("UPS");
+        event.setShippedAt(LocalDateTime.now());
+        return event;
+    }
+
+    public static OrderCancelledEvent orderCancelled(String orderId, String reason) {
+        OrderCancelledEvent event = new OrderCancelledEvent();
+        event.setOrderId(orderId);
+        event.setReason(reason);
+        event.setCancelledAt(LocalDateTime.now());
+        return event;
+    }
+}
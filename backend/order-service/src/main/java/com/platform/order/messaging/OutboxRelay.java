@@ -0,0 +1,215 @@
+package com.platform.order.messaging;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.order.entity.OutboxEvent;
+import com.platform.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the outbox table in batches. Every batch is sent in one pass and the relay then
+ * waits for all publisher confirms, so broker round trips are pipelined instead of paid per event.
+ * Rows stay locked (FOR UPDATE SKIP LOCKED) until the batch is marked, which keeps
+ * concurrent relays on other instances from publishing the same rows.
+ * <p>
+ * {@code events.publish.latency} runs from the outbox write to the broker confirm, so it includes the
+ * time an event waited for the next relay pass. Each event also gets an "outbox publish" span, continued
+ * from the trace of the request that wrote it and ended when its confirm arrives.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final TypeReference<Map<String, String>> HEADERS_TYPE = new TypeReference<>() {
+    };
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final OutboxTracing outboxTracing;
+
+    @Value("${rabbitmq.exchange}")
+    private String exchange;
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${outbox.relay.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.retention-hours:24}")
+    private long retentionHours;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       RabbitTemplate rabbitTemplate,
+                       PlatformTransactionManager transactionManager,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       OutboxTracing outboxTracing) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.outboxTracing = outboxTracing;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:200}")
+    public void relay() {
+        BatchResult result;
+        do {
+            result = transactionTemplate.execute(status -> relayBatch());
+        } while (result != null && result.fetched() == batchSize && result.failed() == 0);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:3600000}")
+    public void purgePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            log.debug("Purged {} published outbox events", deleted);
+        }
+    }
+
+    BatchResult relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize, maxAttempts);
+        if (batch.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        List<CorrelationData> pending = new ArrayList<>(batch.size());
+        Map<String, OutboxEvent> events = new HashMap<>();
+        List<String> failed = new ArrayList<>();
+        Map<String, Span> spans = new HashMap<>();
+        for (OutboxEvent event : batch) {
+            CorrelationData correlationData = new CorrelationData(event.getId());
+            Span span = null;
+            try {
+                Map<String, String> headers = readHeaders(event);
+                span = outboxTracing.startPublish(event, headers);
+                try (Tracer.SpanInScope scope = outboxTracing.activate(span)) {
+                    rabbitTemplate.send(exchange, event.getRoutingKey(), toMessage(event, headers), correlationData);
+                }
+                pending.add(correlationData);
+                events.put(event.getId(), event);
+                spans.put(event.getId(), span);
+            } catch (RuntimeException e) {
+                log.warn("Failed to send outbox event {}: {}", event.getId(), e.getMessage());
+                failed.add(event.getId());
+                countFailure(event, "send");
+                if (span != null) {
+                    span.error(e);
+                    span.end();
+                }
+            }
+        }
+
+        List<String> confirmed = new ArrayList<>(pending.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMs);
+        for (CorrelationData correlationData : pending) {
+            OutboxEvent event = events.get(correlationData.getId());
+            Span span = spans.get(correlationData.getId());
+            String failure = awaitAck(correlationData, deadline);
+            if (failure == null) {
+                confirmed.add(correlationData.getId());
+                recordLatency(event, LocalDateTime.now());
+            } else {
+                failed.add(correlationData.getId());
+                countFailure(event, failure);
+                span.tag("outbox.failure", failure);
+            }
+            span.end();
+        }
+
+        if (!confirmed.isEmpty()) {
+            outboxEventRepository.markPublished(confirmed, LocalDateTime.now());
+        }
+        if (!failed.isEmpty()) {
+            outboxEventRepository.incrementAttempts(failed);
+            log.warn("{} of {} outbox events were not confirmed and will be retried", failed.size(), batch.size());
+        }
+        log.debug("Relayed {} outbox events", confirmed.size());
+        return new BatchResult(batch.size(), failed.size());
+    }
+
+    // Returns null on ack, otherwise the failure reason used as metric tag
+    private String awaitAck(CorrelationData correlationData, long deadline) {
+        try {
+            CorrelationData.Confirm confirm = correlationData.getFuture()
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (!confirm.isAck()) {
+                log.warn("Broker nacked outbox event {}: {}", correlationData.getId(), confirm.getReason());
+                return "nack";
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "timeout";
+        } catch (ExecutionException | TimeoutException e) {
+            return "timeout";
+        }
+    }
+
+    private void recordLatency(OutboxEvent event, LocalDateTime confirmedAt) {
+        if (event.getCreatedAt() != null) {
+            meterRegistry.timer("events.publish.latency", "event", event.getRoutingKey())
+                    .record(Duration.between(event.getCreatedAt(), confirmedAt));
+        }
+    }
+
+    private void countFailure(OutboxEvent event, String reason) {
+        meterRegistry.counter("events.publish.failures", "event", event.getRoutingKey(), "reason", reason).increment();
+    }
+
+    private Message toMessage(OutboxEvent event, Map<String, String> headers) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(event.getContentType());
+        properties.setMessageId(event.getId());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        headers.forEach(properties::setHeader);
+        return new Message(event.getPayload(), properties);
+    }
+
+    private Map<String, String> readHeaders(OutboxEvent event) {
+        if (event.getHeaders() == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(event.getHeaders(), HEADERS_TYPE);
+        } catch (IOException e) {
+            throw new RuntimeException("Corrupt headers on outbox event " + event.getId(), e);
+        }
+    }
+
+    record BatchResult(int fetched, int failed) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.platform.order.messaging;
+
+import com.platform.order.entity.OutboxEvent;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Carries the trace of the request that wrote an outbox event over to the relay that publishes it.
+ * The request's context is stored with the event headers; the relay starts its publish span from it, and
+ * the RabbitTemplate observation then propagates that span to the consumers.
+ */
+@Component
+public class OutboxTracing {
+
+    public static final OutboxTracing NOOP = new OutboxTracing(Tracer.NOOP, Propagator.NOOP);
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    @Autowired
+    public OutboxTracing(ObjectProvider<Tracer> tracer, ObjectProvider<Propagator> propagator) {
+        this(tracer.getIfAvailable(() -> Tracer.NOOP), propagator.getIfAvailable(() -> Propagator.NOOP));
+    }
+
+    public OutboxTracing(Tracer tracer, Propagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    public void inject(Map<String, String> headers) {
+        TraceContext context = tracer.currentTraceContext().context();
+        if (context != null) {
+            propagator.inject(context, headers, Map::put);
+        }
+    }
+
+    public Span startPublish(OutboxEvent event, Map<String, String> headers) {
+        return propagator.extract(headers, Map::get)
+                .name("outbox publish")
+                .kind(Span.Kind.PRODUCER)
+                .tag("messaging.destination", event.getRoutingKey())
+                .tag("outbox.id", String.valueOf(event.getId()))
+                .start();
+    }
+
+    public Tracer.SpanInScope activate(Span span) {
+        return tracer.withSpan(span);
+    }
+}
@@ -0,0 +1,66 @@
+package com.platform.order.reactive;
+
+import com.platform.order.dto.CreateOrderRequest;
+import com.platform.order.entity.Order;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class OrderHandler {
+
+    private final ReactiveOrderService orderService;
+    private final Validator validator;
+
+    public Mono<ServerResponse> createOrder(ServerRequest request) {
+        return request.bodyToMono(CreateOrderRequest.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is required")))
+                .doOnNext(this::validate)
+                .flatMap(orderService::createOrder)
+                .flatMap(order -> ServerResponse.ok().bodyValue(order));
+    }
+
+    public Mono<ServerResponse> getOrderById(ServerRequest request) {
+        return orderService.getOrderById(request.pathVariable("id"))
+                .flatMap(order -> ServerResponse.ok().bodyValue(order));
+    }
+
+    public Mono<ServerResponse> getOrdersByUserId(ServerRequest request) {
+        return ServerResponse.ok().body(orderService.getOrdersByUserId(request.pathVariable("userId")), Order.class);
+    }
+
+    public Mono<ServerResponse> markAsPaid(ServerRequest request) {
+        return orderService.markAsPaid(request.pathVariable("id"), requiredParam(request, "paymentId"))
+                .flatMap(order -> ServerResponse.ok().bodyValue(order));
+    }
+
+    public Mono<ServerResponse> markAsShipped(ServerRequest request) {
+        return orderService.markAsShipped(request.pathVariable("id"), requiredParam(request, "trackingNumber"))
+                .flatMap(order -> ServerResponse.ok().bodyValue(order));
+    }
+
+    private void validate(CreateOrderRequest request) {
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ServerWebInputException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private static String requiredParam(ServerRequest request, String name) {
+        return request.queryParam(name)
+                .orElseThrow(() -> new ServerWebInputException("Required parameter '" + name + "' is not present"));
+    }
+}
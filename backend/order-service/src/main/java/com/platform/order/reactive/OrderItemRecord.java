@@ -0,0 +1,37 @@
+package com.platform.order.reactive;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+@Table("order_items")
+@Data
+@NoArgsConstructor
+public class OrderItemRecord implements Persistable<String> {
+
+    @Id
+    private String id;
+
+    private String orderId;
+
+    private String productId;
+
+    private String productName;
+
+    private Integer quantity;
+
+    private BigDecimal price;
+
+    @Transient
+    private boolean newRecord;
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+}
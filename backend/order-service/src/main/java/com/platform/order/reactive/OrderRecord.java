@@ -0,0 +1,43 @@
+package com.platform.order.reactive;
+
+import com.platform.order.entity.Order;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the {@code orders} table owned by the JPA {@link Order} entity.
+ */
+@Table("orders")
+@Data
+@NoArgsConstructor
+public class OrderRecord implements Persistable<String> {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private BigDecimal totalAmount;
+
+    private Order.OrderStatus status;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    // Ids are assigned by the application, so Spring Data can't tell inserts from updates on its own
+    @Transient
+    private boolean newRecord;
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+}
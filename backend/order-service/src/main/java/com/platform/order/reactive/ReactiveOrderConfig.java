@@ -0,0 +1,46 @@
+package com.platform.order.reactive;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Wiring for the {@code reactive} profile: Netty + WebFlux routes + R2DBC. JPA stays on the
+ * classpath for the outbox relay, so the R2DBC transaction manager is deliberately not a bean —
+ * registering it would stop Boot from creating the JPA one.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveOrderConfig {
+
+    // Tomcat is on the classpath for the blocking profile and would otherwise win
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> orderRoutes(OrderHandler handler) {
+        return route()
+                .path("/api/orders", builder -> builder
+                        .POST("", handler::createOrder)
+                        .GET("/user/{userId}", handler::getOrdersByUserId)
+                        .GET("/{id}", handler::getOrderById)
+                        .POST("/{id}/pay", handler::markAsPaid)
+                        .POST("/{id}/ship", handler::markAsShipped))
+                .build();
+    }
+}
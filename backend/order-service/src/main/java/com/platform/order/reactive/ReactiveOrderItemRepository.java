@@ -0,0 +1,12 @@
+package com.platform.order.reactive;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+public interface ReactiveOrderItemRepository extends ReactiveCrudRepository<OrderItemRecord, String> {
+    Flux<OrderItemRecord> findByOrderId(String orderId);
+
+    Flux<OrderItemRecord> findByOrderIdIn(Collection<String> orderIds);
+}
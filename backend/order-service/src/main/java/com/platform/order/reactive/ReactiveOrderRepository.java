@@ -0,0 +1,19 @@
+package com.platform.order.reactive;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface ReactiveOrderRepository extends ReactiveCrudRepository<OrderRecord, String> {
+    Flux<OrderRecord> findByUserId(String userId);
+
+    // Checks and moves the status in one statement, so it is ordered against the expiry sweep's row lock
+    @Modifying
+    @Query("update orders set status = :to, updated_at = :now where id = :id and status in (:from)")
+    Mono<Integer> updateStatus(String id, Collection<String> from, String to, LocalDateTime now);
+}
@@ -0,0 +1,174 @@
+package com.platform.order.reactive;
+
+import com.platform.order.dto.CreateOrderRequest;
+import com.platform.order.entity.Order;
+import com.platform.order.entity.OrderItem;
+import com.platform.order.messaging.OrderEvents;
+import com.platform.order.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * {@link com.platform.order.service.OrderService} on R2DBC. Returns the JPA {@link Order} type as a plain
+ * value object so both profiles serialize identical responses.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveOrderService {
+
+    private final ReactiveOrderRepository orderRepository;
+    private final ReactiveOrderItemRepository orderItemRepository;
+    private final ReactiveOutboxWriter outboxWriter;
+    private final TransactionalOperator transactionalOperator;
+
+    public Mono<Order> createOrder(CreateOrderRequest request) {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+
+            Order order = new Order();
+            order.setId(UUID.randomUUID().toString());
+            order.setUserId(request.getUserId());
+            order.setStatus(Order.OrderStatus.PENDING);
+            order.setCreatedAt(now);
+            order.setUpdatedAt(now);
+
+            List<OrderItem> items = request.getItems().stream().map(itemReq -> {
+                OrderItem item = new OrderItem();
+                item.setId(UUID.randomUUID().toString());
+                item.setOrder(order);
+                item.setProductId(itemReq.getProductId());
+                item.setProductName(itemReq.getProductName());
+                item.setQuantity(itemReq.getQuantity());
+                item.setPrice(itemReq.getPrice());
+                return item;
+            }).collect(Collectors.toList());
+            order.setItems(items);
+            order.setTotalAmount(items.stream()
+                    .map(OrderItem::getSubtotal)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add));
+
+            OrderRecord orderRecord = toRecord(order);
+            orderRecord.setNewRecord(true);
+            List<OrderItemRecord> itemRecords = items.stream()
+                    .map(item -> toRecord(order.getId(), item))
+                    .collect(Collectors.toList());
+
+            return orderRepository.save(orderRecord)
+                    .thenMany(orderItemRepository.saveAll(itemRecords))
+                    .then(outboxWriter.enqueue(order.getId(), "order.created", OrderEvents.orderCreated(order)))
+                    .as(transactionalOperator::transactional)
+                    .doOnSuccess(ignored -> log.info("Order created: {}", order.getId()))
+                    .thenReturn(order);
+        });
+    }
+
+    public Mono<Order> getOrderById(String id) {
+        return orderRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Order not found")))
+                .flatMap(this::withItems);
+    }
+
+    public Flux<Order> getOrdersByUserId(String userId) {
+        return orderRepository.findByUserId(userId)
+                .collectList()
+                .flatMapMany(records -> {
+                    if (records.isEmpty()) {
+                        return Flux.empty();
+                    }
+                    List<String> orderIds = records.stream().map(OrderRecord::getId).collect(Collectors.toList());
+                    return orderItemRepository.findByOrderIdIn(orderIds)
+                            .collect(Collectors.groupingBy(OrderItemRecord::getOrderId))
+                            .flatMapMany(itemsByOrder -> Flux.fromIterable(records)
+                                    .map(record -> toOrder(record, itemsByOrder.getOrDefault(record.getId(), List.of()))));
+                });
+    }
+
+    public Mono<Order> markAsPaid(String orderId, String paymentId) {
+        return updateStatus(orderId, OrderService.PAYABLE, Order.OrderStatus.PAID,
+                outboxWriter.enqueue(orderId, "order.paid", OrderEvents.orderPaid(orderId, paymentId)));
+    }
+
+    public Mono<Order> markAsShipped(String orderId, String trackingNumber) {
+        return updateStatus(orderId, OrderService.SHIPPABLE, Order.OrderStatus.SHIPPED,
+                outboxWriter.enqueue(orderId, "order.shipped", OrderEvents.orderShipped(orderId, trackingNumber)));
+    }
+
+    private Mono<Order> updateStatus(String orderId, Set<Order.OrderStatus> allowed, Order.OrderStatus status,
+                                     Mono<Void> outboxWrite) {
+        List<String> from = allowed.stream().map(Order.OrderStatus::name).toList();
+        return orderRepository.updateStatus(orderId, from, status.name(), LocalDateTime.now())
+                .flatMap(updated -> orderRepository.findById(orderId)
+                        .switchIfEmpty(Mono.error(() -> new RuntimeException("Order not found")))
+                        .flatMap(record -> updated > 0 ? Mono.just(record) : Mono.error(new ResponseStatusException(
+                                HttpStatus.CONFLICT, "Order is " + record.getStatus()))))
+                .flatMap(record -> outboxWrite.thenReturn(record))
+                .as(transactionalOperator::transactional)
+                .flatMap(this::withItems);
+    }
+
+    private Mono<Order> withItems(OrderRecord record) {
+        return orderItemRepository.findByOrderId(record.getId())
+                .collectList()
+                .map(items -> toOrder(record, items));
+    }
+
+    private static Order toOrder(OrderRecord record, List<OrderItemRecord> itemRecords) {
+        Order order = new Order();
+        order.setId(record.getId());
+        order.setUserId(record.getUserId());
+        order.setTotalAmount(record.getTotalAmount());
+        order.setStatus(record.getStatus());
+        order.setCreatedAt(record.getCreatedAt());
+        order.setUpdatedAt(record.getUpdatedAt());
+        order.setItems(itemRecords.stream().map(itemRecord -> {
+            OrderItem item = new OrderItem();
+            item.setId(itemRecord.getId());
+            item.setOrder(order);
+            item.setProductId(itemRecord.getProductId());
+            item.setProductName(itemRecord.getProductName());
+            item.setQuantity(itemRecord.getQuantity());
+            item.setPrice(itemRecord.getPrice());
+            return item;
+        }).collect(Collectors.toList()));
+        return order;
+    }
+
+    private static OrderRecord toRecord(Order order) {
+        OrderRecord record = new OrderRecord();
+        record.setId(order.getId());
+        record.setUserId(order.getUserId());
+        record.setTotalAmount(order.getTotalAmount());
+        record.setStatus(order.getStatus());
+        record.setCreatedAt(order.getCreatedAt());
+        record.setUpdatedAt(order.getUpdatedAt());
+        return record;
+    }
+
+    private static OrderItemRecord toRecord(String orderId, OrderItem item) {
+        OrderItemRecord record = new OrderItemRecord();
+        record.setId(item.getId());
+        record.setOrderId(orderId);
+        record.setProductId(item.getProductId());
+        record.setProductName(item.getProductName());
+        record.setQuantity(item.getQuantity());
+        record.setPrice(item.getPrice());
+        record.setNewRecord(true);
+        return record;
+    }
+}
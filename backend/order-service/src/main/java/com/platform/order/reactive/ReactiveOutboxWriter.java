@@ -0,0 +1,47 @@
+package com.platform.order.reactive;
+
+import com.platform.order.entity.OutboxEvent;
+import com.platform.order.messaging.EventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link EventPublisher}: inserts the outbox row on the caller's
+ * R2DBC connection, so it commits or rolls back with the order. The existing relay publishes it.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveOutboxWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events (id, aggregate_id, routing_key, content_type, headers, payload, attempts, created_at)
+            VALUES (:id, :aggregateId, :routingKey, :contentType, :headers, :payload, 0, :createdAt)
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final EventPublisher eventPublisher;
+
+    public Mono<Void> enqueue(String aggregateId, String routingKey, Object event) {
+        return Mono.defer(() -> {
+            OutboxEvent outboxEvent = eventPublisher.toOutboxEvent(aggregateId, routingKey, event);
+            DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_SQL)
+                    .bind("id", UUID.randomUUID().toString())
+                    .bind("aggregateId", outboxEvent.getAggregateId())
+                    .bind("routingKey", outboxEvent.getRoutingKey())
+                    .bind("contentType", outboxEvent.getContentType())
+                    .bind("payload", outboxEvent.getPayload())
+                    .bind("createdAt", LocalDateTime.now());
+            spec = outboxEvent.getHeaders() != null
+                    ? spec.bind("headers", outboxEvent.getHeaders())
+                    : spec.bindNull("headers", String.class);
+            return spec.then();
+        });
+    }
+}
@@ -1,14 +1,74 @@
 package com.platform.order.repository;
 
+import com.platform.order.dto.OrderSummary;
 import com.platform.order.entity.Order;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, String> {
+
     List<Order> findByUserId(String userId);
 
-    List<Order> findByStatus(Order.OrderStatus status);
+    @EntityGraph(attributePaths = "items")
+    Optional<Order> findWithItemsById(String id);
+
+    @EntityGraph(attributePaths = "items")
+    List<Order> findWithItemsByUserIdOrderByCreatedAtDesc(String userId);
+
+    // Keyset pages select ids only: a limit on a collection fetch would be applied in memory
+    @Query("select o.id from Order o where o.userId = :userId order by o.createdAt desc, o.id desc")
+    List<String> findPageIds(String userId, Limit limit);
+
+    @Query("""
+            select o.id from Order o
+            where o.userId = :userId
+              and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id))
+            order by o.createdAt desc, o.id desc""")
+    List<String> findPageIdsAfter(String userId, LocalDateTime createdAt, String id, Limit limit);
+
+    @EntityGraph(attributePaths = "items")
+    List<Order> findWithItemsByIdIn(Collection<String> ids, Sort sort);
+
+    @Query("""
+            select new com.platform.order.dto.OrderSummary(o.id, o.userId, o.status, o.totalAmount, size(o.items), o.createdAt)
+            from Order o where o.userId = :userId order by o.createdAt desc""")
+    List<OrderSummary> findSummariesByUserId(String userId);
+
+    @Query("""
+            select new com.platform.order.dto.OrderSummary(o.id, o.userId, o.status, o.totalAmount, size(o.items), o.createdAt)
+            from Order o where o.status = :status order by o.createdAt desc""")
+    List<OrderSummary> findByStatus(Order.OrderStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Order> findForUpdateById(String id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.status in :statuses and o.createdAt < :before order by o.createdAt")
+    List<Order> lockByStatusCreatedBefore(Collection<Order.OrderStatus> statuses, LocalDateTime before, Limit limit);
+
+    @Query("select o.id from Order o where o.id in :ids and o.status = :status")
+    List<String> findIdsByIdInAndStatus(Collection<String> ids, Order.OrderStatus status);
+
+    @Query("select o.status from Order o where o.id = :id")
+    Optional<Order.OrderStatus> findStatusById(String id);
+
+    // Only moves orders still in the expected status, so a late or redelivered result cannot undo a later one
+    @Modifying
+    @Query("""
+            update Order o set o.status = :to, o.updatedAt = :now
+            where o.id in :ids and o.status in :from""")
+    int updateStatus(Collection<String> ids, Collection<Order.OrderStatus> from, Order.OrderStatus to, LocalDateTime now);
 }
@@ -0,0 +1,134 @@
+package com.platform.order.service;
+
+import com.platform.order.dto.BulkOrderResult;
+import com.platform.order.dto.CreateOrderRequest;
+import com.platform.order.entity.Order;
+import com.platform.order.messaging.EventPublisher;
+import com.platform.order.messaging.OrderEvents;
+import com.platform.order.messaging.OutboxRelay;
+import com.platform.order.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Creates many orders in one call. Valid requests are written in chunks of {@code orders.bulk.chunk-size},
+ * one transaction per chunk: orders, items and their outbox events go out as JDBC batches (see
+ * {@code hibernate.jdbc.batch_size}), so a chunk costs a few round trips instead of several per order.
+ * A failing chunk rolls back on its own and the remaining chunks still run.
+ * <p>
+ * Events stay on the outbox path for durability; once the chunks have committed, a relay pass is
+ * scheduled right away so they are published as one confirmed batch instead of waiting for the next
+ * scheduled poll.
+ */
+@Service
+@Slf4j
+public class BulkOrderService {
+
+    private final OrderRepository orderRepository;
+    private final EventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final OutboxRelay outboxRelay;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${orders.bulk.chunk-size:100}")
+    private int chunkSize = 100;
+
+    @Value("${orders.bulk.max-orders:1000}")
+    private int maxOrders = 1000;
+
+    public BulkOrderService(OrderRepository orderRepository,
+                            EventPublisher eventPublisher,
+                            TransactionTemplate transactionTemplate,
+                            Validator validator,
+                            OutboxRelay outboxRelay,
+                            TaskScheduler taskScheduler) {
+        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.outboxRelay = outboxRelay;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Timed(value = "orders.operations", extraTags = {"operation", "bulk-create"})
+    public List<BulkOrderResult> createOrders(List<CreateOrderRequest> requests) {
+        if (requests.size() > maxOrders) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + maxOrders + " orders per bulk request");
+        }
+        BulkOrderResult[] results = new BulkOrderResult[requests.size()];
+        List<Integer> chunk = new ArrayList<>(chunkSize);
+        int created = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            String violations = validate(requests.get(i));
+            if (violations != null) {
+                results[i] = BulkOrderResult.rejected(i, violations);
+                continue;
+            }
+            chunk.add(i);
+            if (chunk.size() == chunkSize) {
+                created += writeChunk(requests, chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += writeChunk(requests, chunk, results);
+        }
+
+        if (created > 0) {
+            taskScheduler.schedule(outboxRelay::relay, Instant.now());
+        }
+        log.info("Bulk order request: {} created, {} not created", created, requests.size() - created);
+        return Arrays.asList(results);
+    }
+
+    private int writeChunk(List<CreateOrderRequest> requests, List<Integer> chunk, BulkOrderResult[] results) {
+        try {
+            List<Order> orders = transactionTemplate.execute(status -> {
+                List<Order> saved = orderRepository.saveAll(chunk.stream()
+                        .map(index -> OrderService.toOrder(requests.get(index)))
+                        .toList());
+                saved.forEach(order -> eventPublisher.publishOrderCreated(OrderEvents.orderCreated(order)));
+                return saved;
+            });
+            for (int i = 0; i < chunk.size(); i++) {
+                results[chunk.get(i)] = BulkOrderResult.created(chunk.get(i), orders.get(i).getId());
+            }
+            return chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("Bulk order chunk of {} failed: {}", chunk.size(), e.getMessage());
+            chunk.forEach(index -> results[index] = BulkOrderResult.failed(index, e.getMessage()));
+            return 0;
+        }
+    }
+
+    private String validate(CreateOrderRequest request) {
+        if (request == null) {
+            return "Order request is required";
+        }
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,114 @@
+package com.platform.order.service;
+
+import com.platform.order.entity.Order;
+import com.platform.order.messaging.EventPublisher;
+import com.platform.order.messaging.OrderEvents;
+import com.platform.order.repository.OrderRepository;
+import com.platform.order.status.OrderStatusWatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cancels orders still unpaid {@code orders.expiry.payment-timeout} after they were placed, whether
+ * inventory reserved them (CONFIRMED) or never answered for them (PENDING), and announces each
+ * cancellation as {@code order.cancelled} so inventory releases the stock it holds.
+ * <p>
+ * The orders are selected {@code FOR UPDATE}, the lock {@link OrderService#markAsPaid} takes too, so a
+ * payment and the expiry of the same order cannot both succeed: whichever commits first wins and the
+ * other sees the order's new status. Inventory never expires a hold on its own before order-service
+ * has had the chance to, so it only ever releases stock for an order that is cancelled here.
+ */
+@Component
+@Slf4j
+public class OrderExpirySweeper {
+
+    static final Set<Order.OrderStatus> UNPAID = Set.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED);
+
+    private final OrderRepository orderRepository;
+    private final EventPublisher eventPublisher;
+    private final OrderStatusWatcher statusWatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration paymentTimeout;
+    private final int batchSize;
+    private final Clock clock;
+    private final Map<Order.OrderStatus, Counter> expired = new EnumMap<>(Order.OrderStatus.class);
+
+    @Autowired
+    public OrderExpirySweeper(OrderRepository orderRepository, EventPublisher eventPublisher,
+                              OrderStatusWatcher statusWatcher, PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${orders.expiry.payment-timeout:30m}") Duration paymentTimeout,
+                              @Value("${orders.expiry.batch-size:500}") int batchSize) {
+        this(orderRepository, eventPublisher, statusWatcher, transactionManager, meterRegistry, paymentTimeout,
+                batchSize, Clock.systemDefaultZone());
+    }
+
+    OrderExpirySweeper(OrderRepository orderRepository, EventPublisher eventPublisher,
+                       OrderStatusWatcher statusWatcher, PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry, Duration paymentTimeout, int batchSize, Clock clock) {
+        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
+        this.statusWatcher = statusWatcher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.paymentTimeout = paymentTimeout;
+        this.batchSize = batchSize;
+        this.clock = clock;
+        for (Order.OrderStatus status : UNPAID) {
+            expired.put(status, Counter.builder("orders.expired")
+                    .description("Orders cancelled because they were not paid in time, by the status they left")
+                    .tag("status", status.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Cancels the unpaid orders past the payment timeout, one batch per transaction.
+     *
+     * @return the number of orders cancelled
+     */
+    @Scheduled(fixedDelayString = "${orders.expiry.sweep-interval-ms:60000}")
+    public long cancelUnpaid() {
+        LocalDateTime before = LocalDateTime.now(clock).minus(paymentTimeout);
+        long total = 0;
+        int cancelled;
+        do {
+            Integer batch = transactionTemplate.execute(status -> cancelBatch(before));
+            cancelled = batch != null ? batch : 0;
+            total += cancelled;
+        } while (cancelled == batchSize);
+        if (total > 0) {
+            log.warn("Cancelled {} orders left unpaid for over {}", total, paymentTimeout);
+        }
+        return total;
+    }
+
+    private int cancelBatch(LocalDateTime before) {
+        List<Order> orders = orderRepository.lockByStatusCreatedBefore(UNPAID, before, Limit.of(batchSize));
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        for (Order order : orders) {
+            expired.get(order.getStatus()).increment();
+            order.setStatus(Order.OrderStatus.CANCELLED);
+            eventPublisher.publishOrderCancelled(OrderEvents.orderCancelled(order.getId(), "Not paid in time"));
+        }
+        statusWatcher.statusChanged(orders.stream().map(Order::getId).toList());
+        return orders.size();
+    }
+}
@@ -0,0 +1,124 @@
+package com.platform.order.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.platform.order.entity.Order;
+import com.platform.order.entity.OrderItem;
+import com.platform.shared.jdbc.StreamingQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+/**
+ * Writes a user's full order history as NDJSON (one order with its items per line, newest first).
+ * <p>
+ * Orders and items come from a single join ordered by order, so an order's rows are consecutive; each
+ * order is written as soon as its last row has been read, and only that order is ever held in memory.
+ */
+@Service
+@Slf4j
+public class OrderExportService {
+
+    private static final String SQL = """
+            select o.id, o.user_id, o.status, o.total_amount, o.created_at, o.updated_at,
+                   i.id as item_id, i.product_id, i.product_name, i.quantity, i.price
+            from orders o left join order_items i on i.order_id = o.id
+            where o.user_id = ?
+            order by o.created_at desc, o.id desc""";
+
+    private final StreamingQuery query;
+    private final ObjectWriter writer;
+
+    public OrderExportService(DataSource dataSource, PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper, @Value("${orders.export.fetch-size:500}") int fetchSize) {
+        this.query = new StreamingQuery(dataSource, transactionManager, fetchSize);
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Streams the export to {@code out} and returns the number of orders written.
+     */
+    public long export(String userId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = writer.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            OrderLines lines = new OrderLines(generator);
+            query.forEachRow(SQL, lines::accept, userId);
+            lines.finish();
+            log.debug("Exported {} orders for user {}", lines.count, userId);
+            return lines.count;
+        }
+    }
+
+    /**
+     * Groups consecutive rows of the same order and writes each finished order as one line.
+     */
+    private final class OrderLines {
+
+        private final JsonGenerator generator;
+        private Order current;
+        private long count;
+
+        private OrderLines(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        private void accept(ResultSet rs) throws SQLException, IOException {
+            String orderId = rs.getString("id");
+            if (current == null || !current.getId().equals(orderId)) {
+                finish();
+                current = order(rs);
+            }
+            String itemId = rs.getString("item_id");
+            if (itemId != null) {
+                current.getItems().add(item(rs, itemId));
+            }
+        }
+
+        private void finish() throws IOException {
+            if (current == null) {
+                return;
+            }
+            writer.writeValue(generator, current);
+            generator.writeRaw('\n');
+            count++;
+            current = null;
+        }
+
+        private Order order(ResultSet rs) throws SQLException {
+            Order order = new Order();
+            order.setId(rs.getString("id"));
+            order.setUserId(rs.getString("user_id"));
+            order.setStatus(Order.OrderStatus.valueOf(rs.getString("status")));
+            order.setTotalAmount(rs.getBigDecimal("total_amount"));
+            order.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+            order.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+            order.setItems(new ArrayList<>());
+            return order;
+        }
+
+        private OrderItem item(ResultSet rs, String itemId) throws SQLException {
+            OrderItem item = new OrderItem();
+            item.setId(itemId);
+            item.setProductId(rs.getString("product_id"));
+            item.setProductName(rs.getString("product_name"));
+            item.setQuantity(rs.getInt("quantity"));
+            item.setPrice(rs.getBigDecimal("price"));
+            return item;
+        }
+
+        private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+            return timestamp != null ? timestamp.toLocalDateTime() : null;
+        }
+    }
+}
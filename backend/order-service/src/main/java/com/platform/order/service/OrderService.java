@@ -1,22 +1,29 @@
 package com.platform.order.service;
 
 import com.platform.order.dto.CreateOrderRequest;
+import com.platform.order.dto.OrderCursor;
+import com.platform.order.dto.OrderPage;
+import com.platform.order.dto.OrderSummary;
 import com.platform.order.entity.Order;
 import com.platform.order.entity.OrderItem;
 import com.platform.order.messaging.EventPublisher;
+import com.platform.order.messaging.OrderEvents;
 import com.platform.order.repository.OrderRepository;
-import com.platform.shared.events.OrderCreatedEvent;
-import com.platform.shared.events.OrderPaidEvent;
-import com.platform.shared.events.OrderShippedEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.UUID;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,11 +31,28 @@ import java.util.stream.Collectors;
 @Slf4j
 public class OrderService {
 
+    static final int MAX_PAGE_SIZE = 200;
+    private static final Sort PAGE_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    // Only a reserved order can be paid, so inventory always holds the stock a payment commits
+    public static final Set<Order.OrderStatus> PAYABLE = Set.of(Order.OrderStatus.CONFIRMED);
+    public static final Set<Order.OrderStatus> SHIPPABLE = Set.of(Order.OrderStatus.CONFIRMED, Order.OrderStatus.PAID);
+
     private final OrderRepository orderRepository;
     private final EventPublisher eventPublisher;
 
+    @Timed(value = "orders.operations", extraTags = {"operation", "create"})
     @Transactional
     public Order createOrder(CreateOrderRequest request) {
+        Order order = orderRepository.save(toOrder(request));
+
+        // Publish order created event
+        eventPublisher.publishOrderCreated(OrderEvents.orderCreated(order));
+
+        log.info("Order created: {}", order.getId());
+        return order;
+    }
+
+    static Order toOrder(CreateOrderRequest request) {
         Order order = new Order();
         order.setUserId(request.getUserId());
         order.setStatus(Order.OrderStatus.PENDING);
@@ -53,71 +77,115 @@ public class OrderService {
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
         order.setTotalAmount(total);
 
-        order = orderRepository.save(order);
-
-        // Publish order created event
-        OrderCreatedEvent event = new OrderCreatedEvent();
-        event.setOrderId(order.getId());
-        event.setUserId(order.getUserId());
-        event.setTotalAmount(order.getTotalAmount());
-        event.setCreatedAt(order.getCreatedAt());
-
-        List<OrderCreatedEvent.OrderItem> eventItems = items.stream().map(item -> {
-            OrderCreatedEvent.OrderItem eventItem = new OrderCreatedEvent.OrderItem();
-            eventItem.setProductId(item.getProductId());
-            eventItem.setProductName(item.getProductName());
-            eventItem.setQuantity(item.getQuantity());
-            eventItem.setPrice(item.getPrice());
-            return eventItem;
-        }).collect(Collectors.toList());
-        event.setItems(eventItems);
-
-        eventPublisher.publishOrderCreated(event);
-
-        log.info("Order created: {}", order.getId());
         return order;
     }
 
+    @Transactional(readOnly = true)
     public Order getOrderById(String id) {
-        return orderRepository.findById(id)
+        return orderRepository.findWithItemsById(id)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<Order> getOrdersByUserId(String userId) {
-        return orderRepository.findByUserId(userId);
+        return orderRepository.findWithItemsByUserIdOrderByCreatedAtDesc(userId);
+    }
+
+    /**
+     * Keyset page of the user's orders, newest first, starting after {@code cursor} (null for the first page).
+     */
+    @Transactional(readOnly = true)
+    public OrderPage getOrderPage(String userId, OrderCursor cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        // One extra id tells whether another page follows
+        Limit limit = Limit.of(pageSize + 1);
+        List<String> ids = cursor == null
+                ? orderRepository.findPageIds(userId, limit)
+                : orderRepository.findPageIdsAfter(userId, cursor.createdAt(), cursor.id(), limit);
+        if (ids.isEmpty()) {
+            return new OrderPage(List.of(), null);
+        }
+        boolean more = ids.size() > pageSize;
+        List<Order> orders = orderRepository.findWithItemsByIdIn(more ? ids.subList(0, pageSize) : ids, PAGE_ORDER);
+        String nextCursor = more ? OrderCursor.after(orders.get(orders.size() - 1)).encode() : null;
+        return new OrderPage(orders, nextCursor);
     }
 
+    @Transactional(readOnly = true)
+    public List<OrderSummary> getOrderSummariesByUserId(String userId) {
+        return orderRepository.findSummariesByUserId(userId);
+    }
+
+    @Timed(value = "orders.operations", extraTags = {"operation", "pay"})
     @Transactional
     public Order markAsPaid(String orderId, String paymentId) {
-        Order order = getOrderById(orderId);
+        Order order = lockInStatus(orderId, PAYABLE);
         order.setStatus(Order.OrderStatus.PAID);
         order = orderRepository.save(order);
 
-        OrderPaidEvent event = new OrderPaidEvent();
-        event.setOrderId(orderId);
-        event.setPaymentId(paymentId);
-        event.setPaymentMethod("CREDIT_CARD");
-        event.setPaidAt(LocalDateTime.now());
-
-        eventPublisher.publishOrderPaid(event);
+        eventPublisher.publishOrderPaid(OrderEvents.orderPaid(orderId, paymentId));
 
         return order;
     }
 
+    @Timed(value = "orders.operations", extraTags = {"operation", "ship"})
     @Transactional
     public Order markAsShipped(String orderId, String trackingNumber) {
-        Order order = getOrderById(orderId);
+        Order order = lockInStatus(orderId, SHIPPABLE);
         order.setStatus(Order.OrderStatus.SHIPPED);
         order = orderRepository.save(order);
 
-        OrderShippedEvent event = new OrderShippedEvent();
-        event.setOrderId(orderId);
-        event.setTrackingNumber(trackingNumber);
-        event.setCarrier("UPS");
-        event.setShippedAt(LocalDateTime.now());
-
-        eventPublisher.publishOrderShipped(event);
+        eventPublisher.publishOrderShipped(OrderEvents.orderShipped(orderId, trackingNumber));
 
         return order;
     }
+
+    // The row lock orders this against OrderExpirySweeper cancelling the order: whichever commits first wins
+    private Order lockInStatus(String orderId, Set<Order.OrderStatus> allowed) {
+        Order order = orderRepository.findForUpdateById(orderId)
+                .orElseThrow(() -> new RuntimeException("Order not found"));
+        if (!allowed.contains(order.getStatus())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Order is " + order.getStatus());
+        }
+        return getOrderById(orderId);
+    }
+
+    /**
+     * Confirms the reserved orders and cancels the rejected ones in one bulk update each. Orders that
+     * have already left PENDING are left alone, so redelivered results are harmless. A reservation for an
+     * order that expired before inventory answered is cancelled again, so the late hold is released.
+     * Orders whose hold inventory expired itself are cancelled unless they were paid in the meantime.
+     */
+    @Timed(value = "orders.operations", extraTags = {"operation", "inventory-result"})
+    @Transactional
+    public int applyInventoryResults(Collection<String> reservedIds, Collection<String> rejectedIds,
+                                     Collection<String> expiredIds) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        if (!reservedIds.isEmpty()) {
+            int confirmed = orderRepository.updateStatus(reservedIds, Set.of(Order.OrderStatus.PENDING),
+                    Order.OrderStatus.CONFIRMED, now);
+            if (confirmed < reservedIds.size()) {
+                orderRepository.findIdsByIdInAndStatus(reservedIds, Order.OrderStatus.CANCELLED).forEach(id ->
+                        eventPublisher.publishOrderCancelled(OrderEvents.orderCancelled(id, "Reserved after cancellation")));
+            }
+            updated += confirmed;
+        }
+        if (!rejectedIds.isEmpty()) {
+            updated += orderRepository.updateStatus(rejectedIds, Set.of(Order.OrderStatus.PENDING),
+                    Order.OrderStatus.CANCELLED, now);
+        }
+        if (!expiredIds.isEmpty()) {
+            int cancelled = orderRepository.updateStatus(expiredIds,
+                    Set.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED), Order.OrderStatus.CANCELLED, now);
+            if (cancelled < expiredIds.size()) {
+                log.warn("{} of {} orders with an expired hold had already moved on", expiredIds.size() - cancelled,
+                        expiredIds.size());
+            }
+            updated += cancelled;
+        }
+        log.debug("Applied inventory results: {} reserved, {} rejected, {} expired, {} orders updated",
+                reservedIds.size(), rejectedIds.size(), expiredIds.size(), updated);
+        return updated;
+    }
 }
@@ -0,0 +1,31 @@
+package com.platform.order.status;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wakes local status waiters for orders changed on other instances. Each instance consumes from its own
+ * auto-deleted queue, so every instance sees every change.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.status.broadcast.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OrderStatusBroadcastListener {
+
+    private final OrderStatusWatcher statusWatcher;
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue,
+            exchange = @Exchange(name = "${rabbitmq.exchange}", type = ExchangeTypes.TOPIC),
+            key = "${orders.status.broadcast.routing-key:orders.status.changed}"))
+    public void handleStatusChanged(Message message) {
+        statusWatcher.onBroadcast(message);
+    }
+}
@@ -0,0 +1,299 @@
+package com.platform.order.status;
+
+import com.platform.order.dto.OrderStatusView;
+import com.platform.order.entity.Order;
+import com.platform.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lets clients wait for an order's status to change (long-poll) or follow it (server-sent events)
+ * instead of polling {@code GET /api/orders/{id}}. Waiters are kept in memory per order id; when an order
+ * changes, its status is read once and handed to its waiters, and orders nobody waits on cost nothing.
+ * <p>
+ * A change is seen here when this instance committed it. With {@code broadcast.enabled} the changed ids
+ * are also published on the order-events exchange and applied by every other instance
+ * ({@link OrderStatusBroadcastListener}); otherwise waiters on other instances get the new status when
+ * their wait times out.
+ * <p>
+ * Changes are dispatched on virtual threads, one per order, never on the thread that committed them:
+ * writing to a slow stream then holds up that order's waiters only, not a listener or request thread.
+ */
+@Component
+@Slf4j
+public class OrderStatusWatcher {
+
+    static final String ORIGIN_HEADER = "x-status-origin";
+
+    private static final Set<Order.OrderStatus> FINAL = Set.of(Order.OrderStatus.CANCELLED, Order.OrderStatus.DELIVERED);
+
+    private final OrderRepository orderRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final Duration maxWait;
+    private final Duration streamTimeout;
+    private final int maxWaiters;
+    private final String exchange;
+    private final String routingKey;
+    private final boolean broadcast;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Executor dispatches;
+
+    @Autowired
+    public OrderStatusWatcher(OrderRepository orderRepository, RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry,
+                              @Value("${orders.status.max-wait:30s}") Duration maxWait,
+                              @Value("${orders.status.stream-timeout:5m}") Duration streamTimeout,
+                              @Value("${orders.status.max-waiters:10000}") int maxWaiters,
+                              @Value("${rabbitmq.exchange}") String exchange,
+                              @Value("${orders.status.broadcast.routing-key:orders.status.changed}") String routingKey,
+                              @Value("${orders.status.broadcast.enabled:false}") boolean broadcast) {
+        this(orderRepository, rabbitTemplate, meterRegistry, maxWait, streamTimeout, maxWaiters, exchange, routingKey,
+                broadcast, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-status-", 0).factory()));
+    }
+
+    OrderStatusWatcher(OrderRepository orderRepository, RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry,
+                       Duration maxWait, Duration streamTimeout, int maxWaiters, String exchange, String routingKey,
+                       boolean broadcast, Executor dispatches) {
+        this.orderRepository = orderRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.maxWait = maxWait;
+        this.streamTimeout = streamTimeout;
+        this.maxWaiters = maxWaiters;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.broadcast = broadcast;
+        this.dispatches = dispatches;
+        Gauge.builder("orders.status.waiters", waiting, AtomicInteger::get)
+                .description("Long-polls and status streams currently open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Completes with the order's status as soon as it differs from {@code known}, or with the current
+     * status after {@code wait} (capped at {@code max-wait}). Without {@code known} it answers at once.
+     */
+    public DeferredResult<OrderStatusView> await(String orderId, Order.OrderStatus known, Duration wait) {
+        Order.OrderStatus current = currentStatus(orderId);
+        Duration timeout = wait.compareTo(maxWait) > 0 || wait.isNegative() ? maxWait : wait;
+        DeferredResult<OrderStatusView> result = new DeferredResult<>(timeout.toMillis());
+        if (known == null || current != known) {
+            result.setResult(new OrderStatusView(orderId, current));
+            return result;
+        }
+
+        Waiter waiter = new Waiter() {
+            @Override
+            boolean offer(Order.OrderStatus status) {
+                return status != known && result.setResult(new OrderStatusView(orderId, status));
+            }
+        };
+        register(orderId, waiter);
+        result.onTimeout(() -> result.setResult(new OrderStatusView(orderId,
+                orderRepository.findStatusById(orderId).orElse(known))));
+        result.onCompletion(() -> unregister(orderId, waiter));
+        // A change committed between the first read and the registration would otherwise be missed
+        dispatch(orderId);
+        return result;
+    }
+
+    /**
+     * Streams the current status, then every change, as {@code status} events. The stream ends once the
+     * order reaches a final status or after {@code stream-timeout}.
+     */
+    public SseEmitter subscribe(String orderId) {
+        currentStatus(orderId);
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        Waiter waiter = new Waiter() {
+            private Order.OrderStatus sent;
+
+            @Override
+            boolean offer(Order.OrderStatus status) {
+                if (status == sent) {
+                    return false;
+                }
+                sent = status;
+                try {
+                    emitter.send(SseEmitter.event().name("status").data(new OrderStatusView(orderId, status)));
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away; the emitter's completion callback cleans up
+                    return true;
+                }
+                if (FINAL.contains(status)) {
+                    emitter.complete();
+                    return true;
+                }
+                return false;
+            }
+        };
+        register(orderId, waiter);
+        emitter.onCompletion(() -> unregister(orderId, waiter));
+        emitter.onTimeout(emitter::complete);
+        dispatch(orderId);
+        return emitter;
+    }
+
+    /**
+     * Wakes the waiters of these orders once the current transaction commits (immediately outside a
+     * transaction) and, when enabled, those on the other instances.
+     */
+    public void statusChanged(Collection<String> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notifyChanged(orderIds);
+            return;
+        }
+        List<String> changed = List.copyOf(orderIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notifyChanged(changed);
+            }
+        });
+    }
+
+    void onBroadcast(Message message) {
+        if (instanceId.equals(message.getMessageProperties().getHeader(ORIGIN_HEADER))) {
+            return;
+        }
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        Arrays.asList(body.split("\n")).forEach(this::dispatchAsync);
+    }
+
+    int waiting() {
+        return waiting.get();
+    }
+
+    @PreDestroy
+    void close() {
+        if (dispatches instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void notifyChanged(Collection<String> orderIds) {
+        orderIds.forEach(this::dispatchAsync);
+        if (broadcast) {
+            publish(orderIds);
+        }
+    }
+
+    private void dispatchAsync(String orderId) {
+        if (!waiters.containsKey(orderId)) {
+            return;
+        }
+        try {
+            dispatches.execute(() -> dispatch(orderId));
+        } catch (RejectedExecutionException e) {
+            // Shutting down; waiters get the current status when their wait times out
+            log.debug("Dropped status dispatch for order {}", orderId);
+        }
+    }
+
+    private void dispatch(String orderId) {
+        Set<Waiter> orderWaiters = waiters.get(orderId);
+        if (orderWaiters == null) {
+            return;
+        }
+        Order.OrderStatus status = orderRepository.findStatusById(orderId).orElse(null);
+        if (status == null) {
+            return;
+        }
+        for (Waiter waiter : orderWaiters) {
+            boolean done;
+            waiter.lock.lock();
+            try {
+                done = waiter.offer(status);
+            } finally {
+                waiter.lock.unlock();
+            }
+            if (done) {
+                unregister(orderId, waiter);
+            }
+        }
+    }
+
+    private Order.OrderStatus currentStatus(String orderId) {
+        return orderRepository.findStatusById(orderId)
+                .orElseThrow(() -> new RuntimeException("Order not found"));
+    }
+
+    private void register(String orderId, Waiter waiter) {
+        if (waiting.incrementAndGet() > maxWaiters) {
+            waiting.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many open status requests");
+        }
+        waiters.compute(orderId, (id, orderWaiters) -> {
+            Set<Waiter> set = orderWaiters != null ? orderWaiters : ConcurrentHashMap.newKeySet();
+            set.add(waiter);
+            return set;
+        });
+    }
+
+    private void unregister(String orderId, Waiter waiter) {
+        waiters.computeIfPresent(orderId, (id, orderWaiters) -> {
+            if (orderWaiters.remove(waiter)) {
+                waiting.decrementAndGet();
+            }
+            return orderWaiters.isEmpty() ? null : orderWaiters;
+        });
+    }
+
+    private void publish(Collection<String> orderIds) {
+        Message message = MessageBuilder.withBody(String.join("\n", orderIds).getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN)
+                .setHeader(ORIGIN_HEADER, instanceId)
+                .build();
+        try {
+            rabbitTemplate.send(exchange, routingKey, message);
+        } catch (RuntimeException e) {
+            // Waiters on other instances fall back to their timeout
+            log.warn("Failed to publish status change for {} orders: {}", orderIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Receives an order's status after each change; returns true once it needs no further updates.
+     * Offers are serialized per waiter by its lock, which, unlike a monitor, does not pin the virtual
+     * thread while a stream write blocks.
+     */
+    private abstract static class Waiter {
+        final ReentrantLock lock = new ReentrantLock();
+
+        abstract boolean offer(Order.OrderStatus status);
+    }
+}
@@ -0,0 +1,133 @@
+package com.platform.order.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-loop load test for POST /api/orders against a running order-service.
+ * Run it once per execution mode and compare the output, e.g.
+ * <pre>
+ * SPRING_PROFILES_ACTIVE=virtual-threads java -jar order-service.jar
+ * mvn test -Pbenchmark -Dloadtest.base-url=http://localhost:8084 -Dloadtest.label=virtual
+ *
+ * SPRING_PROFILES_ACTIVE=reactive java -jar order-service.jar
+ * mvn test -Pbenchmark -Dloadtest.base-url=http://localhost:8084 -Dloadtest.label=reactive
+ * </pre>
+ * Pin the service to the same cores in every run (e.g. {@code taskset -c 0-3}) and pass
+ * {@code -Dloadtest.server-cores} so the req/s/core column is comparable across profiles.
+ * For every concurrency level it prints throughput, p50/p99 latency and errors, then the highest level
+ * whose p99 stayed within {@code loadtest.p99-slo-ms} without errors (max in-flight orders).
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "loadtest.base-url", matches = ".+")
+class OrderLoadBenchmark {
+
+    private static final String BASE_URL = System.getProperty("loadtest.base-url");
+    private static final String LABEL = System.getProperty("loadtest.label", "default");
+    private static final long DURATION_MS = Long.getLong("loadtest.duration-ms", 20_000);
+    private static final long P99_SLO_MS = Long.getLong("loadtest.p99-slo-ms", 500);
+    private static final int SERVER_CORES = Integer.getInteger("loadtest.server-cores", 0);
+    private static final int[] CONCURRENCY = Arrays.stream(System.getProperty("loadtest.concurrency", "50,200,400,800,1600")
+            .split(",")).mapToInt(level -> Integer.parseInt(level.trim())).toArray();
+
+    private static final String ORDER_JSON = """
+            {"userId":"loadtest-user","items":[{"productId":"loadtest-product","productName":"Load Test",\
+            "quantity":1,"price":9.99}]}""";
+
+    @Test
+    void createOrderUnderIncreasingConcurrency() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        int maxWithinSlo = 0;
+        for (int concurrency : CONCURRENCY) {
+            LevelResult result = runLevel(client, concurrency);
+            System.out.printf("%s concurrency=%-5d req/s=%-8.0f%s p50=%-4dms p99=%-5dms errors=%d%n",
+                    LABEL, concurrency, result.throughput(), perCore(result.throughput()),
+                    result.p50Ms(), result.p99Ms(), result.errors());
+            if (result.errors() == 0 && result.p99Ms() <= P99_SLO_MS) {
+                maxWithinSlo = concurrency;
+            }
+        }
+        System.out.printf("%s max in-flight orders within p99<=%dms: %d%n", LABEL, P99_SLO_MS, maxWithinSlo);
+    }
+
+    private LevelResult runLevel(HttpClient client, int concurrency) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(BASE_URL + "/api/orders"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(ORDER_JSON))
+                .build();
+
+        AtomicInteger errors = new AtomicInteger();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MS);
+        List<Future<long[]>> workers = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+
+            long[] all = new long[0];
+            for (Future<long[]> worker : workers) {
+                long[] latencies = worker.get();
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + latencies.length);
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+            }
+            Arrays.sort(all);
+            return new LevelResult(all.length / (DURATION_MS / 1000.0),
+                    percentileMs(all, 0.50), percentileMs(all, 0.99), errors.get());
+        }
+    }
+
+    private static long percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, index)]);
+    }
+
+    private static String perCore(double throughput) {
+        return SERVER_CORES > 0 ? String.format(" req/s/core=%-7.0f", throughput / SERVER_CORES) : "";
+    }
+
+    private record LevelResult(double throughput, long p50Ms, long p99Ms, int errors) {
+    }
+}
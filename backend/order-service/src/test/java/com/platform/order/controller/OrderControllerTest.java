@@ -1,8 +1,16 @@
 package com.platform.order.controller;
 
 import com.platform.order.entity.Order;
+import com.platform.order.service.BulkOrderService;
+import com.platform.order.service.OrderExportService;
 import com.platform.order.service.OrderService;
+import com.platform.order.dto.BulkOrderResult;
 import com.platform.order.dto.CreateOrderRequest;
+import com.platform.order.dto.OrderCursor;
+import com.platform.order.dto.OrderPage;
+import com.platform.order.dto.OrderStatusView;
+import com.platform.order.dto.OrderSummary;
+import com.platform.order.status.OrderStatusWatcher;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,12 +18,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -32,11 +48,22 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderExportService orderExportService;
+
+    @MockBean
+    private BulkOrderService bulkOrderService;
+
+    @MockBean
+    private OrderStatusWatcher statusWatcher;
+
     @Test
     void createOrder_Success() throws Exception {
         // Arrange
         CreateOrderRequest request = new CreateOrderRequest();
         request.setUserId("user123");
+        request.setItems(List.of(new CreateOrderRequest.OrderItemRequest(
+                "product123", "Test Product", 2, new BigDecimal("50.00"))));
 
         Order mockOrder = new Order();
         mockOrder.setId("order123");
@@ -54,6 +81,24 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.userId").value("user123"));
     }
 
+    @Test
+    void createOrders_ReturnsResultPerRequest() throws Exception {
+        // Arrange
+        CreateOrderRequest request = new CreateOrderRequest("user123", List.of(new CreateOrderRequest.OrderItemRequest(
+                "product123", "Test Product", 2, new BigDecimal("50.00"))));
+        when(bulkOrderService.createOrders(any())).thenReturn(List.of(
+                BulkOrderResult.created(0, "order1"), BulkOrderResult.rejected(1, "items: must not be empty")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(request, new CreateOrderRequest()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].orderId").value("order1"))
+                .andExpect(jsonPath("$[1].status").value("REJECTED"));
+    }
+
     @Test
     void getOrderById_Success() throws Exception {
         // Arrange
@@ -89,4 +134,109 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2));
     }
+
+    @Test
+    void getOrderSummariesByUserId_Success() throws Exception {
+        // Arrange
+        OrderSummary summary = new OrderSummary("order1", "user123", Order.OrderStatus.PAID,
+                new BigDecimal("100.00"), 2, LocalDateTime.of(2024, 1, 15, 10, 0));
+        when(orderService.getOrderSummariesByUserId("user123")).thenReturn(List.of(summary));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/user/user123/summaries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("order1"))
+                .andExpect(jsonPath("$[0].itemCount").value(2))
+                .andExpect(jsonPath("$[0].items").doesNotExist());
+    }
+
+    @Test
+    void getOrderPage_PassesDecodedCursor() throws Exception {
+        // Arrange
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2024, 1, 15, 10, 0), "order9");
+        Order order = new Order();
+        order.setId("order8");
+        when(orderService.getOrderPage("user123", cursor, 20)).thenReturn(new OrderPage(List.of(order), "next"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/user/user123/page")
+                        .param("cursor", cursor.encode())
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].id").value("order8"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void getOrderPage_InvalidCursor() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/user/user123/page").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportOrders_StreamsNdjson() throws Exception {
+        // Arrange
+        when(orderExportService.export(eq("user123"), any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("{\"id\":\"order1\"}\n".getBytes());
+            return 1L;
+        });
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/orders/user/user123/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":\"order1\"}\n"));
+        verify(orderExportService).export(eq("user123"), any());
+    }
+
+    @Test
+    void exportOrders_EncodesUserIdInFilename() throws Exception {
+        // Arrange
+        when(orderExportService.export(any(), any())).thenReturn(0L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/user/{userId}/export", "a\"b"))
+                .andExpect(header().string("Content-Disposition", containsString("filename*=UTF-8''orders-a%22b.ndjson")));
+    }
+
+    @Test
+    void getOrderStatus_LongPollsFromKnownStatus() throws Exception {
+        // Arrange
+        DeferredResult<OrderStatusView> deferred = new DeferredResult<>();
+        deferred.setResult(new OrderStatusView("order123", Order.OrderStatus.CONFIRMED));
+        when(statusWatcher.await("order123", Order.OrderStatus.PENDING, Duration.ofSeconds(10))).thenReturn(deferred);
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/orders/order123/status")
+                        .param("known", "PENDING")
+                        .param("wait", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("order123"))
+                .andExpect(jsonPath("$.status").value("CONFIRMED"));
+    }
+
+    @Test
+    void markAsPaid_WakesStatusWaiters() throws Exception {
+        // Arrange
+        Order order = new Order();
+        order.setId("order123");
+        order.setStatus(Order.OrderStatus.PAID);
+        when(orderService.markAsPaid("order123", "payment123")).thenReturn(order);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders/order123/pay").param("paymentId", "payment123"))
+                .andExpect(status().isOk());
+        verify(statusWatcher).statusChanged(List.of("order123"));
+    }
 }
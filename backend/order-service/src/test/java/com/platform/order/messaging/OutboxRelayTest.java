@@ -0,0 +1,147 @@
+package com.platform.order.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.order.entity.OutboxEvent;
+import com.platform.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final String TYPE_ID = "com.platform.shared.events.OrderCreatedEvent";
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxEventRepository, rabbitTemplate, transactionManager, new ObjectMapper(),
+                meterRegistry, OutboxTracing.NOOP);
+        ReflectionTestUtils.setField(outboxRelay, "exchange", "order-events");
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 10);
+        ReflectionTestUtils.setField(outboxRelay, "confirmTimeoutMs", 100L);
+        ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 5);
+    }
+
+    @Test
+    void relayBatch_MarksConfirmedEventsPublished() {
+        // Arrange
+        when(outboxEventRepository.lockNextBatch(10, 5)).thenReturn(List.of(outboxEvent("evt1"), outboxEvent("evt2")));
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(eq("order-events"), eq("order.created"), any(Message.class), any(CorrelationData.class));
+
+        // Act
+        OutboxRelay.BatchResult result = outboxRelay.relayBatch();
+
+        // Assert
+        assertEquals(2, result.fetched());
+        assertEquals(0, result.failed());
+        verify(outboxEventRepository).markPublished(eq(List.of("evt1", "evt2")), any());
+        verify(outboxEventRepository, never()).incrementAttempts(any());
+    }
+
+    @Test
+    void relayBatch_RetriesNackedEvents() {
+        // Arrange
+        when(outboxEventRepository.lockNextBatch(10, 5)).thenReturn(List.of(outboxEvent("evt1"), outboxEvent("evt2")));
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            boolean ack = "evt1".equals(correlationData.getId());
+            correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // Act
+        OutboxRelay.BatchResult result = outboxRelay.relayBatch();
+
+        // Assert
+        assertEquals(1, result.failed());
+        verify(outboxEventRepository).markPublished(eq(List.of("evt1")), any());
+        verify(outboxEventRepository).incrementAttempts(List.of("evt2"));
+        assertEquals(1, meterRegistry.get("events.publish.latency").timer().count());
+        assertEquals(1.0, meterRegistry.get("events.publish.failures").tag("reason", "nack").counter().count());
+    }
+
+    @Test
+    void relayBatch_LatencyIncludesWaitForConfirm() {
+        // Arrange
+        ReflectionTestUtils.setField(outboxRelay, "confirmTimeoutMs", 1000L);
+        OutboxEvent event = outboxEvent("evt1");
+        event.setCreatedAt(LocalDateTime.now());
+        when(outboxEventRepository.lockNextBatch(10, 5)).thenReturn(List.of(event));
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS)
+                    .execute(() -> correlationData.getFuture().complete(new CorrelationData.Confirm(true, null)));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // Act
+        outboxRelay.relayBatch();
+
+        // Assert
+        assertTrue(meterRegistry.get("events.publish.latency").timer().totalTime(TimeUnit.MILLISECONDS) >= 200);
+    }
+
+    @Test
+    void relayBatch_CopiesStoredHeadersAndUsesOutboxIdAsMessageId() {
+        // Arrange
+        when(outboxEventRepository.lockNextBatch(10, 5)).thenReturn(List.of(outboxEvent("evt1")));
+
+        // Act
+        outboxRelay.relayBatch();
+
+        // Assert
+        verify(rabbitTemplate).send(eq("order-events"), eq("order.created"), argThat(message ->
+                "evt1".equals(message.getMessageProperties().getMessageId())
+                        && TYPE_ID.equals(message.getMessageProperties().getHeader("__TypeId__"))),
+                any(CorrelationData.class));
+        // Never confirmed within the timeout, so it must be retried
+        verify(outboxEventRepository).incrementAttempts(List.of("evt1"));
+    }
+
+    private OutboxEvent outboxEvent(String id) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setAggregateId("order123");
+        event.setRoutingKey("order.created");
+        event.setContentType("application/json");
+        event.setHeaders("{\"__TypeId__\":\"" + TYPE_ID + "\"}");
+        event.setPayload("{}".getBytes(StandardCharsets.UTF_8));
+        event.setCreatedAt(LocalDateTime.now().minusSeconds(1));
+        return event;
+    }
+}
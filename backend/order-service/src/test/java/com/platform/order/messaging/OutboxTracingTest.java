@@ -0,0 +1,69 @@
+package com.platform.order.messaging;
+
+import com.platform.order.entity.OutboxEvent;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxTracingTest {
+
+    private OtelTracer tracer;
+    private OutboxTracing outboxTracing;
+
+    @BeforeEach
+    void setUp() {
+        io.opentelemetry.api.trace.Tracer otelTracer = SdkTracerProvider.builder().build().get("test");
+        tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> {
+        });
+        ContextPropagators propagators = ContextPropagators.create(W3CTraceContextPropagator.getInstance());
+        outboxTracing = new OutboxTracing(tracer, new OtelPropagator(propagators, otelTracer));
+    }
+
+    @Test
+    void startPublish_ContinuesTraceOfTheRequestThatWroteTheEvent() {
+        // Arrange
+        Map<String, String> headers = new LinkedHashMap<>();
+        Span request = tracer.nextSpan().name("POST /api/orders").start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(request)) {
+            outboxTracing.inject(headers);
+        } finally {
+            request.end();
+        }
+        OutboxEvent event = new OutboxEvent();
+        event.setId("evt1");
+        event.setRoutingKey("order.created");
+
+        // Act
+        Span publish = outboxTracing.startPublish(event, headers);
+        publish.end();
+
+        // Assert
+        assertTrue(headers.get("traceparent").contains(request.context().traceId()));
+        assertEquals(request.context().traceId(), publish.context().traceId());
+        assertEquals(request.context().spanId(), publish.context().parentId());
+    }
+
+    @Test
+    void inject_WithoutCurrentSpanLeavesHeadersUntouched() {
+        // Arrange
+        Map<String, String> headers = new LinkedHashMap<>();
+
+        // Act
+        outboxTracing.inject(headers);
+
+        // Assert
+        assertTrue(headers.isEmpty());
+    }
+}
@@ -0,0 +1,140 @@
+package com.platform.order.reactive;
+
+import com.platform.order.dto.CreateOrderRequest;
+import com.platform.order.entity.Order;
+import com.platform.order.entity.Order.OrderStatus;
+import com.platform.shared.events.OrderCreatedEvent;
+import com.platform.shared.events.OrderPaidEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOrderServiceTest {
+
+    @Mock
+    private ReactiveOrderRepository orderRepository;
+
+    @Mock
+    private ReactiveOrderItemRepository orderItemRepository;
+
+    @Mock
+    private ReactiveOutboxWriter outboxWriter;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @InjectMocks
+    private ReactiveOrderService orderService;
+
+    private CreateOrderRequest createOrderRequest;
+
+    @BeforeEach
+    void setUp() {
+        createOrderRequest = new CreateOrderRequest();
+        createOrderRequest.setUserId("user123");
+
+        CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+        item.setProductId("product123");
+        item.setProductName("Test Product");
+        item.setQuantity(2);
+        item.setPrice(new BigDecimal("50.00"));
+        createOrderRequest.setItems(List.of(item));
+
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void createOrder_WritesOrderItemsAndOutboxInOneTransaction() {
+        // Arrange
+        when(orderRepository.save(any(OrderRecord.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(orderItemRepository.saveAll(anyIterable())).thenAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)));
+        when(outboxWriter.enqueue(anyString(), eq("order.created"), any(OrderCreatedEvent.class))).thenReturn(Mono.empty());
+
+        // Act
+        Order result = orderService.createOrder(createOrderRequest).block();
+
+        // Assert
+        assertNotNull(result);
+        assertNotNull(result.getId());
+        assertEquals(OrderStatus.PENDING, result.getStatus());
+        assertEquals(new BigDecimal("100.00"), result.getTotalAmount());
+        assertEquals(1, result.getItems().size());
+        verify(orderRepository).save(argThat(record -> record.isNew() && record.getId().equals(result.getId())));
+        verify(outboxWriter).enqueue(eq(result.getId()), eq("order.created"),
+                argThat(event -> event instanceof OrderCreatedEvent created && created.getItems().size() == 1));
+        verify(transactionalOperator).transactional(any(Mono.class));
+    }
+
+    @Test
+    void markAsPaid_UpdatesStatusAndQueuesEvent() {
+        // Arrange
+        OrderRecord record = record(OrderStatus.PAID);
+        when(orderRepository.updateStatus(eq("order123"), eq(List.of("CONFIRMED")), eq("PAID"), any()))
+                .thenReturn(Mono.just(1));
+        when(orderRepository.findById("order123")).thenReturn(Mono.just(record));
+        when(outboxWriter.enqueue(eq("order123"), eq("order.paid"), any(OrderPaidEvent.class))).thenReturn(Mono.empty());
+        when(orderItemRepository.findByOrderId("order123")).thenReturn(Flux.empty());
+
+        // Act
+        Order result = orderService.markAsPaid("order123", "payment123").block();
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(OrderStatus.PAID, result.getStatus());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void markAsPaid_RejectsOrderThatIsNoLongerPayable() {
+        // Arrange
+        AtomicBoolean queued = new AtomicBoolean();
+        when(orderRepository.updateStatus(eq("order123"), any(), eq("PAID"), any())).thenReturn(Mono.just(0));
+        when(orderRepository.findById("order123")).thenReturn(Mono.just(record(OrderStatus.CANCELLED)));
+        when(outboxWriter.enqueue(eq("order123"), eq("order.paid"), any(OrderPaidEvent.class)))
+                .thenReturn(Mono.fromRunnable(() -> queued.set(true)));
+
+        // Act
+        ResponseStatusException thrown = assertThrows(ResponseStatusException.class,
+                () -> orderService.markAsPaid("order123", "payment123").block());
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, thrown.getStatusCode());
+        assertFalse(queued.get());
+    }
+
+    @Test
+    void getOrderById_NotFound() {
+        // Arrange
+        when(orderRepository.findById("missing")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> orderService.getOrderById("missing").block());
+    }
+
+    private static OrderRecord record(OrderStatus status) {
+        OrderRecord record = new OrderRecord();
+        record.setId("order123");
+        record.setUserId("user123");
+        record.setStatus(status);
+        record.setTotalAmount(new BigDecimal("100.00"));
+        return record;
+    }
+}
@@ -0,0 +1,145 @@
+package com.platform.order.repository;
+
+import com.platform.order.dto.OrderSummary;
+import com.platform.order.entity.Order;
+import com.platform.order.entity.OrderItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// H2's dialect: the PostgreSQL one locks rows FOR NO KEY UPDATE, which H2 cannot parse
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+class OrderRepositoryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(order("user123", 3));
+        }
+        orderRepository.save(order("other", 1));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findWithItemsByUserId_LoadsOrdersAndItemsInOneQuery() {
+        // Act
+        List<Order> orders = orderRepository.findWithItemsByUserIdOrderByCreatedAtDesc("user123");
+        int items = orders.stream().mapToInt(order -> order.getItems().size()).sum();
+
+        // Assert
+        assertEquals(5, orders.size());
+        assertEquals(15, items);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByUserId_LoadsItemsPerOrderWhenTouched() {
+        // Act
+        List<Order> orders = orderRepository.findByUserId("user123");
+        orders.forEach(order -> order.getItems().size());
+
+        // Assert
+        assertEquals(1 + orders.size(), statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findSummariesByUserId_ProjectsWithoutLoadingEntities() {
+        // Act
+        List<OrderSummary> summaries = orderRepository.findSummariesByUserId("user123");
+
+        // Assert
+        assertEquals(5, summaries.size());
+        assertEquals(3, summaries.get(0).itemCount());
+        assertEquals(new BigDecimal("30.00"), summaries.get(0).totalAmount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findPageIds_WalksAllOrdersNewestFirstWithoutOverlap() {
+        // Arrange
+        List<String> expected = orderRepository.findByUserId("user123").stream()
+                .sorted(Comparator.comparing(Order::getCreatedAt).thenComparing(Order::getId).reversed())
+                .map(Order::getId)
+                .toList();
+
+        // Act
+        List<String> walked = new ArrayList<>(orderRepository.findPageIds("user123", Limit.of(2)));
+        while (true) {
+            Order last = orderRepository.findById(walked.get(walked.size() - 1)).orElseThrow();
+            List<String> page = orderRepository.findPageIdsAfter("user123", last.getCreatedAt(), last.getId(), Limit.of(2));
+            if (page.isEmpty()) {
+                break;
+            }
+            walked.addAll(page);
+        }
+
+        // Assert
+        assertEquals(expected, walked);
+    }
+
+    @Test
+    void lockByStatusCreatedBefore_ReturnsOldestUnpaidOrdersFirst() {
+        // Arrange
+        List<Order> all = orderRepository.findAll().stream().sorted(Comparator.comparing(Order::getCreatedAt)).toList();
+        orderRepository.updateStatus(List.of(all.get(0).getId()), Set.of(Order.OrderStatus.PENDING),
+                Order.OrderStatus.PAID, LocalDateTime.now());
+        entityManager.clear();
+
+        // Act
+        List<Order> locked = orderRepository.lockByStatusCreatedBefore(
+                Set.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED), LocalDateTime.now().plusMinutes(1),
+                Limit.of(2));
+
+        // Assert
+        assertEquals(List.of(all.get(1).getId(), all.get(2).getId()), locked.stream().map(Order::getId).toList());
+    }
+
+    private static Order order(String userId, int itemCount) {
+        Order order = new Order();
+        order.setUserId(userId);
+        order.setTotalAmount(new BigDecimal("10.00").multiply(BigDecimal.valueOf(itemCount)));
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setProductId("product" + i);
+            item.setProductName("Product " + i);
+            item.setQuantity(1);
+            item.setPrice(new BigDecimal("10.00"));
+            order.getItems().add(item);
+        }
+        return order;
+    }
+}
@@ -0,0 +1,140 @@
+package com.platform.order.service;
+
+import com.platform.order.dto.BulkOrderResult;
+import com.platform.order.dto.CreateOrderRequest;
+import com.platform.order.entity.Order;
+import com.platform.order.messaging.EventPublisher;
+import com.platform.order.messaging.OutboxRelay;
+import com.platform.order.repository.OrderRepository;
+import com.platform.shared.events.OrderCreatedEvent;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkOrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OutboxRelay outboxRelay;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private BulkOrderService bulkOrderService;
+
+    @BeforeEach
+    void setUp() {
+        bulkOrderService = new BulkOrderService(orderRepository, eventPublisher, new TransactionTemplate(transactionManager),
+                Validation.buildDefaultValidatorFactory().getValidator(), outboxRelay, taskScheduler);
+        ReflectionTestUtils.setField(bulkOrderService, "chunkSize", 2);
+    }
+
+    @Test
+    void createOrders_WritesChunksAndPublishesEachOrder() {
+        // Arrange
+        AtomicInteger ids = new AtomicInteger();
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0), ids));
+
+        // Act
+        List<BulkOrderResult> results = bulkOrderService.createOrders(List.of(request("u1"), request("u2"), request("u3")));
+
+        // Assert
+        assertEquals(List.of(BulkOrderResult.created(0, "order0"), BulkOrderResult.created(1, "order1"),
+                BulkOrderResult.created(2, "order2")), results);
+        verify(orderRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+        verify(eventPublisher, times(3)).publishOrderCreated(any(OrderCreatedEvent.class));
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void createOrders_RejectsInvalidRequestsIndividually() {
+        // Arrange
+        AtomicInteger ids = new AtomicInteger();
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0), ids));
+        CreateOrderRequest noItems = new CreateOrderRequest("u2", List.of());
+        CreateOrderRequest noPrice = request("u3");
+        noPrice.getItems().get(0).setPrice(null);
+
+        // Act
+        List<BulkOrderResult> results = bulkOrderService.createOrders(List.of(request("u1"), noItems, noPrice));
+
+        // Assert
+        assertEquals(BulkOrderResult.Status.CREATED, results.get(0).status());
+        assertEquals(BulkOrderResult.Status.REJECTED, results.get(1).status());
+        assertTrue(results.get(1).error().startsWith("items"));
+        assertEquals(BulkOrderResult.Status.REJECTED, results.get(2).status());
+        assertTrue(results.get(2).error().contains("price"));
+        verify(orderRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void createOrders_FailedChunkDoesNotStopTheOthers() {
+        // Arrange
+        AtomicInteger ids = new AtomicInteger();
+        when(orderRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("constraint"))
+                .thenAnswer(invocation -> withIds(invocation.getArgument(0), ids));
+
+        // Act
+        List<BulkOrderResult> results = bulkOrderService.createOrders(List.of(request("u1"), request("u2"), request("u3")));
+
+        // Assert
+        assertEquals(BulkOrderResult.Status.FAILED, results.get(0).status());
+        assertEquals(BulkOrderResult.Status.FAILED, results.get(1).status());
+        assertEquals(BulkOrderResult.created(2, "order0"), results.get(2));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void createOrders_NothingCreatedSkipsRelay() {
+        // Act
+        List<BulkOrderResult> results = bulkOrderService.createOrders(List.of(new CreateOrderRequest()));
+
+        // Assert
+        assertEquals(BulkOrderResult.Status.REJECTED, results.get(0).status());
+        verifyNoInteractions(orderRepository, taskScheduler);
+    }
+
+    private static List<Order> withIds(List<Order> orders, AtomicInteger ids) {
+        List<Order> saved = new ArrayList<>();
+        for (Order order : orders) {
+            order.setId("order" + ids.getAndIncrement());
+            saved.add(order);
+        }
+        return saved;
+    }
+
+    private static CreateOrderRequest request(String userId) {
+        return new CreateOrderRequest(userId, List.of(new CreateOrderRequest.OrderItemRequest(
+                "product1", "Product 1", 2, new BigDecimal("10.00"))));
+    }
+}
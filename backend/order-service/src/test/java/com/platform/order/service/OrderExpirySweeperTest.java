@@ -0,0 +1,102 @@
+package com.platform.order.service;
+
+import com.platform.order.entity.Order;
+import com.platform.order.entity.Order.OrderStatus;
+import com.platform.order.messaging.EventPublisher;
+import com.platform.order.repository.OrderRepository;
+import com.platform.order.status.OrderStatusWatcher;
+import com.platform.shared.events.OrderCancelledEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExpirySweeperTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T12:00:00Z");
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private OrderStatusWatcher statusWatcher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderExpirySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new OrderExpirySweeper(orderRepository, eventPublisher, statusWatcher, transactionManager,
+                meterRegistry, Duration.ofMinutes(30), 2, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void cancelUnpaid_CancelsLockedOrdersInBatchesAndAnnouncesThem() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.of(2024, 1, 1, 11, 30);
+        Order pending = order("order1", OrderStatus.PENDING);
+        Order confirmed = order("order2", OrderStatus.CONFIRMED);
+        Order late = order("order3", OrderStatus.CONFIRMED);
+        when(orderRepository.lockByStatusCreatedBefore(OrderExpirySweeper.UNPAID, before, Limit.of(2)))
+                .thenReturn(List.of(pending, confirmed), List.of(late));
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+
+        // Act
+        long cancelled = sweeper.cancelUnpaid();
+
+        // Assert
+        assertEquals(3, cancelled);
+        assertTrue(List.of(pending, confirmed, late).stream()
+                .allMatch(order -> order.getStatus() == OrderStatus.CANCELLED));
+        verify(eventPublisher, times(3)).publishOrderCancelled(any(OrderCancelledEvent.class));
+        verify(statusWatcher).statusChanged(List.of("order1", "order2"));
+        verify(statusWatcher).statusChanged(List.of("order3"));
+        assertEquals(1, meterRegistry.get("orders.expired").tag("status", "pending").counter().count());
+        assertEquals(2, meterRegistry.get("orders.expired").tag("status", "confirmed").counter().count());
+    }
+
+    @Test
+    void cancelUnpaid_DoesNothingWithoutExpiredOrders() {
+        // Arrange
+        when(orderRepository.lockByStatusCreatedBefore(any(), any(), any())).thenReturn(List.of());
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+
+        // Act
+        long cancelled = sweeper.cancelUnpaid();
+
+        // Assert
+        assertEquals(0, cancelled);
+        verifyNoInteractions(eventPublisher, statusWatcher);
+    }
+
+    private static Order order(String id, OrderStatus status) {
+        Order order = new Order();
+        order.setId(id);
+        order.setStatus(status);
+        return order;
+    }
+}
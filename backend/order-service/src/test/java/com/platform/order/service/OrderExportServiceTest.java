@@ -0,0 +1,102 @@
+package com.platform.order.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.order.entity.Order;
+import com.platform.order.entity.OrderItem;
+import com.platform.order.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class OrderExportServiceTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private OrderExportService orderExportService;
+
+    @BeforeEach
+    void setUp() {
+        orderExportService = new OrderExportService(dataSource, transactionManager, objectMapper, 2);
+    }
+
+    @Test
+    void export_WritesOneLinePerOrderWithItems() throws Exception {
+        // Arrange
+        orderRepository.save(order("user123", 3));
+        orderRepository.save(order("user123", 0));
+        orderRepository.save(order("user123", 2));
+        orderRepository.save(order("other", 1));
+        entityManager.flush();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = orderExportService.export("user123", out);
+
+        // Assert
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, count);
+        assertEquals(3, lines.size());
+        int items = 0;
+        for (String line : lines) {
+            JsonNode order = objectMapper.readTree(line);
+            assertEquals("user123", order.get("userId").asText());
+            items += order.get("items").size();
+        }
+        assertEquals(5, items);
+    }
+
+    @Test
+    void export_NoOrdersWritesNothing() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = orderExportService.export("nobody", out);
+
+        // Assert
+        assertEquals(0, count);
+        assertEquals(0, out.size());
+    }
+
+    private static Order order(String userId, int itemCount) {
+        Order order = new Order();
+        order.setUserId(userId);
+        order.setTotalAmount(new BigDecimal("10.00").multiply(BigDecimal.valueOf(itemCount)));
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setProductId("product" + i);
+            item.setProductName("Product " + i);
+            item.setQuantity(1);
+            item.setPrice(new BigDecimal("10.00"));
+            order.getItems().add(item);
+        }
+        return order;
+    }
+}
@@ -6,6 +6,11 @@ import com.platform.order.entity.Order.OrderStatus;
 import com.platform.order.repository.OrderRepository;
 import com.platform.order.messaging.EventPublisher;
 import com.platform.order.dto.CreateOrderRequest;
+import com.platform.order.dto.OrderCursor;
+import com.platform.order.dto.OrderPage;
+import com.platform.shared.events.OrderCancelledEvent;
+import com.platform.shared.events.OrderCreatedEvent;
+import com.platform.shared.events.OrderPaidEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,12 +18,21 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -69,13 +83,13 @@ class OrderServiceTest {
         assertEquals("user123", result.getUserId());
         assertEquals(OrderStatus.PENDING, result.getStatus());
         verify(orderRepository, times(1)).save(any(Order.class));
-        verify(eventPublisher, times(1)).publishOrderCreated(any(Order.class));
+        verify(eventPublisher, times(1)).publishOrderCreated(any(OrderCreatedEvent.class));
     }
 
     @Test
     void getOrderById_Success() {
         // Arrange
-        when(orderRepository.findById("order123")).thenReturn(Optional.of(mockOrder));
+        when(orderRepository.findWithItemsById("order123")).thenReturn(Optional.of(mockOrder));
 
         // Act
         Order result = orderService.getOrderById("order123");
@@ -83,13 +97,13 @@ class OrderServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals("order123", result.getId());
-        verify(orderRepository, times(1)).findById("order123");
+        verify(orderRepository, times(1)).findWithItemsById("order123");
     }
 
     @Test
     void getOrderById_NotFound() {
         // Arrange
-        when(orderRepository.findById("nonexistent")).thenReturn(Optional.empty());
+        when(orderRepository.findWithItemsById("nonexistent")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> orderService.getOrderById("nonexistent"));
@@ -98,7 +112,9 @@ class OrderServiceTest {
     @Test
     void markAsPaid_Success() {
         // Arrange
-        when(orderRepository.findById("order123")).thenReturn(Optional.of(mockOrder));
+        mockOrder.setStatus(OrderStatus.CONFIRMED);
+        when(orderRepository.findForUpdateById("order123")).thenReturn(Optional.of(mockOrder));
+        when(orderRepository.findWithItemsById("order123")).thenReturn(Optional.of(mockOrder));
         when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
 
         // Act
@@ -106,11 +122,133 @@ class OrderServiceTest {
 
         // Assert
         assertNotNull(result);
-        verify(eventPublisher, times(1)).publishOrderPaid(eq("order123"), eq("payment123"));
+        verify(eventPublisher, times(1)).publishOrderPaid(argThat((OrderPaidEvent event) ->
+                "order123".equals(event.getOrderId()) && "payment123".equals(event.getPaymentId())));
+    }
+
+    @Test
+    void markAsPaid_RejectsCancelledOrder() {
+        // Arrange
+        mockOrder.setStatus(OrderStatus.CANCELLED);
+        when(orderRepository.findForUpdateById("order123")).thenReturn(Optional.of(mockOrder));
+
+        // Act
+        ResponseStatusException thrown = assertThrows(ResponseStatusException.class,
+                () -> orderService.markAsPaid("order123", "payment123"));
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, thrown.getStatusCode());
+        verify(orderRepository, never()).save(any());
+        verify(eventPublisher, never()).publishOrderPaid(any());
+    }
+
+    @Test
+    void markAsPaid_RejectsOrderNotReservedYet() {
+        // Arrange
+        when(orderRepository.findForUpdateById("order123")).thenReturn(Optional.of(mockOrder));
+
+        // Act
+        ResponseStatusException thrown = assertThrows(ResponseStatusException.class,
+                () -> orderService.markAsPaid("order123", "payment123"));
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, thrown.getStatusCode());
+        verify(eventPublisher, never()).publishOrderPaid(any());
+    }
+
+    @Test
+    void applyInventoryResults_MovesOnlyPendingOrders() {
+        // Arrange
+        when(orderRepository.updateStatus(eq(List.of("order1", "order2")), eq(Set.of(OrderStatus.PENDING)),
+                eq(OrderStatus.CONFIRMED), any(LocalDateTime.class))).thenReturn(2);
+        when(orderRepository.updateStatus(eq(List.of("order3")), eq(Set.of(OrderStatus.PENDING)),
+                eq(OrderStatus.CANCELLED), any(LocalDateTime.class))).thenReturn(0);
+
+        // Act
+        int updated = orderService.applyInventoryResults(List.of("order1", "order2"), List.of("order3"), List.of());
+
+        // Assert
+        assertEquals(2, updated);
+        verify(orderRepository, never()).findIdsByIdInAndStatus(any(), any());
+    }
+
+    @Test
+    void applyInventoryResults_CancelsAgainOrdersReservedAfterExpiry() {
+        // Arrange
+        when(orderRepository.updateStatus(eq(List.of("order1", "order2")), eq(Set.of(OrderStatus.PENDING)),
+                eq(OrderStatus.CONFIRMED), any(LocalDateTime.class))).thenReturn(1);
+        when(orderRepository.findIdsByIdInAndStatus(List.of("order1", "order2"), OrderStatus.CANCELLED))
+                .thenReturn(List.of("order2"));
+
+        // Act
+        int updated = orderService.applyInventoryResults(List.of("order1", "order2"), List.of(), List.of());
+
+        // Assert
+        assertEquals(1, updated);
+        verify(eventPublisher).publishOrderCancelled(argThat((OrderCancelledEvent event) ->
+                "order2".equals(event.getOrderId())));
+    }
+
+    @Test
+    void applyInventoryResults_CancelsUnpaidOrdersWhoseHoldExpired() {
+        // Arrange
+        when(orderRepository.updateStatus(eq(List.of("order1", "order2")),
+                eq(Set.of(OrderStatus.PENDING, OrderStatus.CONFIRMED)), eq(OrderStatus.CANCELLED),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        int updated = orderService.applyInventoryResults(List.of(), List.of(), List.of("order1", "order2"));
+
+        // Assert
+        assertEquals(1, updated);
+    }
+
+    @Test
+    void applyInventoryResults_SkipsEmptyOutcome() {
+        // Act
+        orderService.applyInventoryResults(List.of(), List.of("order3"), List.of());
+
+        // Assert
+        verify(orderRepository, never()).updateStatus(any(), any(), eq(OrderStatus.CONFIRMED), any());
+        verify(orderRepository, times(1)).updateStatus(any(), any(), any(), any());
+    }
+
+    @Test
+    void getOrderPage_ReturnsCursorWhenMoreOrdersFollow() {
+        // Arrange
+        mockOrder.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(orderRepository.findPageIds("user123", Limit.of(2))).thenReturn(List.of("order123", "order456"));
+        when(orderRepository.findWithItemsByIdIn(eq(List.of("order123")), any(Sort.class))).thenReturn(List.of(mockOrder));
+
+        // Act
+        OrderPage page = orderService.getOrderPage("user123", null, 1);
+
+        // Assert
+        assertEquals(List.of(mockOrder), page.orders());
+        assertEquals(new OrderCursor(mockOrder.getCreatedAt(), "order123"), OrderCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void getOrderPage_LastPageHasNoCursor() {
+        // Arrange
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2024, 1, 1, 12, 0), "order999");
+        when(orderRepository.findPageIdsAfter("user123", cursor.createdAt(), "order999", Limit.of(51)))
+                .thenReturn(List.of("order123"));
+        when(orderRepository.findWithItemsByIdIn(eq(List.of("order123")), any(Sort.class))).thenReturn(List.of(mockOrder));
+
+        // Act
+        OrderPage page = orderService.getOrderPage("user123", cursor, 50);
+
+        // Assert
+        assertEquals(1, page.orders().size());
+        assertNull(page.nextCursor());
     }
 
     @Test
     void calculateTotalAmount_Correct() {
+        // Arrange
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
         // Act
         Order order = orderService.createOrder(createOrderRequest);
 
@@ -0,0 +1,149 @@
+package com.platform.order.status;
+
+import com.platform.order.dto.OrderStatusView;
+import com.platform.order.entity.Order.OrderStatus;
+import com.platform.order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatusWatcherTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private OrderStatusWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        watcher = watcher(2, false);
+    }
+
+    @Test
+    void await_AnswersAtOnceWhenStatusAlreadyDiffers() {
+        // Arrange
+        when(orderRepository.findStatusById("order1")).thenReturn(Optional.of(OrderStatus.CONFIRMED));
+
+        // Act
+        DeferredResult<OrderStatusView> result = watcher.await("order1", OrderStatus.PENDING, Duration.ofSeconds(10));
+
+        // Assert
+        assertEquals(new OrderStatusView("order1", OrderStatus.CONFIRMED), result.getResult());
+        assertEquals(0, watcher.waiting());
+    }
+
+    @Test
+    void await_CompletesWhenStatusChanges() {
+        // Arrange
+        when(orderRepository.findStatusById("order1"))
+                .thenReturn(Optional.of(OrderStatus.PENDING), Optional.of(OrderStatus.PENDING), Optional.of(OrderStatus.CANCELLED));
+        DeferredResult<OrderStatusView> result = watcher.await("order1", OrderStatus.PENDING, Duration.ofSeconds(10));
+        assertFalse(result.hasResult());
+
+        // Act
+        watcher.statusChanged(List.of("order1", "order2"));
+
+        // Assert
+        assertEquals(new OrderStatusView("order1", OrderStatus.CANCELLED), result.getResult());
+        verify(orderRepository, never()).findStatusById("order2");
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+    @Test
+    void statusChanged_DispatchesOffTheCallingThread() {
+        // Arrange
+        List<Runnable> queued = new ArrayList<>();
+        OrderStatusWatcher deferred = watcher(2, false, queued::add);
+        when(orderRepository.findStatusById("order1"))
+                .thenReturn(Optional.of(OrderStatus.PENDING), Optional.of(OrderStatus.PENDING), Optional.of(OrderStatus.CONFIRMED));
+        DeferredResult<OrderStatusView> result = deferred.await("order1", OrderStatus.PENDING, Duration.ofSeconds(10));
+
+        // Act
+        deferred.statusChanged(List.of("order1", "order2"));
+        assertFalse(result.hasResult());
+        queued.forEach(Runnable::run);
+
+        // Assert
+        assertEquals(1, queued.size());
+        assertEquals(new OrderStatusView("order1", OrderStatus.CONFIRMED), result.getResult());
+    }
+
+    @Test
+    void await_RejectsWaitersBeyondLimit() {
+        // Arrange
+        when(orderRepository.findStatusById(anyString())).thenReturn(Optional.of(OrderStatus.PENDING));
+        watcher.await("order1", OrderStatus.PENDING, Duration.ofSeconds(10));
+        watcher.await("order2", OrderStatus.PENDING, Duration.ofSeconds(10));
+
+        // Act & Assert
+        assertThrows(ResponseStatusException.class,
+                () -> watcher.await("order3", OrderStatus.PENDING, Duration.ofSeconds(10)));
+        assertEquals(2, watcher.waiting());
+    }
+
+    @Test
+    void statusChanged_BroadcastsWhenEnabled() {
+        // Arrange
+        OrderStatusWatcher broadcasting = watcher(2, true);
+
+        // Act
+        broadcasting.statusChanged(List.of("order1", "order2"));
+
+        // Assert
+        verify(rabbitTemplate).send(eq("order-events"), eq("orders.status.changed"),
+                argThat((Message message) -> "order1\norder2".equals(new String(message.getBody()))));
+    }
+
+    @Test
+    void onBroadcast_WakesWaitersForOtherInstancesChanges() {
+        // Arrange
+        OrderStatusWatcher broadcasting = watcher(2, true);
+        when(orderRepository.findStatusById("order1"))
+                .thenReturn(Optional.of(OrderStatus.PENDING), Optional.of(OrderStatus.PENDING), Optional.of(OrderStatus.CONFIRMED));
+        DeferredResult<OrderStatusView> result = broadcasting.await("order1", OrderStatus.PENDING, Duration.ofSeconds(10));
+        broadcasting.statusChanged(List.of("order3"));
+        ArgumentCaptor<Message> own = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(anyString(), anyString(), own.capture());
+
+        // Act
+        broadcasting.onBroadcast(own.getValue());
+        assertFalse(result.hasResult());
+        broadcasting.onBroadcast(new Message("order1".getBytes()));
+
+        // Assert
+        assertEquals(new OrderStatusView("order1", OrderStatus.CONFIRMED), result.getResult());
+    }
+
+    private OrderStatusWatcher watcher(int maxWaiters, boolean broadcast) {
+        return watcher(maxWaiters, broadcast, Runnable::run);
+    }
+
+    private OrderStatusWatcher watcher(int maxWaiters, boolean broadcast, Executor dispatches) {
+        return new OrderStatusWatcher(orderRepository, rabbitTemplate, new SimpleMeterRegistry(),
+                Duration.ofSeconds(30), Duration.ofMinutes(5), maxWaiters, "order-events", "orders.status.changed", broadcast,
+                dispatches);
+    }
+}
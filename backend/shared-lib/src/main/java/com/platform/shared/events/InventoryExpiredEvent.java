@@ -0,0 +1,16 @@
+package com.platform.shared.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryExpiredEvent implements Serializable {
+    private String orderId;
+    private LocalDateTime expiredAt;
+}
@@ -0,0 +1,17 @@
+package com.platform.shared.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCancelledEvent implements Serializable {
+    private String orderId;
+    private String reason;
+    private LocalDateTime cancelledAt;
+}
@@ -0,0 +1,57 @@
+package com.platform.shared.idempotency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Registers the {@link IdempotencyGuard} that {@code ListenerContainerTuner} installs on every listener
+ * container when {@code rabbitmq.idempotency.enabled} is set, backed by a JDBC store when the service has
+ * a DataSource and a transaction manager.
+ */
+@AutoConfiguration(after = {DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class})
+@ConditionalOnClass(SimpleRabbitListenerContainerFactory.class)
+@ConditionalOnProperty(name = "rabbitmq.idempotency.enabled", havingValue = "true")
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyAutoConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public IdempotencyGuard idempotencyGuard(IdempotencyProperties properties,
+                                             ObjectProvider<ProcessedMessageStore> store,
+                                             ObjectProvider<PlatformTransactionManager> transactionManager,
+                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        return new IdempotencyGuard(properties, store.getIfAvailable(), transactionManager.getIfAvailable(),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(JdbcTemplate.class)
+    @ConditionalOnBean({DataSource.class, PlatformTransactionManager.class})
+    @ConditionalOnProperty(name = "rabbitmq.idempotency.store.enabled", havingValue = "true", matchIfMissing = true)
+    static class JdbcStoreConfiguration {
+
+        @Bean(initMethod = "initialize")
+        @ConditionalOnMissingBean(ProcessedMessageStore.class)
+        public JdbcProcessedMessageStore processedMessageStore(DataSource dataSource, IdempotencyProperties properties) {
+            return new JdbcProcessedMessageStore(dataSource, properties.getStore().getTable());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.platform.shared.idempotency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the duplicate-dropping advice for each listener container and purges expired store entries.
+ * Each container (identified by its queues) has its own in-memory ids and its own rows in the store.
+ * Without a store, duplicates are only caught while their id is still in memory on the same instance.
+ */
+@Slf4j
+public class IdempotencyGuard implements AutoCloseable {
+
+    private final IdempotencyProperties properties;
+    private final ProcessedMessageStore store;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RecentMessageIds> recentIds = new ConcurrentHashMap<>();
+    private ScheduledExecutorService purger;
+
+    public IdempotencyGuard(IdempotencyProperties properties, ProcessedMessageStore store,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = store;
+        this.transactionTemplate = store != null ? new TransactionTemplate(transactionManager) : null;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public MethodInterceptor adviceFor(List<String> queues, AcknowledgeMode ackMode) {
+        String consumer = String.join(",", queues);
+        RecentMessageIds ids = recentIds.computeIfAbsent(consumer, key -> {
+            RecentMessageIds created = new RecentMessageIds(properties.getWindow(), properties.getMaxRecentIds());
+            Gauge.builder("rabbitmq.listener.dedup.recent", created, RecentMessageIds::size)
+                    .description("Processed message ids held in memory")
+                    .tag("queue", key)
+                    .register(meterRegistry);
+            return created;
+        });
+        return new IdempotentListenerAdvice(consumer, ids, store, transactionTemplate, ackMode, meterRegistry);
+    }
+
+    public void start() {
+        if (store == null) {
+            return;
+        }
+        purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dedup-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getStore().getPurgeInterval().toMillis();
+        purger.scheduleWithFixedDelay(this::purge, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    void purge() {
+        try {
+            int deleted = store.purgeBefore(Instant.now().minus(properties.getStore().getRetention()));
+            if (deleted > 0) {
+                log.debug("Purged {} processed message ids", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge processed message ids: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (purger != null) {
+            purger.shutdownNow();
+        }
+    }
+}
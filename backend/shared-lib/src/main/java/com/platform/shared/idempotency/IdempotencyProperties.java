@@ -0,0 +1,44 @@
+package com.platform.shared.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "rabbitmq.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Skip deliveries whose message id a listener container already processed.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long processed ids stay in memory, at least.
+     */
+    private Duration window = Duration.ofMinutes(10);
+
+    /**
+     * In-memory ids kept per listener container.
+     */
+    private int maxRecentIds = 100_000;
+
+    private Store store = new Store();
+
+    @Data
+    public static class Store {
+
+        /**
+         * Also record processed ids in the service's database (when it has one), which covers redeliveries
+         * to other instances and after restarts.
+         */
+        private boolean enabled = true;
+
+        private String table = "processed_messages";
+
+        private Duration retention = Duration.ofDays(7);
+
+        private Duration purgeInterval = Duration.ofHours(1);
+    }
+}
@@ -0,0 +1,38 @@
+package com.platform.shared.idempotency;
+
+import org.springframework.amqp.core.Message;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Lets a batch listener report messages it did not process, typically ones it moved to a dead-letter
+ * queue itself. The idempotency advice leaves them out when it records the batch, so a redrive from the
+ * dead-letter queue is handled again instead of being dropped as a duplicate. Outside an advised batch
+ * listener this does nothing.
+ */
+public final class IdempotentBatch {
+
+    private static final ThreadLocal<Set<Message>> UNPROCESSED = new ThreadLocal<>();
+
+    private IdempotentBatch() {
+    }
+
+    public static void notProcessed(Message message) {
+        Set<Message> unprocessed = UNPROCESSED.get();
+        if (unprocessed != null) {
+            unprocessed.add(message);
+        }
+    }
+
+    static Set<Message> begin() {
+        Set<Message> unprocessed = Collections.newSetFromMap(new IdentityHashMap<>());
+        UNPROCESSED.set(unprocessed);
+        return unprocessed;
+    }
+
+    static void end() {
+        UNPROCESSED.remove();
+    }
+}
@@ -0,0 +1,229 @@
+package com.platform.shared.idempotency;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.Message;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Container advice that drops deliveries whose message id the container already processed.
+ * <p>
+ * A single delivery is checked against {@link RecentMessageIds} first. Otherwise its id is claimed in the
+ * store inside a transaction that also wraps the listener, so the claim commits or rolls back with the
+ * listener's own writes. A batch is filtered with one store lookup and its ids are recorded after the
+ * listener returns, because batch listeners handle per-message failures inside their own transactions;
+ * messages the listener reports through {@link IdempotentBatch} are not recorded. Dropped deliveries are acked (explicitly in MANUAL mode).
+ * <p>
+ * Without a store in MANUAL mode, a single delivery's id is recorded only once the listener acks it: async
+ * listeners ack when their delivery completes, so a redelivery of a message still in flight, nacked or
+ * dead-lettered is let through instead of being dropped as a duplicate.
+ */
+@Slf4j
+class IdempotentListenerAdvice implements MethodInterceptor {
+
+    private final String consumer;
+    private final RecentMessageIds recentIds;
+    private final ProcessedMessageStore store;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean manualAck;
+    private final Counter fresh;
+    private final Counter memoryHits;
+    private final Counter storeHits;
+    private final Counter untracked;
+
+    IdempotentListenerAdvice(String consumer, RecentMessageIds recentIds, ProcessedMessageStore store,
+                             TransactionTemplate transactionTemplate, AcknowledgeMode ackMode,
+                             MeterRegistry meterRegistry) {
+        this.consumer = consumer;
+        this.recentIds = recentIds;
+        this.store = store;
+        this.transactionTemplate = transactionTemplate;
+        this.manualAck = ackMode == AcknowledgeMode.MANUAL;
+        this.fresh = checks(meterRegistry, consumer, "new");
+        this.memoryHits = checks(meterRegistry, consumer, "duplicate_memory");
+        this.storeHits = checks(meterRegistry, consumer, "duplicate_store");
+        this.untracked = checks(meterRegistry, consumer, "untracked");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        Channel channel = (Channel) arguments[0];
+        if (arguments[1] instanceof Message message) {
+            return invokeSingle(invocation, channel, message);
+        }
+        if (arguments[1] instanceof List<?> messages) {
+            return invokeBatch(invocation, channel, (List<Message>) messages);
+        }
+        return invocation.proceed();
+    }
+
+    private Object invokeSingle(MethodInvocation invocation, Channel channel, Message message) throws Throwable {
+        String id = message.getMessageProperties().getMessageId();
+        if (id == null) {
+            untracked.increment();
+            return invocation.proceed();
+        }
+        if (recentIds.contains(id)) {
+            memoryHits.increment();
+            ack(channel, message);
+            return null;
+        }
+        if (store == null) {
+            if (manualAck) {
+                invocation.getArguments()[0] = onAck(channel, message.getMessageProperties().getDeliveryTag(),
+                        () -> recentIds.add(id));
+            }
+            Object result = invocation.proceed();
+            if (!manualAck) {
+                recentIds.add(id);
+            }
+            fresh.increment();
+            return result;
+        }
+
+        boolean claimed;
+        try {
+            claimed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (!store.claim(consumer, id)) {
+                    return false;
+                }
+                proceed(invocation);
+                return true;
+            }));
+        } catch (ListenerFailure e) {
+            throw e.getCause();
+        }
+        recentIds.add(id);
+        if (claimed) {
+            fresh.increment();
+        } else {
+            storeHits.increment();
+            ack(channel, message);
+        }
+        return null;
+    }
+
+    private Object invokeBatch(MethodInvocation invocation, Channel channel, List<Message> messages) throws Throwable {
+        List<Message> candidates = new ArrayList<>(messages.size());
+        Set<String> candidateIds = new HashSet<>();
+        List<Message> accepted = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            String id = message.getMessageProperties().getMessageId();
+            if (id == null) {
+                untracked.increment();
+                accepted.add(message);
+            } else if (recentIds.contains(id) || !candidateIds.add(id)) {
+                memoryHits.increment();
+                ack(channel, message);
+            } else {
+                candidates.add(message);
+            }
+        }
+
+        Set<String> processed = store != null ? store.findProcessed(consumer, candidateIds) : Set.of();
+        List<String> acceptedIds = new ArrayList<>(candidates.size());
+        for (Message message : candidates) {
+            String id = message.getMessageProperties().getMessageId();
+            if (processed.contains(id)) {
+                storeHits.increment();
+                recentIds.add(id);
+                ack(channel, message);
+            } else {
+                accepted.add(message);
+                acceptedIds.add(id);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return null;
+        }
+
+        invocation.getArguments()[1] = accepted;
+        Set<Message> unprocessed = IdempotentBatch.begin();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } finally {
+            IdempotentBatch.end();
+        }
+        if (!unprocessed.isEmpty()) {
+            unprocessed.forEach(message -> acceptedIds.remove(message.getMessageProperties().getMessageId()));
+        }
+        acceptedIds.forEach(recentIds::add);
+        fresh.increment(acceptedIds.size());
+        if (store != null) {
+            try {
+                store.markProcessed(consumer, acceptedIds);
+            } catch (RuntimeException e) {
+                // The batch is done; failing here would only get it redelivered
+                log.warn("Failed to record {} processed messages for {}: {}", acceptedIds.size(), consumer, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private void ack(Channel channel, Message message) throws IOException {
+        if (manualAck) {
+            channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
+        }
+    }
+
+    // Runs the callback after the delivery with this tag is acked through the returned channel
+    private static Channel onAck(Channel channel, long deliveryTag, Runnable acked) {
+        return (Channel) Proxy.newProxyInstance(Channel.class.getClassLoader(), new Class<?>[]{Channel.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(channel, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if ("basicAck".equals(method.getName())) {
+                        long tag = (Long) args[0];
+                        if (tag == deliveryTag || ((Boolean) args[1] && tag > deliveryTag)) {
+                            acked.run();
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    private static void proceed(MethodInvocation invocation) {
+        try {
+            invocation.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ListenerFailure(e);
+        }
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String consumer, String result) {
+        return Counter.builder("rabbitmq.listener.dedup")
+                .description("Deliveries checked for duplicates, by outcome")
+                .tag("queue", consumer)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // Carries a checked listener exception through the transaction callback
+    private static final class ListenerFailure extends RuntimeException {
+        private ListenerFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+}
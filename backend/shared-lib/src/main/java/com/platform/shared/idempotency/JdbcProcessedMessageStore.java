@@ -0,0 +1,76 @@
+package com.platform.shared.idempotency;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link ProcessedMessageStore} on a {@code (consumer, message_id)} primary key. Claims use
+ * {@code insert ... on conflict do nothing} (PostgreSQL), so a duplicate costs no error and does not
+ * abort the surrounding transaction. The table is created on startup if it does not exist.
+ */
+public class JdbcProcessedMessageStore implements ProcessedMessageStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final String table;
+    private final String insert;
+
+    public JdbcProcessedMessageStore(DataSource dataSource, String table) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.table = table;
+        this.insert = "insert into " + table + " (consumer, message_id, processed_at) values (?, ?, ?)"
+                + " on conflict do nothing";
+    }
+
+    public void initialize() {
+        jdbcTemplate.execute("create table if not exists " + table + " ("
+                + "consumer varchar(255) not null, "
+                + "message_id varchar(255) not null, "
+                + "processed_at timestamp not null, "
+                + "primary key (consumer, message_id))");
+        jdbcTemplate.execute("create index if not exists idx_" + table + "_processed_at on " + table + " (processed_at)");
+    }
+
+    @Override
+    public boolean claim(String consumer, String messageId) {
+        return jdbcTemplate.update(insert, consumer, messageId, Timestamp.from(Instant.now())) > 0;
+    }
+
+    @Override
+    public Set<String> findProcessed(String consumer, Collection<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> found = namedJdbcTemplate.queryForList(
+                "select message_id from " + table + " where consumer = :consumer and message_id in (:ids)",
+                new MapSqlParameterSource("consumer", consumer).addValue("ids", messageIds),
+                String.class);
+        return new HashSet<>(found);
+    }
+
+    @Override
+    public void markProcessed(String consumer, Collection<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(insert, messageIds.stream()
+                .map(id -> new Object[]{consumer, id, now})
+                .toList());
+    }
+
+    @Override
+    public int purgeBefore(Instant cutoff) {
+        return jdbcTemplate.update("delete from " + table + " where processed_at < ?", Timestamp.from(cutoff));
+    }
+}
@@ -0,0 +1,26 @@
+package com.platform.shared.idempotency;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Durable record of the message ids each consumer has processed.
+ */
+public interface ProcessedMessageStore {
+
+    /**
+     * Records the id and returns true, or returns false if the consumer already processed it.
+     * Runs in the caller's transaction, so a rollback releases the claim.
+     */
+    boolean claim(String consumer, String messageId);
+
+    /**
+     * Returns the subset of {@code messageIds} the consumer already processed.
+     */
+    Set<String> findProcessed(String consumer, Collection<String> messageIds);
+
+    void markProcessed(String consumer, Collection<String> messageIds);
+
+    int purgeBefore(Instant cutoff);
+}
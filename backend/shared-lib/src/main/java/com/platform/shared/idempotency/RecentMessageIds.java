@@ -0,0 +1,60 @@
+package com.platform.shared.idempotency;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded set of recently processed message ids: two generations of exact sets, the current one swapped
+ * out once it is older than {@code window} or holds half of {@code maxIds}. An id is therefore
+ * remembered for at least one window (or {@code maxIds / 2} later ids), and memory never exceeds
+ * {@code maxIds} entries. Lookups are a hash probe or two, without locking.
+ */
+public class RecentMessageIds {
+
+    private final long windowNanos;
+    private final int generationSize;
+    private final LongSupplier clock;
+
+    private volatile Set<String> current = ConcurrentHashMap.newKeySet();
+    private volatile Set<String> previous = Set.of();
+    private volatile long rotatedAt;
+
+    public RecentMessageIds(Duration window, int maxIds) {
+        this(window, maxIds, System::nanoTime);
+    }
+
+    RecentMessageIds(Duration window, int maxIds, LongSupplier clock) {
+        this.windowNanos = window.toNanos();
+        this.generationSize = Math.max(1, maxIds / 2);
+        this.clock = clock;
+        this.rotatedAt = clock.getAsLong();
+    }
+
+    public boolean contains(String id) {
+        return current.contains(id) || previous.contains(id);
+    }
+
+    public void add(String id) {
+        long now = clock.getAsLong();
+        if (now - rotatedAt >= windowNanos || current.size() >= generationSize) {
+            rotate(now);
+        }
+        current.add(id);
+    }
+
+    public int size() {
+        return current.size() + previous.size();
+    }
+
+    private synchronized void rotate(long now) {
+        // Another thread may have rotated while this one waited
+        if (now - rotatedAt < windowNanos && current.size() < generationSize) {
+            return;
+        }
+        previous = current;
+        current = ConcurrentHashMap.newKeySet();
+        rotatedAt = now;
+    }
+}
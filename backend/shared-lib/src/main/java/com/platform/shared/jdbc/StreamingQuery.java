@@ -0,0 +1,52 @@
+package com.platform.shared.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads a query through a JDBC cursor, {@code fetchSize} rows at a time, and hands each row over as it
+ * arrives, for exports that write rows straight to a response. The query runs in a read-only transaction
+ * because PostgreSQL only uses a cursor inside one; it holds a connection until the last row is read.
+ */
+public class StreamingQuery {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+
+    public StreamingQuery(DataSource dataSource, PlatformTransactionManager transactionManager, int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    /**
+     * Runs {@code sql} and passes every row to {@code rows}; an {@link IOException} from writing a row
+     * stops the query and is rethrown as is.
+     */
+    public void forEachRow(String sql, RowConsumer rows, Object... args) throws IOException {
+        try {
+            readOnly.executeWithoutResult(status -> jdbcTemplate.query(sql, rs -> {
+                try {
+                    rows.accept(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, args));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(ResultSet rs) throws SQLException, IOException;
+    }
+}
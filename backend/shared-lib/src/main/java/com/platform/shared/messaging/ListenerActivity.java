@@ -0,0 +1,101 @@
+package com.platform.shared.messaging;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks one listener container: its consumer bounds, the queues it reads and how busy its consumers are.
+ * Installed as the container's advice, so the measured time covers listener invocation (and conversion),
+ * not waiting for deliveries.
+ */
+public class ListenerActivity implements MethodInterceptor {
+
+    private final SimpleMessageListenerContainer container;
+    private final List<String> queues;
+    private final int minConsumers;
+    private final int maxConsumers;
+    private final LongAdder busyNanos = new LongAdder();
+
+    private volatile int consumers;
+    private volatile double utilization;
+    private volatile long depth;
+    private long lastBusyNanos;
+    private long lastSampleNanos = System.nanoTime();
+
+    public ListenerActivity(SimpleMessageListenerContainer container, List<String> queues,
+                            int minConsumers, int maxConsumers) {
+        this.container = container;
+        this.queues = List.copyOf(queues);
+        this.minConsumers = minConsumers;
+        this.maxConsumers = maxConsumers;
+        this.consumers = minConsumers;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            busyNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Share of the last sample period the active consumers spent inside the listener, between 0 and 1.
+     */
+    synchronized void sample(long now) {
+        long busy = busyNanos.sum();
+        long elapsed = now - lastSampleNanos;
+        int active = container.getActiveConsumerCount();
+        utilization = elapsed <= 0 || active == 0
+                ? 0 : Math.min(1.0, (double) (busy - lastBusyNanos) / ((double) elapsed * active));
+        lastBusyNanos = busy;
+        lastSampleNanos = now;
+    }
+
+    void setConsumers(int consumers) {
+        container.setConcurrentConsumers(consumers);
+        this.consumers = consumers;
+    }
+
+    void setDepth(long depth) {
+        this.depth = depth;
+    }
+
+    public String queue() {
+        return String.join(",", queues);
+    }
+
+    public List<String> queues() {
+        return queues;
+    }
+
+    public int minConsumers() {
+        return minConsumers;
+    }
+
+    public int maxConsumers() {
+        return maxConsumers;
+    }
+
+    public int consumers() {
+        return consumers;
+    }
+
+    public int activeConsumers() {
+        return container.getActiveConsumerCount();
+    }
+
+    public double utilization() {
+        return utilization;
+    }
+
+    public long depth() {
+        return depth;
+    }
+}
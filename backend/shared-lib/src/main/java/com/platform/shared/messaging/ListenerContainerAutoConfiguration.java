@@ -0,0 +1,62 @@
+package com.platform.shared.messaging;
+
+import com.platform.shared.idempotency.IdempotencyGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Tunes every {@code @RabbitListener} container from {@code rabbitmq.listener.*} and registers a
+ * {@code batchListenerContainerFactory} for listeners that take a {@code List<Message>}.
+ * Boot's default factory picks up the {@link ListenerContainerTuner} as its container customizer.
+ */
+@AutoConfiguration(after = RabbitAutoConfiguration.class)
+@ConditionalOnClass(SimpleRabbitListenerContainerFactory.class)
+@EnableConfigurationProperties(ListenerProperties.class)
+public class ListenerContainerAutoConfiguration {
+
+    @Bean(initMethod = "start")
+    @ConditionalOnMissingBean
+    public ListenerContainerMonitor listenerContainerMonitor(ListenerProperties properties,
+                                                             ObjectProvider<AmqpAdmin> amqpAdmin,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ListenerContainerMonitor(properties.getScaling(), amqpAdmin.getIfAvailable(),
+                meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ListenerContainerTuner listenerContainerTuner(ListenerProperties properties,
+                                                         RabbitProperties rabbitProperties,
+                                                         ListenerContainerMonitor monitor,
+                                                         ObjectProvider<IdempotencyGuard> idempotencyGuard) {
+        return new ListenerContainerTuner(properties, rabbitProperties, monitor, idempotencyGuard.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "batchListenerContainerFactory")
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            ListenerProperties properties, ListenerContainerTuner tuner) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        int batchSize = properties.getBatch().getSize();
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(properties.getBatch().getReceiveTimeout().toMillis());
+        factory.setPrefetchCount(batchSize);
+        factory.setContainerCustomizer(tuner);
+        return factory;
+    }
+}
@@ -0,0 +1,123 @@
+package com.platform.shared.messaging;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples every registered listener container each {@code rabbitmq.listener.scaling.interval}: consumer
+ * utilization, queue depth and, when scaling is enabled, the consumer floor.
+ * <p>
+ * The floor follows queue depth ({@code depth / messages-per-consumer}, within the container's bounds) and
+ * steps down one consumer per interval. Above the floor the container still starts and stops consumers on
+ * its own as they turn busy or idle, up to max concurrency.
+ */
+@Slf4j
+public class ListenerContainerMonitor implements AutoCloseable {
+
+    private final ListenerProperties.Scaling scaling;
+    private final AmqpAdmin amqpAdmin;
+    private final MeterRegistry meterRegistry;
+    private final List<ListenerActivity> activities = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "listener-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ListenerContainerMonitor(ListenerProperties.Scaling scaling, AmqpAdmin amqpAdmin, MeterRegistry meterRegistry) {
+        this.scaling = scaling;
+        this.amqpAdmin = amqpAdmin;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void start() {
+        long interval = scaling.getInterval().toMillis();
+        timer.scheduleWithFixedDelay(this::sample, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void register(ListenerActivity activity) {
+        activities.add(activity);
+        if (meterRegistry == null) {
+            return;
+        }
+        String queue = activity.queue();
+        Gauge.builder("rabbitmq.listener.utilization", activity, ListenerActivity::utilization)
+                .description("Share of time the active consumers spent processing deliveries")
+                .tag("queue", queue)
+                .register(meterRegistry);
+        Gauge.builder("rabbitmq.listener.consumers", activity, ListenerActivity::activeConsumers)
+                .tag("queue", queue)
+                .register(meterRegistry);
+        Gauge.builder("rabbitmq.listener.consumers.max", activity, ListenerActivity::maxConsumers)
+                .tag("queue", queue)
+                .register(meterRegistry);
+        Gauge.builder("rabbitmq.listener.queue.depth", activity, ListenerActivity::depth)
+                .tag("queue", queue)
+                .register(meterRegistry);
+    }
+
+    public List<ListenerActivity> activities() {
+        return List.copyOf(activities);
+    }
+
+    void sample() {
+        long now = System.nanoTime();
+        for (ListenerActivity activity : activities) {
+            activity.sample(now);
+            Long depth = depth(activity);
+            if (depth == null) {
+                continue;
+            }
+            activity.setDepth(depth);
+            if (scaling.isEnabled()) {
+                scale(activity, depth);
+            }
+        }
+    }
+
+    private void scale(ListenerActivity activity, long depth) {
+        long wanted = (depth + scaling.getMessagesPerConsumer() - 1) / scaling.getMessagesPerConsumer();
+        int target = (int) Math.max(activity.minConsumers(), Math.min(activity.maxConsumers(), wanted));
+        int current = activity.consumers();
+        if (target < current) {
+            target = current - 1;
+        }
+        if (target != current) {
+            log.debug("Scaling consumers of {} from {} to {} (depth {})", activity.queue(), current, target, depth);
+            activity.setConsumers(target);
+        }
+    }
+
+    private Long depth(ListenerActivity activity) {
+        if (amqpAdmin == null) {
+            return null;
+        }
+        long depth = 0;
+        try {
+            for (String queue : activity.queues()) {
+                QueueInformation info = amqpAdmin.getQueueInfo(queue);
+                if (info != null) {
+                    depth += info.getMessageCount();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("Could not read depth of {}: {}", activity.queue(), e.getMessage());
+            return null;
+        }
+        return depth;
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+}
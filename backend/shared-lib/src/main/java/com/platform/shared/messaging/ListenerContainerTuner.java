@@ -0,0 +1,101 @@
+package com.platform.shared.messaging;
+
+import com.platform.shared.idempotency.IdempotencyGuard;
+import com.platform.shared.messaging.ListenerProperties.QueueSettings;
+import org.aopalliance.aop.Advice;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Applies {@link ListenerProperties} to every {@link SimpleMessageListenerContainer} built by the listener
+ * container factories and hands the container to the {@link ListenerContainerMonitor}.
+ * <p>
+ * Max concurrency resolves as: the queue's {@code max-concurrency}, then {@code consumers-per-core}
+ * (queue, then service), then {@code spring.rabbitmq.listener.simple.max-concurrency}, then the floor.
+ * With an {@link IdempotencyGuard}, redelivered messages are dropped before they reach the listener.
+ */
+public class ListenerContainerTuner implements ContainerCustomizer<SimpleMessageListenerContainer> {
+
+    private static final QueueSettings DEFAULTS = new QueueSettings();
+
+    private final ListenerProperties properties;
+    private final RabbitProperties.SimpleContainer defaults;
+    private final ListenerContainerMonitor monitor;
+    private final IdempotencyGuard idempotencyGuard;
+    private final int cores;
+
+    public ListenerContainerTuner(ListenerProperties properties, RabbitProperties rabbitProperties,
+                                  ListenerContainerMonitor monitor, IdempotencyGuard idempotencyGuard) {
+        this(properties, rabbitProperties.getListener().getSimple(), monitor, idempotencyGuard,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    ListenerContainerTuner(ListenerProperties properties, RabbitProperties.SimpleContainer defaults,
+                           ListenerContainerMonitor monitor, IdempotencyGuard idempotencyGuard, int cores) {
+        this.properties = properties;
+        this.defaults = defaults;
+        this.monitor = monitor;
+        this.idempotencyGuard = idempotencyGuard;
+        this.cores = cores;
+    }
+
+    @Override
+    public void configure(SimpleMessageListenerContainer container) {
+        List<String> queues = Arrays.asList(container.getQueueNames());
+        QueueSettings settings = queues.stream()
+                .map(properties.getQueues()::get)
+                .filter(s -> s != null)
+                .findFirst()
+                .orElse(DEFAULTS);
+
+        int min = firstNonNull(settings.getConcurrency(), defaults.getConcurrency(), 1);
+        int max = Math.max(min, maxConsumers(settings, min));
+        // The container checks each setter against the other bound, so open the ceiling first
+        container.setMaxConcurrentConsumers(Integer.MAX_VALUE);
+        container.setConcurrentConsumers(min);
+        container.setMaxConcurrentConsumers(max);
+
+        if (settings.getBatchSize() != null) {
+            container.setBatchSize(settings.getBatchSize());
+        }
+        if (settings.getPrefetch() != null) {
+            container.setPrefetchCount(settings.getPrefetch());
+        } else if (settings.getBatchSize() != null && container.isConsumerBatchEnabled()) {
+            container.setPrefetchCount(settings.getBatchSize());
+        }
+
+        container.setObservationEnabled(properties.isObservationEnabled());
+
+        ListenerActivity activity = new ListenerActivity(container, queues, min, max);
+        if (idempotencyGuard != null) {
+            // Inside the activity advice, so dropped duplicates still count as consumer activity
+            container.setAdviceChain(new Advice[]{activity,
+                    idempotencyGuard.adviceFor(queues, container.getAcknowledgeMode())});
+        } else {
+            container.setAdviceChain(new Advice[]{activity});
+        }
+        monitor.register(activity);
+    }
+
+    private int maxConsumers(QueueSettings settings, int min) {
+        if (settings.getMaxConcurrency() != null) {
+            return settings.getMaxConcurrency();
+        }
+        int perCore = firstNonNull(settings.getConsumersPerCore(), properties.getConsumersPerCore(), 0);
+        if (perCore > 0) {
+            return cores * perCore;
+        }
+        return firstNonNull(defaults.getMaxConcurrency(), min, min);
+    }
+
+    private static int firstNonNull(Integer first, Integer second, int fallback) {
+        if (first != null) {
+            return first;
+        }
+        return second != null ? second : fallback;
+    }
+}
@@ -0,0 +1,74 @@
+package com.platform.shared.messaging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-queue listener container settings layered on top of {@code spring.rabbitmq.listener.simple.*},
+ * which stays the service-wide default.
+ */
+@Data
+@ConfigurationProperties(prefix = "rabbitmq.listener")
+public class ListenerProperties {
+
+    /**
+     * Caps consumers at this many per available core when no max concurrency is configured; 0 disables it.
+     */
+    private int consumersPerCore = 0;
+
+    /**
+     * Continue the producer's trace for each delivery (single-message listeners only).
+     */
+    private boolean observationEnabled = true;
+
+    private Batch batch = new Batch();
+
+    private Scaling scaling = new Scaling();
+
+    /**
+     * Overrides keyed by queue name.
+     */
+    private Map<String, QueueSettings> queues = new LinkedHashMap<>();
+
+    @Data
+    public static class QueueSettings {
+
+        private Integer concurrency;
+
+        private Integer maxConcurrency;
+
+        private Integer consumersPerCore;
+
+        private Integer prefetch;
+
+        private Integer batchSize;
+    }
+
+    @Data
+    public static class Batch {
+
+        private int size = 100;
+
+        private Duration receiveTimeout = Duration.ofMillis(50);
+    }
+
+    @Data
+    public static class Scaling {
+
+        /**
+         * Raise the consumer floor of each container with the depth of its queues.
+         */
+        private boolean enabled = false;
+
+        private Duration interval = Duration.ofSeconds(5);
+
+        /**
+         * Queue depth one consumer is expected to absorb per interval before another one is started.
+         */
+        private int messagesPerConsumer = 100;
+    }
+}
@@ -0,0 +1,49 @@
+package com.platform.shared.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Consumer-side timers shared by the services' listeners. Tags are limited to the routing key of the event
+ * and the outcome, so the number of series does not grow with traffic.
+ * <p>
+ * Lag is measured against the timestamp the producer put in the event ({@code createdAt}, {@code paidAt},
+ * {@code shippedAt}), which assumes the services' clocks are in sync.
+ */
+public class EventMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+
+    private final MeterRegistry meterRegistry;
+
+    public EventMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordLag(String event, LocalDateTime occurredAt) {
+        if (occurredAt == null) {
+            return;
+        }
+        Duration lag = Duration.between(occurredAt, LocalDateTime.now());
+        Timer.builder("events.consume.lag")
+                .description("Time between the event being raised and a listener receiving it")
+                .tag("event", event)
+                .register(meterRegistry)
+                .record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    public Timer.Sample startProcessing() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordProcessing(Timer.Sample sample, String event, String outcome) {
+        sample.stop(Timer.builder("events.consume.processing")
+                .tag("event", event)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
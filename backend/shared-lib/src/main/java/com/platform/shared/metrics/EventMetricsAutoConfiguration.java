@@ -0,0 +1,19 @@
+package com.platform.shared.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+public class EventMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EventMetrics eventMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        // Without actuator nothing registers a registry bean; the global one then drops the measurements
+        return new EventMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
@@ -0,0 +1,68 @@
+package com.platform.shared.serialization;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encodes events as {@code [format version][type id][schema version][fields...]} using the
+ * registered {@link EventSchema}s.
+ */
+public class BinaryEventCodec {
+
+    public static final String CONTENT_TYPE = "application/vnd.platform.event+binary";
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final Map<Class<?>, EventSchema<?>> schemasByType = new HashMap<>();
+    private final Map<Integer, EventSchema<?>> schemasById = new HashMap<>();
+
+    public BinaryEventCodec() {
+        this(EventSchemas.ALL);
+    }
+
+    public BinaryEventCodec(Iterable<EventSchema<?>> schemas) {
+        for (EventSchema<?> schema : schemas) {
+            if (schemasById.put(schema.typeId(), schema) != null) {
+                throw new IllegalArgumentException("Duplicate event type id " + schema.typeId());
+            }
+            schemasByType.put(schema.type(), schema);
+        }
+    }
+
+    public boolean supports(Class<?> type) {
+        return schemasByType.containsKey(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object event) {
+        EventSchema<Object> schema = (EventSchema<Object>) schemasByType.get(event.getClass());
+        if (schema == null) {
+            throw new IllegalArgumentException("No binary schema for " + event.getClass().getName());
+        }
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeByte(FORMAT_VERSION);
+        writer.writeVarLong(schema.typeId());
+        writer.writeVarLong(schema.version());
+        schema.write(event, writer);
+        return writer.toByteArray();
+    }
+
+    public Object decode(byte[] payload) {
+        BinaryReader reader = new BinaryReader(payload);
+        int formatVersion = reader.readByte();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported event format version " + formatVersion);
+        }
+        int typeId = (int) reader.readVarLong();
+        EventSchema<?> schema = schemasById.get(typeId);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown event type id " + typeId);
+        }
+        int version = (int) reader.readVarLong();
+        if (version > schema.version()) {
+            throw new IllegalArgumentException("Event type " + typeId + " version " + version
+                    + " is newer than supported version " + schema.version());
+        }
+        return schema.read(version, reader);
+    }
+}
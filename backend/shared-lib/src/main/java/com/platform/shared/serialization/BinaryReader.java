@@ -0,0 +1,130 @@
+package com.platform.shared.serialization;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads fields written by {@link BinaryWriter}, in the same order.
+ */
+public final class BinaryReader {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at offset " + position);
+    }
+
+    public long readSignedVarLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public Integer readInteger() {
+        long raw = readVarLong();
+        if (raw == 0) {
+            return null;
+        }
+        raw -= 1;
+        return Math.toIntExact((raw >>> 1) ^ -(raw & 1));
+    }
+
+    public String readString() {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        if (header == BinaryWriter.STRING_UUID) {
+            require(16);
+            char[] chars = new char[36];
+            int c = 0;
+            for (int i = 0; i < 16; i++) {
+                if (i == 4 || i == 6 || i == 8 || i == 10) {
+                    chars[c++] = '-';
+                }
+                int b = buffer[position++] & 0xFF;
+                chars[c++] = HEX[b >>> 4];
+                chars[c++] = HEX[b & 0x0F];
+            }
+            return new String(chars);
+        }
+        int length = Math.toIntExact(header - BinaryWriter.STRING_OFFSET);
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public BigDecimal readDecimal() {
+        int kind = readByte();
+        if (kind == BinaryWriter.DECIMAL_NULL) {
+            return null;
+        }
+        int scale = Math.toIntExact(readSignedVarLong());
+        if (kind == BinaryWriter.DECIMAL_LONG) {
+            return BigDecimal.valueOf(readSignedVarLong(), scale);
+        }
+        if (kind == BinaryWriter.DECIMAL_BIG) {
+            int length = Math.toIntExact(readVarLong());
+            require(length);
+            byte[] bytes = new byte[length];
+            System.arraycopy(buffer, position, bytes, 0, length);
+            position += length;
+            return new BigDecimal(new BigInteger(bytes), scale);
+        }
+        throw new IllegalArgumentException("Unknown decimal encoding " + kind);
+    }
+
+    public LocalDateTime readDateTime() {
+        if (readByte() == 0) {
+            return null;
+        }
+        long epochSecond = readSignedVarLong();
+        int nano = Math.toIntExact(readVarLong());
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    public <T> List<T> readList(Function<BinaryReader, T> elementReader) {
+        long header = readVarLong();
+        if (header == 0) {
+            return null;
+        }
+        int size = Math.toIntExact(header - 1);
+        List<T> values = new ArrayList<>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+            values.add(elementReader.apply(this));
+        }
+        return values;
+    }
+
+    private void require(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new IllegalArgumentException("Truncated event payload at offset " + position);
+        }
+    }
+}
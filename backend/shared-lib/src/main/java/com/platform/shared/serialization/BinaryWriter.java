@@ -0,0 +1,167 @@
+package com.platform.shared.serialization;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Appends fields in the compact event format read back by {@link BinaryReader}.
+ * Integers are LEB128 varints (zig-zag for signed values); every nullable field starts with a
+ * presence marker so {@code null} costs a single byte.
+ */
+public final class BinaryWriter {
+
+    private static final int STRING_NULL = 0;
+    static final int STRING_UUID = 1;
+    static final int STRING_OFFSET = 2;
+
+    static final int DECIMAL_NULL = 0;
+    static final int DECIMAL_LONG = 1;
+    static final int DECIMAL_BIG = 2;
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter() {
+        this(128);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeInteger(Integer value) {
+        // 0 = null, otherwise zig-zag(value) + 1
+        writeVarLong(value == null ? 0 : ((((long) value) << 1) ^ (((long) value) >> 63)) + 1);
+    }
+
+    /**
+     * Strings in canonical lower-case UUID form (all generated ids) are packed into 16 bytes.
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(STRING_NULL);
+            return;
+        }
+        if (isCanonicalUuid(value)) {
+            writeVarLong(STRING_UUID);
+            ensureCapacity(16);
+            for (int i = 0; i < value.length(); i += 2) {
+                if (value.charAt(i) == '-') {
+                    i++;
+                }
+                buffer[position++] = (byte) ((hex(value.charAt(i)) << 4) | hex(value.charAt(i + 1)));
+            }
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + (long) STRING_OFFSET);
+        writeBytes(bytes);
+    }
+
+    public void writeDecimal(BigDecimal value) {
+        if (value == null) {
+            writeByte(DECIMAL_NULL);
+            return;
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < 64) {
+            writeByte(DECIMAL_LONG);
+            writeSignedVarLong(value.scale());
+            writeSignedVarLong(unscaled.longValue());
+        } else {
+            byte[] bytes = unscaled.toByteArray();
+            writeByte(DECIMAL_BIG);
+            writeSignedVarLong(value.scale());
+            writeVarLong(bytes.length);
+            writeBytes(bytes);
+        }
+    }
+
+    public void writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeSignedVarLong(value.toEpochSecond(ZoneOffset.UTC));
+        writeVarLong(value.getNano());
+    }
+
+    public <T> void writeList(List<T> values, BiConsumer<BinaryWriter, T> elementWriter) {
+        if (values == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(values.size() + 1L);
+        for (T value : values) {
+            elementWriter.accept(this, value);
+        }
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+
+    private static boolean isCanonicalUuid(String value) {
+        if (value.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (hex(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hex(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+}
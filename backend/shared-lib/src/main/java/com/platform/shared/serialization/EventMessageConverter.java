@@ -0,0 +1,52 @@
+package com.platform.shared.serialization;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Reads both JSON and binary events, chosen by the message's content type, and writes the configured
+ * outbound format. Roll it out to consumers first, then switch producers to {@link SerializationFormat#BINARY}.
+ */
+public class EventMessageConverter implements MessageConverter {
+
+    private final MessageConverter jsonConverter;
+    private final BinaryEventCodec codec;
+    private final SerializationFormat outboundFormat;
+
+    public EventMessageConverter(MessageConverter jsonConverter, SerializationFormat outboundFormat) {
+        this(jsonConverter, new BinaryEventCodec(), outboundFormat);
+    }
+
+    public EventMessageConverter(MessageConverter jsonConverter, BinaryEventCodec codec,
+                                 SerializationFormat outboundFormat) {
+        this.jsonConverter = jsonConverter;
+        this.codec = codec;
+        this.outboundFormat = outboundFormat;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (outboundFormat == SerializationFormat.BINARY && codec.supports(object.getClass())) {
+            messageProperties.setContentType(BinaryEventCodec.CONTENT_TYPE);
+            byte[] body = codec.encode(object);
+            messageProperties.setContentLength(body.length);
+            return new Message(body, messageProperties);
+        }
+        return jsonConverter.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        String contentType = message.getMessageProperties().getContentType();
+        if (contentType != null && contentType.startsWith(BinaryEventCodec.CONTENT_TYPE)) {
+            try {
+                return codec.decode(message.getBody());
+            } catch (RuntimeException e) {
+                throw new MessageConversionException("Failed to decode binary event", e);
+            }
+        }
+        return jsonConverter.fromMessage(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.platform.shared.serialization;
+
+/**
+ * Field layout of one event type in the binary format. Fields are positional, so a schema may only
+ * change by bumping {@link #version()} and keeping the old layout readable.
+ */
+public interface EventSchema<T> {
+
+    int typeId();
+
+    int version();
+
+    Class<T> type();
+
+    void write(T event, BinaryWriter writer);
+
+    T read(int version, BinaryReader reader);
+}
@@ -0,0 +1,243 @@
+package com.platform.shared.serialization;
+
+import com.platform.shared.events.InventoryExpiredEvent;
+import com.platform.shared.events.InventoryRejectedEvent;
+import com.platform.shared.events.InventoryReservedEvent;
+import com.platform.shared.events.OrderCancelledEvent;
+import com.platform.shared.events.OrderCreatedEvent;
+import com.platform.shared.events.OrderPaidEvent;
+import com.platform.shared.events.OrderShippedEvent;
+
+import java.util.List;
+
+/**
+ * Schemas for the events in {@code com.platform.shared.events}. Type ids are part of the wire format
+ * and must never be reused.
+ */
+public final class EventSchemas {
+
+    public static final EventSchema<OrderCreatedEvent> ORDER_CREATED = new EventSchema<>() {
+        @Override
+        public int typeId() {
+            return 1;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public Class<OrderCreatedEvent> type() {
+            return OrderCreatedEvent.class;
+        }
+
+        @Override
+        public void write(OrderCreatedEvent event, BinaryWriter writer) {
+            writer.writeString(event.getOrderId());
+            writer.writeString(event.getUserId());
+            writer.writeList(event.getItems(), (w, item) -> {
+                w.writeString(item.getProductId());
+                w.writeString(item.getProductName());
+                w.writeInteger(item.getQuantity());
+                w.writeDecimal(item.getPrice());
+            });
+            writer.writeDecimal(event.getTotalAmount());
+            writer.writeDateTime(event.getCreatedAt());
+        }
+
+        @Override
+        public OrderCreatedEvent read(int version, BinaryReader reader) {
+            OrderCreatedEvent event = new OrderCreatedEvent();
+            event.setOrderId(reader.readString());
+            event.setUserId(reader.readString());
+            event.setItems(reader.readList(r -> new OrderCreatedEvent.OrderItem(
+                    r.readString(), r.readString(), r.readInteger(), r.readDecimal())));
+            event.setTotalAmount(reader.readDecimal());
+            event.setCreatedAt(reader.readDateTime());
+            return event;
+        }
+    };
+
+    public static final EventSchema<OrderPaidEvent> ORDER_PAID = new EventSchema<>() {
+        @Override
+        public int typeId() {
+            return 2;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public Class<OrderPaidEvent> type() {
+            return OrderPaidEvent.class;
+        }
+
+        @Override
+        public void write(OrderPaidEvent event, BinaryWriter writer) {
+            writer.writeString(event.getOrderId());
+            writer.writeString(event.getPaymentId());
+            writer.writeString(event.getPaymentMethod());
+            writer.writeDateTime(event.getPaidAt());
+        }
+
+        @Override
+        public OrderPaidEvent read(int version, BinaryReader reader) {
+            return new OrderPaidEvent(reader.readString(), reader.readString(), reader.readString(),
+                    reader.readDateTime());
+        }
+    };
+
+    public static final EventSchema<OrderShippedEvent> ORDER_SHIPPED = new EventSchema<>() {
+        @Override
+        public int typeId() {
+            return 3;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public Class<OrderShippedEvent> type() {
+            return OrderShippedEvent.class;
+        }
+
+        @Override
+        public void write(OrderShippedEvent event, BinaryWriter writer) {
+            writer.writeString(event.getOrderId());
+            writer.writeString(event.getTrackingNumber());
+            writer.writeString(event.getCarrier());
+            writer.writeDateTime(event.getShippedAt());
+        }
+
+        @Override
+        public OrderShippedEvent read(int version, BinaryReader reader) {
+            return new OrderShippedEvent(reader.readString(), reader.readString(), reader.readString(),
+                    reader.readDateTime());
+        }
+    };
+
+    public static final EventSchema<InventoryReservedEvent> INVENTORY_RESERVED = new EventSchema<>() {
+        @Override
+        public int typeId() {
+            return 4;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public Class<InventoryReservedEvent> type() {
+            return InventoryReservedEvent.class;
+        }
+
+        @Override
+        public void write(InventoryReservedEvent event, BinaryWriter writer) {
+            writer.writeString(event.getOrderId());
+            writer.writeDateTime(event.getReservedAt());
+        }
+
+        @Override
+        public InventoryReservedEvent read(int version, BinaryReader reader) {
+            return new InventoryReservedEvent(reader.readString(), reader.readDateTime());
+        }
+    };
+
+    public static final EventSchema<InventoryRejectedEvent> INVENTORY_REJECTED = new EventSchema<>() {
+        @Override
+        public int typeId() {
+            return 5;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public Class<InventoryRejectedEvent> type() {
+            return InventoryRejectedEvent.class;
+        }
+
+        @Override
+        public void write(InventoryRejectedEvent event, BinaryWriter writer) {
+            writer.writeString(event.getOrderId());
+            writer.writeString(event.getReason());
+            writer.writeDateTime(event.getRejectedAt());
+        }
+
+        @Override
+        public InventoryRejectedEvent read(int version, BinaryReader reader) {
+            return new InventoryRejectedEvent(reader.readString(), reader.readString(), reader.readDateTime());
+        }
+    };
+
+    public static final EventSchema<InventoryExpiredEvent> INVENTORY_EXPIRED = new EventSchema<>() {
+        @Override
+        public int typeId() {
+            return 6;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public Class<InventoryExpiredEvent> type() {
+            return InventoryExpiredEvent.class;
+        }
+
+        @Override
+        public void write(InventoryExpiredEvent event, BinaryWriter writer) {
+            writer.writeString(event.getOrderId());
+            writer.writeDateTime(event.getExpiredAt());
+        }
+
+        @Override
+        public InventoryExpiredEvent read(int version, BinaryReader reader) {
+            return new InventoryExpiredEvent(reader.readString(), reader.readDateTime());
+        }
+    };
+
+    public static final EventSchema<OrderCancelledEvent> ORDER_CANCELLED = new EventSchema<>() {
+        @Override
+        public int typeId() {
+            return 7;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public Class<OrderCancelledEvent> type() {
+            return OrderCancelledEvent.class;
+        }
+
+        @Override
+        public void write(OrderCancelledEvent event, BinaryWriter writer) {
+            writer.writeString(event.getOrderId());
+            writer.writeString(event.getReason());
+            writer.writeDateTime(event.getCancelledAt());
+        }
+
+        @Override
+        public OrderCancelledEvent read(int version, BinaryReader reader) {
+            return new OrderCancelledEvent(reader.readString(), reader.readString(), reader.readDateTime());
+        }
+    };
+
+    public static final List<EventSchema<?>> ALL = List.of(ORDER_CREATED, ORDER_PAID, ORDER_SHIPPED,
+            INVENTORY_RESERVED, INVENTORY_REJECTED, INVENTORY_EXPIRED, ORDER_CANCELLED);
+
+    private EventSchemas() {
+    }
+}
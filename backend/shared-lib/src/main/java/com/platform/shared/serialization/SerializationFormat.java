@@ -0,0 +1,5 @@
+package com.platform.shared.serialization;
+
+public enum SerializationFormat {
+    JSON, BINARY
+}
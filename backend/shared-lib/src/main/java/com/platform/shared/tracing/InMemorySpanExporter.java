@@ -0,0 +1,88 @@
+package com.platform.shared.tracing;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the most recent {@code maxSpans} spans of this service in memory; older spans are dropped first.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int maxSpans;
+    private final ArrayDeque<SpanRecord> spans;
+
+    public InMemorySpanExporter(int maxSpans) {
+        this.maxSpans = maxSpans;
+        this.spans = new ArrayDeque<>(maxSpans);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> batch) {
+        for (SpanData span : batch) {
+            if (spans.size() == maxSpans) {
+                spans.removeFirst();
+            }
+            spans.addLast(SpanRecord.of(span));
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    public synchronized List<SpanRecord> spans() {
+        return List.copyOf(spans);
+    }
+
+    public List<SpanRecord> trace(String traceId) {
+        return spans().stream()
+                .filter(span -> span.traceId().equals(traceId))
+                .sorted(Comparator.comparing(SpanRecord::start))
+                .toList();
+    }
+
+    /**
+     * Recent traces, slowest first. Duration covers the spans of the trace seen by this service only.
+     */
+    public List<TraceSummary> traces() {
+        Map<String, List<SpanRecord>> byTrace = new LinkedHashMap<>();
+        for (SpanRecord span : spans()) {
+            byTrace.computeIfAbsent(span.traceId(), id -> new ArrayList<>()).add(span);
+        }
+        return byTrace.entrySet().stream()
+                .map(entry -> TraceSummary.of(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(TraceSummary::durationMicros).reversed())
+                .toList();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    public record TraceSummary(String traceId, String rootName, Instant start, long durationMicros, int spanCount) {
+
+        static TraceSummary of(String traceId, List<SpanRecord> spans) {
+            SpanRecord first = spans.stream().min(Comparator.comparing(SpanRecord::start)).orElseThrow();
+            Instant end = spans.stream()
+                    .map(span -> span.start().plusNanos(span.durationMicros() * 1000))
+                    .max(Comparator.naturalOrder())
+                    .orElseThrow();
+            return new TraceSummary(traceId, first.name(), first.start(),
+                    Duration.between(first.start(), end).toNanos() / 1000, spans.size());
+        }
+    }
+}
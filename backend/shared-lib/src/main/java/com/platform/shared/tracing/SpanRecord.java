@@ -0,0 +1,44 @@
+package com.platform.shared.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flat, serializable view of a finished span as written by the local exporters.
+ */
+public record SpanRecord(String traceId,
+                         String spanId,
+                         String parentSpanId,
+                         String service,
+                         String name,
+                         String kind,
+                         Instant start,
+                         long durationMicros,
+                         String status,
+                         Map<String, String> attributes) {
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+    private static final String INVALID_SPAN_ID = "0000000000000000";
+
+    public static SpanRecord of(SpanData span) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        String parent = span.getParentSpanId();
+        return new SpanRecord(
+                span.getTraceId(),
+                span.getSpanId(),
+                INVALID_SPAN_ID.equals(parent) ? null : parent,
+                span.getResource().getAttribute(SERVICE_NAME),
+                span.getName(),
+                span.getKind().name(),
+                Instant.ofEpochSecond(0, span.getStartEpochNanos()),
+                TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()),
+                span.getStatus().getStatusCode().name(),
+                attributes);
+    }
+}
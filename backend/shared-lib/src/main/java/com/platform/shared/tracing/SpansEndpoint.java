@@ -0,0 +1,31 @@
+package com.platform.shared.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/spans} lists the recent traces held by the {@link InMemorySpanExporter}, slowest first;
+ * {@code /actuator/spans/{traceId}} returns the spans of one trace in start order.
+ */
+@Endpoint(id = "spans")
+public class SpansEndpoint {
+
+    private final InMemorySpanExporter exporter;
+
+    public SpansEndpoint(InMemorySpanExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @ReadOperation
+    public List<InMemorySpanExporter.TraceSummary> traces() {
+        return exporter.traces();
+    }
+
+    @ReadOperation
+    public List<SpanRecord> trace(@Selector String traceId) {
+        return exporter.trace(traceId);
+    }
+}
@@ -0,0 +1,43 @@
+package com.platform.shared.tracing;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Local span exporters. Boot's OpenTelemetry setup sends finished spans to every {@link SpanExporter}
+ * bean, so these run alongside OTLP ({@code management.otlp.tracing.endpoint}) or any other exporter bean.
+ */
+@AutoConfiguration
+@ConditionalOnClass(SpanExporter.class)
+public class TracingExporterAutoConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.file.enabled", havingValue = "true")
+    public FileSpanExporter fileSpanExporter(
+            @Value("${tracing.file.path:traces/${spring.application.name:application}.jsonl}") Path path) {
+        return new FileSpanExporter(path);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "tracing.memory.enabled", havingValue = "true")
+    static class InMemoryExporterConfiguration {
+
+        @Bean
+        public InMemorySpanExporter inMemorySpanExporter(@Value("${tracing.memory.max-spans:10000}") int maxSpans) {
+            return new InMemorySpanExporter(maxSpans);
+        }
+
+        @Bean
+        @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+        public SpansEndpoint spansEndpoint(InMemorySpanExporter inMemorySpanExporter) {
+            return new SpansEndpoint(inMemorySpanExporter);
+        }
+    }
+}
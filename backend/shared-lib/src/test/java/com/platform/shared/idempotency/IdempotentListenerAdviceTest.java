@@ -0,0 +1,187 @@
+package com.platform.shared.idempotency;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class IdempotentListenerAdviceTest {
+
+    private Channel channel;
+    private ProcessedMessageStore store;
+    private TransactionTemplate transactionTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        channel = mock(Channel.class);
+        store = mock(ProcessedMessageStore.class);
+        transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void invoke_DropsRepeatedMessageFromMemoryAndAcksIt() throws Throwable {
+        // Arrange
+        IdempotentListenerAdvice advice = advice(null, AcknowledgeMode.MANUAL);
+        MethodInvocation first = acking(invocation(message("m1", 1)), 1);
+        MethodInvocation second = invocation(message("m1", 2));
+
+        // Act
+        advice.invoke(first);
+        advice.invoke(second);
+
+        // Assert
+        verify(first).proceed();
+        verify(second, never()).proceed();
+        verify(channel).basicAck(2, false);
+        assertEquals(1, count("new"));
+        assertEquals(1, count("duplicate_memory"));
+    }
+
+    @Test
+    void invoke_InMemoryManualAckRecordsIdOnlyOnceAcked() throws Throwable {
+        // Arrange
+        IdempotentListenerAdvice advice = advice(null, AcknowledgeMode.MANUAL);
+        MethodInvocation inFlight = invocation(message("m1", 1));
+        MethodInvocation redelivery = acking(invocation(message("m1", 2)), 2);
+        MethodInvocation duplicate = invocation(message("m1", 3));
+
+        // Act
+        advice.invoke(inFlight);
+        advice.invoke(redelivery);
+        advice.invoke(duplicate);
+
+        // Assert
+        verify(redelivery).proceed();
+        verify(duplicate, never()).proceed();
+        verify(channel).basicAck(2, false);
+        verify(channel).basicAck(3, false);
+    }
+
+    @Test
+    void invoke_DropsMessageAlreadyClaimedInStore() throws Throwable {
+        // Arrange
+        when(store.claim("orders", "m1")).thenReturn(false);
+        IdempotentListenerAdvice advice = advice(store, AcknowledgeMode.AUTO);
+        MethodInvocation invocation = invocation(message("m1", 1));
+
+        // Act
+        advice.invoke(invocation);
+
+        // Assert
+        verify(invocation, never()).proceed();
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        assertEquals(1, count("duplicate_store"));
+    }
+
+    @Test
+    void invoke_ForgetsMessageWhenListenerFails() throws Throwable {
+        // Arrange
+        when(store.claim("orders", "m1")).thenReturn(true);
+        IdempotentListenerAdvice advice = advice(store, AcknowledgeMode.AUTO);
+        MethodInvocation failing = invocation(message("m1", 1));
+        when(failing.proceed()).thenThrow(new Exception("listener failed"));
+        MethodInvocation retry = invocation(message("m1", 2));
+
+        // Act
+        Exception thrown = assertThrows(Exception.class, () -> advice.invoke(failing));
+        advice.invoke(retry);
+
+        // Assert
+        assertEquals("listener failed", thrown.getMessage());
+        verify(retry).proceed();
+        verify(store, times(2)).claim("orders", "m1");
+    }
+
+    @Test
+    void invoke_FiltersBatchAndMarksProcessedIds() throws Throwable {
+        // Arrange
+        when(store.findProcessed(anyString(), any())).thenReturn(Set.of("m2"));
+        IdempotentListenerAdvice advice = advice(store, AcknowledgeMode.AUTO);
+        Message m1 = message("m1", 1);
+        Message untracked = message(null, 4);
+        MethodInvocation invocation = invocation(List.of(m1, message("m2", 2), message("m1", 3), untracked));
+
+        // Act
+        advice.invoke(invocation);
+
+        // Assert
+        verify(invocation).proceed();
+        assertEquals(List.of(untracked, m1), invocation.getArguments()[1]);
+        verify(store).markProcessed("orders", List.of("m1"));
+        assertEquals(1, count("new"));
+        assertEquals(1, count("duplicate_memory"));
+        assertEquals(1, count("duplicate_store"));
+        assertEquals(1, count("untracked"));
+    }
+
+    @Test
+    void invoke_DoesNotRecordBatchMessagesReportedAsNotProcessed() throws Throwable {
+        // Arrange
+        when(store.findProcessed(anyString(), any())).thenReturn(Set.of());
+        IdempotentListenerAdvice advice = advice(store, AcknowledgeMode.AUTO);
+        Message deadLettered = message("m1", 1);
+        MethodInvocation invocation = invocation(List.of(deadLettered, message("m2", 2)));
+        when(invocation.proceed()).thenAnswer(call -> {
+            IdempotentBatch.notProcessed(deadLettered);
+            return null;
+        });
+        MethodInvocation redrive = invocation(List.of(message("m1", 3)));
+
+        // Act
+        advice.invoke(invocation);
+        advice.invoke(redrive);
+
+        // Assert
+        verify(store).markProcessed("orders", List.of("m2"));
+        verify(redrive).proceed();
+        verify(store).markProcessed("orders", List.of("m1"));
+    }
+
+    private IdempotentListenerAdvice advice(ProcessedMessageStore store, AcknowledgeMode ackMode) {
+        return new IdempotentListenerAdvice("orders", new RecentMessageIds(Duration.ofMinutes(1), 100), store,
+                transactionTemplate, ackMode, meterRegistry);
+    }
+
+    private MethodInvocation invocation(Object data) {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getArguments()).thenReturn(new Object[]{channel, data});
+        return invocation;
+    }
+
+    // Acks the delivery through the channel the listener is handed, as the container's adapter does
+    private static MethodInvocation acking(MethodInvocation invocation, long deliveryTag) throws Throwable {
+        when(invocation.proceed()).thenAnswer(call -> {
+            ((Channel) invocation.getArguments()[0]).basicAck(deliveryTag, false);
+            return null;
+        });
+        return invocation;
+    }
+
+    private static Message message(String id, long deliveryTag) {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(id);
+        properties.setDeliveryTag(deliveryTag);
+        return new Message(new byte[0], properties);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("rabbitmq.listener.dedup").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,60 @@
+package com.platform.shared.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcProcessedMessageStoreTest {
+
+    private JdbcProcessedMessageStore store;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        store = new JdbcProcessedMessageStore(dataSource, "processed_messages");
+        store.initialize();
+    }
+
+    @Test
+    void claim_SucceedsOncePerConsumer() {
+        // Act & Assert
+        assertTrue(store.claim("orders", "m1"));
+        assertFalse(store.claim("orders", "m1"));
+        assertTrue(store.claim("payments", "m1"));
+    }
+
+    @Test
+    void findProcessed_ReturnsOnlyMarkedIds() {
+        // Arrange
+        store.markProcessed("orders", List.of("m1", "m2"));
+        store.markProcessed("orders", List.of("m2"));
+
+        // Act
+        Set<String> processed = store.findProcessed("orders", List.of("m1", "m2", "m3"));
+
+        // Assert
+        assertEquals(Set.of("m1", "m2"), processed);
+        assertEquals(Set.of(), store.findProcessed("payments", List.of("m1")));
+    }
+
+    @Test
+    void purgeBefore_DeletesOlderEntries() {
+        // Arrange
+        store.markProcessed("orders", List.of("m1", "m2"));
+
+        // Act
+        int purged = store.purgeBefore(Instant.now().plusSeconds(1));
+
+        // Assert
+        assertEquals(2, purged);
+        assertTrue(store.claim("orders", "m1"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.platform.shared.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecentMessageIdsTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void contains_RemembersIdsForAtLeastOneWindow() {
+        // Arrange
+        RecentMessageIds ids = new RecentMessageIds(Duration.ofSeconds(10), 100, clock::get);
+        ids.add("a");
+
+        // Act
+        clock.addAndGet(Duration.ofSeconds(15).toNanos());
+        ids.add("b");
+
+        // Assert
+        assertTrue(ids.contains("a"));
+        assertTrue(ids.contains("b"));
+        assertFalse(ids.contains("c"));
+    }
+
+    @Test
+    void contains_ForgetsIdsAfterTwoWindows() {
+        // Arrange
+        RecentMessageIds ids = new RecentMessageIds(Duration.ofSeconds(10), 100, clock::get);
+        ids.add("a");
+
+        // Act
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        ids.add("b");
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        ids.add("c");
+
+        // Assert
+        assertFalse(ids.contains("a"));
+        assertTrue(ids.contains("b"));
+    }
+
+    @Test
+    void add_StaysWithinMaxIds() {
+        // Arrange
+        RecentMessageIds ids = new RecentMessageIds(Duration.ofHours(1), 10, clock::get);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            ids.add("id-" + i);
+        }
+
+        // Assert
+        assertTrue(ids.size() <= 10);
+        assertTrue(ids.contains("id-99"));
+        assertTrue(ids.contains("id-95"));
+        assertFalse(ids.contains("id-0"));
+    }
+}
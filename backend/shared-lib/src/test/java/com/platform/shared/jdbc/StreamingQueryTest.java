@@ -0,0 +1,57 @@
+package com.platform.shared.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingQueryTest {
+
+    private StreamingQuery query;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table items (id int primary key, name varchar(20))");
+        jdbcTemplate.update("insert into items values (1, 'a'), (2, 'b'), (3, 'c')");
+        query = new StreamingQuery(dataSource, new DataSourceTransactionManager(dataSource), 2);
+    }
+
+    @Test
+    void forEachRow_PassesEveryRowInOrder() throws IOException {
+        // Arrange
+        List<String> names = new ArrayList<>();
+
+        // Act
+        query.forEachRow("select name from items where id > ? order by id", rs -> names.add(rs.getString("name")), 0);
+
+        // Assert
+        assertEquals(List.of("a", "b", "c"), names);
+    }
+
+    @Test
+    void forEachRow_RethrowsWriteFailureAndStops() {
+        // Arrange
+        List<Integer> seen = new ArrayList<>();
+
+        // Act
+        IOException thrown = assertThrows(IOException.class, () -> query.forEachRow("select id from items order by id", rs -> {
+            seen.add(rs.getInt("id"));
+            throw new IOException("client went away");
+        }));
+
+        // Assert
+        assertEquals("client went away", thrown.getMessage());
+        assertEquals(List.of(1), seen);
+    }
+}
@@ -0,0 +1,100 @@
+package com.platform.shared.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ListenerContainerTunerTest {
+
+    private ListenerProperties properties;
+    private RabbitProperties.SimpleContainer defaults;
+    private AmqpAdmin amqpAdmin;
+    private SimpleMeterRegistry meterRegistry;
+    private ListenerContainerMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ListenerProperties();
+        properties.getScaling().setEnabled(true);
+        properties.getScaling().setMessagesPerConsumer(100);
+        defaults = new RabbitProperties.SimpleContainer();
+        amqpAdmin = mock(AmqpAdmin.class);
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new ListenerContainerMonitor(properties.getScaling(), amqpAdmin, meterRegistry);
+    }
+
+    @Test
+    void configure_AppliesQueueOverrides() {
+        // Arrange
+        ListenerProperties.QueueSettings settings = new ListenerProperties.QueueSettings();
+        settings.setConcurrency(2);
+        settings.setMaxConcurrency(6);
+        settings.setPrefetch(20);
+        properties.getQueues().put("orders", settings);
+        SimpleMessageListenerContainer container = container("orders");
+
+        // Act
+        new ListenerContainerTuner(properties, defaults, monitor, null, 4).configure(container);
+
+        // Assert
+        assertEquals(2, ReflectionTestUtils.getField(container, "concurrentConsumers"));
+        assertEquals(6, ReflectionTestUtils.getField(container, "maxConcurrentConsumers"));
+        assertEquals(20, ReflectionTestUtils.getField(container, "prefetchCount"));
+        assertEquals(1, monitor.activities().size());
+        assertNotNull(meterRegistry.find("rabbitmq.listener.utilization").tag("queue", "orders").gauge());
+    }
+
+    @Test
+    void configure_ScalesMaxConsumersWithCores() {
+        // Arrange
+        properties.setConsumersPerCore(2);
+        defaults.setConcurrency(3);
+        SimpleMessageListenerContainer container = container("payments");
+
+        // Act
+        new ListenerContainerTuner(properties, defaults, monitor, null, 4).configure(container);
+
+        // Assert
+        assertEquals(3, ReflectionTestUtils.getField(container, "concurrentConsumers"));
+        assertEquals(8, ReflectionTestUtils.getField(container, "maxConcurrentConsumers"));
+    }
+
+    @Test
+    void sample_RaisesConsumersWithDepthAndStepsDown() {
+        // Arrange
+        properties.setConsumersPerCore(2);
+        SimpleMessageListenerContainer container = container("orders");
+        new ListenerContainerTuner(properties, defaults, monitor, null, 4).configure(container);
+        ListenerActivity activity = monitor.activities().get(0);
+        when(amqpAdmin.getQueueInfo("orders"))
+                .thenReturn(new QueueInformation("orders", 550, 1))
+                .thenReturn(new QueueInformation("orders", 5_000, 1))
+                .thenReturn(new QueueInformation("orders", 0, 1));
+
+        // Act & Assert
+        monitor.sample();
+        assertEquals(6, activity.consumers());
+        assertEquals(550, activity.depth());
+
+        monitor.sample();
+        assertEquals(8, activity.consumers());
+
+        monitor.sample();
+        assertEquals(7, activity.consumers());
+        assertEquals(7, ReflectionTestUtils.getField(container, "concurrentConsumers"));
+    }
+
+    private static SimpleMessageListenerContainer container(String queue) {
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer();
+        container.setQueueNames(queue);
+        return container;
+    }
+}
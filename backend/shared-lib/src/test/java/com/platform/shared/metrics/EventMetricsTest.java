@@ -0,0 +1,42 @@
+package com.platform.shared.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventMetrics eventMetrics = new EventMetrics(meterRegistry);
+
+    @Test
+    void recordLag_MeasuresFromEventTimestamp() {
+        // Act
+        eventMetrics.recordLag("order.created", LocalDateTime.now().minusSeconds(3));
+        eventMetrics.recordLag("order.created", LocalDateTime.now().plusSeconds(5));
+        eventMetrics.recordLag("order.created", null);
+
+        // Assert
+        Timer lag = meterRegistry.get("events.consume.lag").tag("event", "order.created").timer();
+        assertEquals(2, lag.count());
+        assertTrue(lag.max(TimeUnit.SECONDS) >= 3);
+        assertTrue(lag.totalTime(TimeUnit.SECONDS) < 4, "clock skew must not count as lag");
+    }
+
+    @Test
+    void recordProcessing_TagsOutcome() {
+        // Act
+        eventMetrics.recordProcessing(eventMetrics.startProcessing(), "order.paid", EventMetrics.SUCCESS);
+        eventMetrics.recordProcessing(eventMetrics.startProcessing(), "order.paid", EventMetrics.FAILURE);
+        eventMetrics.recordProcessing(eventMetrics.startProcessing(), "order.paid", EventMetrics.FAILURE);
+
+        // Assert
+        assertEquals(1, meterRegistry.get("events.consume.processing").tag("outcome", "success").timer().count());
+        assertEquals(2, meterRegistry.get("events.consume.processing").tag("outcome", "failure").timer().count());
+    }
+}
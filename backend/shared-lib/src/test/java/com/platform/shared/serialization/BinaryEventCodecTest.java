@@ -0,0 +1,112 @@
+package com.platform.shared.serialization;
+
+import com.platform.shared.events.InventoryExpiredEvent;
+import com.platform.shared.events.InventoryRejectedEvent;
+import com.platform.shared.events.InventoryReservedEvent;
+import com.platform.shared.events.OrderCancelledEvent;
+import com.platform.shared.events.OrderCreatedEvent;
+import com.platform.shared.events.OrderPaidEvent;
+import com.platform.shared.events.OrderShippedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryEventCodecTest {
+
+    private final BinaryEventCodec codec = new BinaryEventCodec();
+
+    @Test
+    void roundTrip_OrderCreatedEvent() {
+        // Arrange
+        OrderCreatedEvent event = new OrderCreatedEvent(
+                "3f2b8c1e-9a4d-4e5f-8b6a-1c2d3e4f5a6b",
+                "user123",
+                List.of(new OrderCreatedEvent.OrderItem("product123", "Café crème", 2, new BigDecimal("49.99")),
+                        new OrderCreatedEvent.OrderItem("product456", null, null, null)),
+                new BigDecimal("99.98"),
+                LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123456789));
+
+        // Act
+        byte[] payload = codec.encode(event);
+        Object decoded = codec.decode(payload);
+
+        // Assert
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void roundTrip_PaidShippedAndCancelledEvents() {
+        // Arrange
+        OrderPaidEvent paid = new OrderPaidEvent("order123", "payment123", "CREDIT_CARD", LocalDateTime.now());
+        OrderShippedEvent shipped = new OrderShippedEvent("order123", "TRACK123", "UPS", null);
+        OrderCancelledEvent cancelled = new OrderCancelledEvent("order456", "Not paid in time", LocalDateTime.now());
+
+        // Act & Assert
+        assertEquals(paid, codec.decode(codec.encode(paid)));
+        assertEquals(shipped, codec.decode(codec.encode(shipped)));
+        assertEquals(cancelled, codec.decode(codec.encode(cancelled)));
+    }
+
+    @Test
+    void roundTrip_InventoryResultEvents() {
+        // Arrange
+        InventoryReservedEvent reserved = new InventoryReservedEvent("order123", LocalDateTime.now());
+        InventoryRejectedEvent rejected = new InventoryRejectedEvent("order456", "Insufficient inventory", null);
+        InventoryExpiredEvent expired = new InventoryExpiredEvent("order789", LocalDateTime.now());
+
+        // Act & Assert
+        assertEquals(reserved, codec.decode(codec.encode(reserved)));
+        assertEquals(rejected, codec.decode(codec.encode(rejected)));
+        assertEquals(expired, codec.decode(codec.encode(expired)));
+    }
+
+    @Test
+    void encode_PacksUuidsAndPreservesOtherStrings() {
+        // Arrange
+        String uuid = "3f2b8c1e-9a4d-4e5f-8b6a-1c2d3e4f5a6b";
+        String upperCase = uuid.toUpperCase();
+        BinaryWriter writer = new BinaryWriter();
+
+        // Act
+        writer.writeString(uuid);
+        int uuidBytes = writer.toByteArray().length;
+        writer.writeString(upperCase);
+        BinaryReader reader = new BinaryReader(writer.toByteArray());
+
+        // Assert
+        assertEquals(17, uuidBytes);
+        assertEquals(uuid, reader.readString());
+        assertEquals(upperCase, reader.readString());
+    }
+
+    @Test
+    void roundTrip_DecimalsBeyondLongRange() {
+        // Arrange
+        BigDecimal large = new BigDecimal("-123456789012345678901234567890.000001");
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeDecimal(large);
+        writer.writeInteger(Integer.MIN_VALUE);
+
+        // Act
+        BinaryReader reader = new BinaryReader(writer.toByteArray());
+
+        // Assert
+        assertEquals(large, reader.readDecimal());
+        assertEquals(Integer.MIN_VALUE, reader.readInteger());
+    }
+
+    @Test
+    void decode_TruncatedPayload_Throws() {
+        // Arrange
+        byte[] payload = codec.encode(new OrderPaidEvent("order123", "payment123", "CREDIT_CARD", null));
+        byte[] truncated = Arrays.copyOf(payload, payload.length - 3);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(truncated));
+    }
+}
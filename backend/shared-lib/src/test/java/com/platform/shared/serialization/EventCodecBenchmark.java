@@ -0,0 +1,112 @@
+package com.platform.shared.serialization;
+
+import com.platform.shared.events.OrderCreatedEvent;
+import com.platform.shared.events.OrderPaidEvent;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of the binary event format against the Jackson converter currently on the wire.
+ * Run with {@code mvn test -Pbenchmark}; payload sizes are printed before the JMH run and the
+ * results are written to {@code target/jmh-event-codec.json}.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventCodecBenchmark {
+
+    // Matches the services' Boot-configured mapper
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Param({"created", "paid"})
+    public String eventType;
+
+    @Param({"json", "binary"})
+    public String format;
+
+    private MessageConverter converter;
+    private Object event;
+    private Message encoded;
+
+    @Setup
+    public void setUp() {
+        converter = new EventMessageConverter(new Jackson2JsonMessageConverter(OBJECT_MAPPER),
+                SerializationFormat.valueOf(format.toUpperCase()));
+        event = "created".equals(eventType) ? orderCreated() : orderPaid();
+        encoded = converter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message encode() {
+        return converter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object decode() {
+        return converter.fromMessage(encoded);
+    }
+
+    @Test
+    void compareJsonAndBinary() throws Exception {
+        MessageConverter json = new Jackson2JsonMessageConverter(OBJECT_MAPPER);
+        MessageConverter binary = new EventMessageConverter(json, SerializationFormat.BINARY);
+        for (Object sample : List.of(orderCreated(), orderPaid())) {
+            System.out.printf("%-18s json=%d bytes binary=%d bytes%n", sample.getClass().getSimpleName(),
+                    json.toMessage(sample, new MessageProperties()).getBody().length,
+                    binary.toMessage(sample, new MessageProperties()).getBody().length);
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(EventCodecBenchmark.class.getName())
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-event-codec.json")
+                .build())
+                .run();
+    }
+
+    static OrderCreatedEvent orderCreated() {
+        List<OrderCreatedEvent.OrderItem> items = List.of(
+                new OrderCreatedEvent.OrderItem(UUID.randomUUID().toString(), "Wireless Mouse", 2, new BigDecimal("24.99")),
+                new OrderCreatedEvent.OrderItem(UUID.randomUUID().toString(), "USB-C Hub", 1, new BigDecimal("49.90")),
+                new OrderCreatedEvent.OrderItem(UUID.randomUUID().toString(), "Laptop Stand", 1, new BigDecimal("35.00")));
+        return new OrderCreatedEvent(UUID.randomUUID().toString(), UUID.randomUUID().toString(), items,
+                new BigDecimal("134.88"), LocalDateTime.now());
+    }
+
+    static OrderPaidEvent orderPaid() {
+        return new OrderPaidEvent(UUID.randomUUID().toString(), UUID.randomUUID().toString(), "CREDIT_CARD",
+                LocalDateTime.now());
+    }
+}
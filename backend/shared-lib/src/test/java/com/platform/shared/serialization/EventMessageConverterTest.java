@@ -0,0 +1,71 @@
+package com.platform.shared.serialization;
+
+import com.platform.shared.events.OrderPaidEvent;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventMessageConverterTest {
+
+    // Matches the services' Boot-configured mapper
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final OrderPaidEvent event =
+            new OrderPaidEvent("order123", "payment123", "CREDIT_CARD", LocalDateTime.of(2024, 3, 1, 12, 0));
+
+    @Test
+    void binaryProducer_JsonConfiguredConsumerStillReadsIt() {
+        // Arrange
+        EventMessageConverter producer =
+                new EventMessageConverter(new Jackson2JsonMessageConverter(OBJECT_MAPPER), SerializationFormat.BINARY);
+        EventMessageConverter consumer =
+                new EventMessageConverter(new Jackson2JsonMessageConverter(OBJECT_MAPPER), SerializationFormat.JSON);
+
+        // Act
+        Message message = producer.toMessage(event, new MessageProperties());
+
+        // Assert
+        assertEquals(BinaryEventCodec.CONTENT_TYPE, message.getMessageProperties().getContentType());
+        assertEquals(event, consumer.fromMessage(message));
+    }
+
+    @Test
+    void jsonProducer_ProducesJsonReadableByBothConverters() {
+        // Arrange
+        EventMessageConverter producer =
+                new EventMessageConverter(new Jackson2JsonMessageConverter(OBJECT_MAPPER), SerializationFormat.JSON);
+        EventMessageConverter consumer =
+                new EventMessageConverter(new Jackson2JsonMessageConverter(OBJECT_MAPPER), SerializationFormat.BINARY);
+
+        // Act
+        Message message = producer.toMessage(event, new MessageProperties());
+
+        // Assert
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, message.getMessageProperties().getContentType());
+        assertEquals(event, consumer.fromMessage(message));
+        assertEquals(event, new Jackson2JsonMessageConverter(OBJECT_MAPPER).fromMessage(message));
+    }
+
+    @Test
+    void corruptBinaryPayload_ThrowsConversionException() {
+        // Arrange
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(BinaryEventCodec.CONTENT_TYPE);
+        Message message = new Message(new byte[]{1, 99}, properties);
+        EventMessageConverter converter =
+                new EventMessageConverter(new Jackson2JsonMessageConverter(OBJECT_MAPPER), SerializationFormat.JSON);
+
+        // Act & Assert
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(message));
+    }
+}
@@ -0,0 +1,66 @@
+package com.platform.shared.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemorySpanExporterTest {
+
+    @Test
+    void traces_GroupsSpansAndListsSlowestFirst() throws InterruptedException {
+        // Arrange
+        InMemorySpanExporter exporter = new InMemorySpanExporter(100);
+        Tracer tracer = tracer(exporter);
+
+        Span slow = tracer.spanBuilder("slow request").startSpan();
+        try (Scope scope = slow.makeCurrent()) {
+            Span child = tracer.spanBuilder("db query").startSpan();
+            Thread.sleep(20);
+            child.end();
+        } finally {
+            slow.end();
+        }
+        tracer.spanBuilder("fast request").startSpan().end();
+
+        // Act
+        List<InMemorySpanExporter.TraceSummary> traces = exporter.traces();
+        List<SpanRecord> slowTrace = exporter.trace(slow.getSpanContext().getTraceId());
+
+        // Assert
+        assertEquals(2, traces.size());
+        assertEquals("slow request", traces.get(0).rootName());
+        assertEquals(2, traces.get(0).spanCount());
+        assertEquals(List.of("slow request", "db query"), slowTrace.stream().map(SpanRecord::name).toList());
+        assertEquals(slowTrace.get(0).spanId(), slowTrace.get(1).parentSpanId());
+        assertNull(slowTrace.get(0).parentSpanId());
+    }
+
+    @Test
+    void export_DropsOldestSpansBeyondCapacity() {
+        // Arrange
+        InMemorySpanExporter exporter = new InMemorySpanExporter(2);
+        Tracer tracer = tracer(exporter);
+
+        // Act
+        tracer.spanBuilder("first").startSpan().end();
+        tracer.spanBuilder("second").startSpan().end();
+        tracer.spanBuilder("third").startSpan().end();
+
+        // Assert
+        assertEquals(List.of("second", "third"), exporter.spans().stream().map(SpanRecord::name).toList());
+    }
+
+    private static Tracer tracer(InMemorySpanExporter exporter) {
+        return SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build()
+                .get("test");
+    }
+}